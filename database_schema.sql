@@ -1,5 +1,7 @@
 -- Matisense Community Report System Database Schema (MySQL/MariaDB)
 -- This script creates all necessary tables and inserts default data
+-- It is applied once as schema version 1 (see SchemaMigrator); later schema
+-- changes ship as incremental migrations recorded in the schema_version table
 
 -- Use the matisense_community database
 USE matisense_community;
@@ -1,5 +1,9 @@
 package com.matisense;
 
+import com.matisense.config.DatabaseConfig;
+import com.matisense.service.MaintenanceService;
+import com.matisense.service.NotificationDispatcher;
+import com.matisense.ui.EdtWatchdog;
 import com.matisense.ui.LoadingDialog;
 import com.matisense.ui.LoginForm;
 
@@ -27,6 +31,21 @@ public class MainApplication {
                     "UI Error", JOptionPane.WARNING_MESSAGE);
         }
 
+        // Deliver queued notifications in the background
+        NotificationDispatcher.getInstance().start();
+        // Periodically correct drift in the maintained counters
+        MaintenanceService.getInstance().start();
+        // Record stalls of the event dispatch thread for the admin diagnostics view
+        EdtWatchdog.getInstance().start();
+
+        // Stop the background services, then release pooled database connections when the JVM exits
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            EdtWatchdog.getInstance().stop();
+            MaintenanceService.getInstance().stop();
+            NotificationDispatcher.getInstance().stop();
+            DatabaseConfig.getInstance().closeConnection();
+        }, "matisense-shutdown"));
+
         // Start the application on the Event Dispatch Thread
         SwingUtilities.invokeLater(() -> {
             final LoadingDialog loadingDialog = new LoadingDialog(null, "Initializing system...");
@@ -0,0 +1,36 @@
+package com.matisense.config;
+
+/**
+ * Snapshot of one borrowed pool connection, for diagnosing a stalled thread
+ * The duration runs from the moment the connection was borrowed, which for the DAOs in this
+ * project is the start of the DAO call.
+ */
+public class ActiveQuery {
+    private final Thread thread;
+    private final String sql;
+    private final long heldMillis;
+
+    /**
+     * Constructor
+     * @param thread Thread that borrowed the connection
+     * @param sql Last statement prepared on the connection, or null if none yet
+     * @param heldMillis Time the connection has been borrowed
+     */
+    public ActiveQuery(Thread thread, String sql, long heldMillis) {
+        this.thread = thread;
+        this.sql = sql;
+        this.heldMillis = heldMillis;
+    }
+
+    public Thread getThread() {
+        return thread;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long getHeldMillis() {
+        return heldMillis;
+    }
+}
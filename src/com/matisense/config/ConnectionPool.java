@@ -0,0 +1,486 @@
+package com.matisense.config;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * Bounded JDBC connection pool for MySQL
+ * Hands out logical connections whose close() returns the physical connection to the pool
+ * Each physical connection keeps an LRU cache of prepared statements
+ * Statements created inside a QueryCancellation scope are registered with it so they can be cancelled
+ * Borrowed connections can be listed with getActiveQueries() to see which thread is waiting on which statement
+ */
+public class ConnectionPool implements DataSource {
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int minSize;
+    private final int maxSize;
+    private final long borrowTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final long leakThresholdMillis;
+    private final int validationTimeoutSeconds;
+    private final int statementCacheSize;
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+
+    private final LinkedBlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> borrowedConnections = ConcurrentHashMap.newKeySet();
+    private final Semaphore permits;
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+    private int loginTimeout;
+
+    /**
+     * Physical connection plus the bookkeeping the pool needs for it
+     */
+    private static class PooledConnection {
+        private final Connection physical;
+        private final StatementCache statementCache;
+        private volatile long lastReturnedAt;
+        private volatile long borrowedAt;
+        private volatile Throwable borrowSite;
+        private volatile Thread borrower;
+        private volatile String lastSql;
+        private volatile boolean leakReported;
+
+        private PooledConnection(Connection physical, StatementCache statementCache) {
+            this.physical = physical;
+            this.statementCache = statementCache;
+            this.lastReturnedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Constructor
+     * @param url JDBC URL
+     * @param user Database user
+     * @param password Database password
+     * @param minSize Connections kept open even when idle
+     * @param maxSize Upper bound on open connections
+     * @param borrowTimeoutMillis How long getConnection() waits for a free connection
+     * @param idleTimeoutMillis Idle time after which connections above minSize are closed
+     * @param leakThresholdMillis Borrow time after which a connection is reported as leaked (0 disables)
+     * @param validationTimeoutSeconds Timeout for the validation check on borrow
+     * @param statementCacheSize Prepared statements cached per connection (0 disables)
+     */
+    public ConnectionPool(String url, String user, String password, int minSize, int maxSize,
+                          long borrowTimeoutMillis, long idleTimeoutMillis, long leakThresholdMillis,
+                          int validationTimeoutSeconds, int statementCacheSize) {
+        if (minSize < 0 || maxSize <= 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid pool size: min=" + minSize + ", max=" + maxSize);
+        }
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.leakThresholdMillis = leakThresholdMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "matisense-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long period = Math.max(1000L, Math.min(idleTimeoutMillis, 30_000L));
+        housekeeper.scheduleWithFixedDelay(this::runHousekeeping, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Open the minimum number of connections up front
+     * @throws SQLException if a connection cannot be opened
+     */
+    public void warmUp() throws SQLException {
+        while (!closed && totalConnections() < minSize) {
+            idleConnections.offerLast(openPooledConnection());
+        }
+    }
+
+    /**
+     * Borrow a connection from the pool
+     * @return Logical connection; closing it returns it to the pool
+     * @throws SQLException if the pool is closed, exhausted, or a connection cannot be opened
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out after " + borrowTimeoutMillis
+                        + " ms waiting for a database connection (pool size " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            PooledConnection pooled = takeValidConnection();
+            pooled.borrowedAt = System.currentTimeMillis();
+            pooled.borrowSite = leakThresholdMillis > 0 ? new Throwable("Connection borrowed here") : null;
+            pooled.leakReported = false;
+            pooled.borrower = Thread.currentThread();
+            pooled.lastSql = null;
+            borrowedConnections.add(pooled);
+            return createLogicalConnection(pooled);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pool credentials are fixed at construction");
+    }
+
+    /**
+     * Take an idle connection that passes validation, or open a new one
+     */
+    private PooledConnection takeValidConnection() throws SQLException {
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            if (isUsable(pooled)) {
+                return pooled;
+            }
+            closeQuietly(pooled);
+        }
+        return openPooledConnection();
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        try {
+            return !pooled.physical.isClosed() && pooled.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private PooledConnection openPooledConnection() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, user, password);
+        StatementCache cache = statementCacheSize > 0
+                ? new StatementCache(physical, statementCacheSize, statementCacheHits, statementCacheMisses)
+                : null;
+        return new PooledConnection(physical, cache);
+    }
+
+    /**
+     * Wrap a pooled connection in a proxy that intercepts close()
+     */
+    private Connection createLogicalConnection(PooledConnection pooled) {
+        InvocationHandler handler = new InvocationHandler() {
+            private boolean logicallyClosed;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close":
+                        if (!logicallyClosed) {
+                            logicallyClosed = true;
+                            release(pooled);
+                        }
+                        return null;
+                    case "isClosed":
+                        return logicallyClosed || pooled.physical.isClosed();
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "PooledConnection[" + pooled.physical + "]";
+                    default:
+                        break;
+                }
+                if (logicallyClosed) {
+                    throw new SQLException("Connection has already been returned to the pool");
+                }
+                boolean createsStatement = isStatementFactory(method.getName());
+                if (createsStatement) {
+                    QueryCancellation.checkCurrent();
+                    if (args != null && args.length > 0 && args[0] instanceof String) {
+                        pooled.lastSql = (String) args[0];
+                    }
+                }
+                Object result = invokePhysical(method, args);
+                if (createsStatement) {
+                    QueryCancellation.register((Statement) result);
+                }
+                return result;
+            }
+
+            private Object invokePhysical(Method method, Object[] args) throws Throwable {
+                if (pooled.statementCache != null && "prepareStatement".equals(method.getName())) {
+                    if (args.length == 1) {
+                        return pooled.statementCache.prepare((String) args[0], Statement.NO_GENERATED_KEYS);
+                    }
+                    if (args.length == 2 && method.getParameterTypes()[1] == int.class) {
+                        return pooled.statementCache.prepare((String) args[0], (Integer) args[1]);
+                    }
+                }
+                try {
+                    return method.invoke(pooled.physical, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, handler);
+    }
+
+    /**
+     * Check if a Connection method creates a statement that QueryCancellation should track
+     */
+    private static boolean isStatementFactory(String methodName) {
+        return "prepareStatement".equals(methodName) || "createStatement".equals(methodName)
+                || "prepareCall".equals(methodName);
+    }
+
+    /**
+     * Return a connection to the pool, resetting any state the borrower changed
+     */
+    private void release(PooledConnection pooled) {
+        borrowedConnections.remove(pooled);
+        pooled.borrower = null;
+        pooled.lastSql = null;
+        if (pooled.statementCache != null) {
+            pooled.statementCache.releaseAbandoned();
+        }
+        try {
+            boolean reusable = !closed && !pooled.physical.isClosed();
+            if (reusable) {
+                try {
+                    if (!pooled.physical.getAutoCommit()) {
+                        pooled.physical.rollback();
+                        pooled.physical.setAutoCommit(true);
+                    }
+                    pooled.physical.clearWarnings();
+                } catch (SQLException e) {
+                    reusable = false;
+                }
+            }
+
+            if (reusable) {
+                pooled.lastReturnedAt = System.currentTimeMillis();
+                pooled.borrowSite = null;
+                // Most recently used first so rarely needed connections age out at the tail
+                idleConnections.offerFirst(pooled);
+            } else {
+                closeQuietly(pooled);
+            }
+        } catch (SQLException e) {
+            closeQuietly(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Evict idle connections, top up to the minimum size and report leaks
+     */
+    private void runHousekeeping() {
+        try {
+            long now = System.currentTimeMillis();
+
+            Iterator<PooledConnection> oldestFirst = idleConnections.descendingIterator();
+            while (oldestFirst.hasNext() && totalConnections() > minSize) {
+                PooledConnection pooled = oldestFirst.next();
+                if (now - pooled.lastReturnedAt >= idleTimeoutMillis && idleConnections.remove(pooled)) {
+                    closeQuietly(pooled);
+                }
+            }
+
+            if (!closed) {
+                try {
+                    warmUp();
+                } catch (SQLException e) {
+                    System.err.println("Error replenishing connection pool: " + e.getMessage());
+                }
+            }
+
+            if (leakThresholdMillis > 0) {
+                for (PooledConnection pooled : borrowedConnections) {
+                    if (!pooled.leakReported && now - pooled.borrowedAt >= leakThresholdMillis) {
+                        pooled.leakReported = true;
+                        System.err.println("Possible connection leak: connection held for "
+                                + (now - pooled.borrowedAt) + " ms");
+                        if (pooled.borrowSite != null) {
+                            pooled.borrowSite.printStackTrace();
+                        }
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Error during connection pool housekeeping: " + e.getMessage());
+        }
+    }
+
+    private int totalConnections() {
+        return idleConnections.size() + borrowedConnections.size();
+    }
+
+    private void closeQuietly(PooledConnection pooled) {
+        if (pooled.statementCache != null) {
+            pooled.statementCache.closeAll();
+        }
+        try {
+            pooled.physical.close();
+        } catch (SQLException ignore) {
+        }
+    }
+
+    /**
+     * Get number of idle connections
+     * @return Idle connection count
+     */
+    public int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    /**
+     * Get number of borrowed connections
+     * @return Borrowed connection count
+     */
+    public int getActiveCount() {
+        return borrowedConnections.size();
+    }
+
+    /**
+     * Get the connections currently borrowed, longest held first
+     * @return Borrowing thread, last prepared SQL and hold time of each borrowed connection
+     */
+    public List<ActiveQuery> getActiveQueries() {
+        long now = System.currentTimeMillis();
+        List<ActiveQuery> queries = new ArrayList<>();
+        for (PooledConnection pooled : borrowedConnections) {
+            Thread borrower = pooled.borrower;
+            // Skip a connection released while we were looking at it
+            if (borrower != null) {
+                queries.add(new ActiveQuery(borrower, pooled.lastSql, now - pooled.borrowedAt));
+            }
+        }
+        queries.sort((a, b) -> Long.compare(b.getHeldMillis(), a.getHeldMillis()));
+        return queries;
+    }
+
+    /**
+     * Get prepared statement cache hits across all connections
+     * @return Hit count
+     */
+    public long getStatementCacheHits() {
+        return statementCacheHits.get();
+    }
+    
+    /**
+     * Get prepared statement cache misses across all connections
+     * @return Miss count
+     */
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.get();
+    }
+    
+    /**
+     * Describe the statement cache of every idle connection
+     * @return One line per connection with size, hits and misses
+     */
+    public String describeStatementCaches() {
+        StringBuilder summary = new StringBuilder();
+        int index = 0;
+        for (PooledConnection pooled : idleConnections) {
+            if (pooled.statementCache != null) {
+                summary.append(String.format("Connection %d: %d cached, %d hits, %d misses%n",
+                        ++index, pooled.statementCache.size(),
+                        pooled.statementCache.getHits(), pooled.statementCache.getMisses()));
+            }
+        }
+        return summary.toString();
+    }
+    
+    /**
+     * Close all idle connections and stop accepting new borrowers.
+     * Borrowed connections are closed when they are returned.
+     */
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            closeQuietly(pooled);
+        }
+    }
+
+    /**
+     * Check if the pool has been closed
+     * @return true if closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return DriverManager.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        DriverManager.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        this.loginTimeout = seconds;
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return loginTimeout;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("java.util.logging is not used by this pool");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+}
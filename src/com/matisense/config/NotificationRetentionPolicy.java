@@ -0,0 +1,116 @@
+package com.matisense.config;
+
+import java.time.LocalDateTime;
+
+/**
+ * Retention rules for the notifications table and the outbox dead letters
+ * Read notifications are deleted after readRetentionDays; unread ones are moved to
+ * notifications_archive after unreadArchiveDays. Outbox events the dispatcher gave up on are
+ * deleted deadLetterRetentionDays after that. A value of 0 disables that rule.
+ * Values can be overridden with -Dmatisense.retention.* system properties.
+ */
+public class NotificationRetentionPolicy {
+    private static final int DEFAULT_READ_RETENTION_DAYS = 90;
+    private static final int DEFAULT_UNREAD_ARCHIVE_DAYS = 365;
+    private static final int DEFAULT_DEAD_LETTER_RETENTION_DAYS = 30;
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+    private static final long DEFAULT_PAUSE_MILLIS = 250L;
+
+    private final int readRetentionDays;
+    private final int unreadArchiveDays;
+    private final int deadLetterRetentionDays;
+    private final int chunkSize;
+    private final long pauseMillis;
+
+    /**
+     * Constructor
+     * @param readRetentionDays Days to keep read notifications; 0 keeps them forever
+     * @param unreadArchiveDays Days before unread notifications are archived; 0 never archives
+     * @param deadLetterRetentionDays Days to keep outbox dead letters; 0 keeps them forever
+     * @param chunkSize Rows removed per transaction
+     * @param pauseMillis Pause between chunks so the job yields to normal traffic
+     */
+    public NotificationRetentionPolicy(int readRetentionDays, int unreadArchiveDays, int deadLetterRetentionDays,
+            int chunkSize, long pauseMillis) {
+        if (readRetentionDays < 0 || unreadArchiveDays < 0 || deadLetterRetentionDays < 0) {
+            throw new IllegalArgumentException("Retention days cannot be negative");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Retention chunk size must be positive");
+        }
+        if (pauseMillis < 0) {
+            throw new IllegalArgumentException("Retention pause cannot be negative");
+        }
+        this.readRetentionDays = readRetentionDays;
+        this.unreadArchiveDays = unreadArchiveDays;
+        this.deadLetterRetentionDays = deadLetterRetentionDays;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    /**
+     * Get the policy from system properties, falling back to the defaults
+     * @return Retention policy
+     */
+    public static NotificationRetentionPolicy fromSystemProperties() {
+        return new NotificationRetentionPolicy(
+                Integer.getInteger("matisense.retention.readDays", DEFAULT_READ_RETENTION_DAYS),
+                Integer.getInteger("matisense.retention.unreadArchiveDays", DEFAULT_UNREAD_ARCHIVE_DAYS),
+                Integer.getInteger("matisense.retention.deadLetterDays", DEFAULT_DEAD_LETTER_RETENTION_DAYS),
+                Integer.getInteger("matisense.retention.chunkSize", DEFAULT_CHUNK_SIZE),
+                Long.getLong("matisense.retention.pauseMillis", DEFAULT_PAUSE_MILLIS));
+    }
+
+    /**
+     * Get the cutoff for deleting read notifications
+     * @param now Current time
+     * @return Read notifications created before this are deleted, or null if the rule is disabled
+     */
+    public LocalDateTime readCutoff(LocalDateTime now) {
+        return readRetentionDays > 0 ? now.minusDays(readRetentionDays) : null;
+    }
+
+    /**
+     * Get the cutoff for archiving unread notifications
+     * @param now Current time
+     * @return Unread notifications created before this are archived, or null if the rule is disabled
+     */
+    public LocalDateTime unreadCutoff(LocalDateTime now) {
+        return unreadArchiveDays > 0 ? now.minusDays(unreadArchiveDays) : null;
+    }
+
+    /**
+     * Get the cutoff for deleting outbox dead letters
+     * @param now Current time
+     * @return Dead letters given up on before this are deleted, or null if the rule is disabled
+     */
+    public LocalDateTime deadLetterCutoff(LocalDateTime now) {
+        return deadLetterRetentionDays > 0 ? now.minusDays(deadLetterRetentionDays) : null;
+    }
+
+    public int getReadRetentionDays() {
+        return readRetentionDays;
+    }
+
+    public int getUnreadArchiveDays() {
+        return unreadArchiveDays;
+    }
+
+    public int getDeadLetterRetentionDays() {
+        return deadLetterRetentionDays;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public long getPauseMillis() {
+        return pauseMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationRetentionPolicy[readDays=" + readRetentionDays + ", unreadArchiveDays="
+                + unreadArchiveDays + ", deadLetterDays=" + deadLetterRetentionDays + ", chunkSize=" + chunkSize + ", pauseMillis=" + pauseMillis + "]";
+    }
+}
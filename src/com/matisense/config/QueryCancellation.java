@@ -0,0 +1,122 @@
+package com.matisense.config;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cancellation scope for the database work of one background task
+ * While a task runs inside a scope, every statement its thread creates on a pooled
+ * connection is registered with the scope. cancel() then calls Statement.cancel() on them,
+ * which makes the server abort a running query, and later statements fail before they reach
+ * the server. DAOs need no changes; the connection pool does the registering, and cached
+ * statements are unregistered again when the DAO closes them.
+ */
+public class QueryCancellation {
+    private static final ThreadLocal<QueryCancellation> CURRENT = new ThreadLocal<>();
+
+    private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+
+    /**
+     * Run a task with this scope as the current thread's scope
+     * @param task Task that may use the database
+     * @param <T> Result type
+     * @return Task result
+     * @throws Exception whatever the task throws
+     */
+    public <T> T callWithin(Callable<T> task) throws Exception {
+        QueryCancellation previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return task.call();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+            statements.clear();
+        }
+    }
+
+    /**
+     * Cancel the scope's running statements and refuse new ones; safe from any thread
+     */
+    public void cancel() {
+        cancelled = true;
+        for (Statement statement : statements) {
+            try {
+                // Does nothing if the statement is not executing
+                if (!statement.isClosed()) {
+                    statement.cancel();
+                }
+            } catch (SQLException e) {
+                // The DAO may close the statement while this runs; that needs no cancelling
+                if (!isClosedQuietly(statement)) {
+                    System.err.println("Error cancelling statement: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static boolean isClosedQuietly(Statement statement) {
+        try {
+            return statement.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Check if the scope has been cancelled
+     * @return true after cancel()
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Fail fast if the current thread's scope has been cancelled; called before a statement is created
+     * @throws SQLException if the scope is cancelled
+     */
+    static void checkCurrent() throws SQLException {
+        QueryCancellation scope = CURRENT.get();
+        if (scope != null && scope.cancelled) {
+            throw new SQLException("Query cancelled");
+        }
+    }
+
+    /**
+     * Register a statement created by the current thread with its scope, if it has one
+     * @param statement New statement
+     */
+    static void register(Statement statement) {
+        QueryCancellation scope = CURRENT.get();
+        if (scope != null) {
+            scope.statements.add(statement);
+            // cancel() may have run between checkCurrent() and the add
+            if (scope.cancelled) {
+                try {
+                    statement.cancel();
+                } catch (SQLException ignore) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove a statement the current thread has closed from its scope
+     * A cached statement returns to the cache on close and may be handed to another task, so
+     * it must not be cancelled on behalf of this one.
+     * @param statement Closed statement
+     */
+    static void unregister(Statement statement) {
+        QueryCancellation scope = CURRENT.get();
+        if (scope != null) {
+            scope.statements.remove(statement);
+        }
+    }
+}
@@ -0,0 +1,463 @@
+package com.matisense.config;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Versioned schema migrations for MySQL/MariaDB
+ * Applies ordered migration scripts once and records each applied version in schema_version.
+ * Scripts must be safe to re-run (IF NOT EXISTS / INSERT IGNORE) because MySQL commits DDL
+ * implicitly, so a migration that fails halfway is retried from the start on the next launch.
+ * MySQL has no IF [NOT] EXISTS for indexes, so index DDL is run plain and an index that
+ * already exists (or is already gone) counts as applied; the MariaDB-only clause is also
+ * accepted and stripped, as the baseline schema file uses it.
+ */
+public class SchemaMigrator {
+    private static final String VERSION_TABLE = "schema_version";
+    private static final String MIGRATION_LOCK = "matisense_schema_migration";
+    private static final int MIGRATION_LOCK_TIMEOUT_SECONDS = 60;
+    // MySQL error code / SQL state for "table doesn't exist"
+    private static final int ER_NO_SUCH_TABLE = 1146;
+    private static final String SQLSTATE_NO_SUCH_TABLE = "42S02";
+    // MySQL error codes for "duplicate key name" and "can't drop field or key"
+    private static final int ER_DUP_KEYNAME = 1061;
+    private static final int ER_CANT_DROP_FIELD_OR_KEY = 1091;
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "^(CREATE\\s+(?:UNIQUE\\s+|FULLTEXT\\s+)?INDEX)\\s+IF\\s+NOT\\s+EXISTS\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DROP_INDEX = Pattern.compile(
+            "^(DROP\\s+INDEX)\\s+IF\\s+EXISTS\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INDEX_DDL = Pattern.compile(
+            "^(?:CREATE\\s+(?:UNIQUE\\s+|FULLTEXT\\s+)?|DROP\\s+)INDEX\\b", Pattern.CASE_INSENSITIVE);
+
+    // V2: (created_at, id) indexes matching the ORDER BY of the paged list queries
+    private static final String KEYSET_PAGINATION_INDEXES = """
+            CREATE INDEX idx_reports_created_id ON reports(created_at, report_id);
+            CREATE INDEX idx_announcements_created_id ON announcements(created_at, announcement_id);
+            CREATE INDEX idx_notifications_user_created_id
+                ON notifications(user_id, created_at, notification_id);
+            """;
+
+    // V3: events written with a report/announcement change and drained by NotificationDispatcher
+    private static final String NOTIFICATION_OUTBOX = """
+            CREATE TABLE IF NOT EXISTS notification_outbox (
+                outbox_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                event_type VARCHAR(30) NOT NULL,
+                entity_id INT NOT NULL,
+                old_status VARCHAR(20),
+                new_status VARCHAR(20),
+                attempts INT NOT NULL DEFAULT 0,
+                available_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                claim_token VARCHAR(64),
+                claimed_until TIMESTAMP NULL,
+                last_error VARCHAR(500),
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            );
+            CREATE INDEX idx_outbox_available ON notification_outbox(available_at, outbox_id);
+            CREATE INDEX idx_outbox_claim_token ON notification_outbox(claim_token);
+            """;
+
+    // V4: per-status report counts kept current by ReportDAO; seeded from existing rows
+    private static final String REPORT_STATUS_COUNTS = """
+            CREATE TABLE IF NOT EXISTS report_status_counts (
+                status VARCHAR(20) PRIMARY KEY,
+                report_count INT NOT NULL DEFAULT 0
+            );
+            DELETE FROM report_status_counts;
+            INSERT INTO report_status_counts (status, report_count)
+                SELECT COALESCE(status, 'Pending'), COUNT(*) FROM reports GROUP BY COALESCE(status, 'Pending');
+            """;
+
+    // V5: range scans on updated_at for ReportDAO.findChangedSince
+    private static final String REPORT_CHANGE_INDEXES = """
+            CREATE INDEX idx_reports_updated_id ON reports(updated_at, report_id);
+            CREATE INDEX idx_reports_resident_updated ON reports(resident_id, updated_at);
+            """;
+
+    // V6: unread notifications per user kept current by NotificationDAO; seeded from existing rows
+    private static final String NOTIFICATION_COUNTERS = """
+            CREATE TABLE IF NOT EXISTS notification_counters (
+                user_id INT PRIMARY KEY,
+                unread_count INT NOT NULL DEFAULT 0,
+                FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+            );
+            DELETE FROM notification_counters;
+            INSERT INTO notification_counters (user_id, unread_count)
+                SELECT user_id, COUNT(*) FROM notifications WHERE is_read = false GROUP BY user_id;
+            CREATE INDEX idx_notifications_user_read ON notifications(user_id, is_read);
+            """;
+
+    // V7: archive for expired unread notifications; (is_read, created_at) drives the retention job
+    // and supersedes the single-column is_read index
+    private static final String NOTIFICATION_RETENTION = """
+            CREATE TABLE IF NOT EXISTS notifications_archive (
+                notification_id INT PRIMARY KEY,
+                user_id INT NOT NULL,
+                title VARCHAR(200) NOT NULL,
+                message TEXT NOT NULL,
+                notification_type VARCHAR(20) NOT NULL,
+                related_id INT,
+                is_read BOOLEAN DEFAULT FALSE,
+                created_at TIMESTAMP NULL,
+                updated_at TIMESTAMP NULL,
+                archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+            );
+            CREATE INDEX idx_notifications_archive_user_created
+                ON notifications_archive(user_id, created_at);
+            CREATE INDEX idx_notifications_read_created_id
+                ON notifications(is_read, created_at, notification_id);
+            DROP INDEX idx_notifications_is_read ON notifications;
+            """;
+
+    // V8: full-text search for ReportDAO.search and AnnouncementDAO.search
+    private static final String FULLTEXT_SEARCH_INDEXES = """
+            CREATE FULLTEXT INDEX ft_reports_text ON reports(description, location, report_type);
+            CREATE FULLTEXT INDEX ft_announcements_text ON announcements(title, content);
+            """;
+
+    // V9: report_type sort key for paged report lists (ReportSortKey.TYPE)
+    private static final String REPORT_SORT_INDEXES = """
+            CREATE INDEX idx_reports_type_id ON reports(report_type, report_id);
+            """;
+
+    // V10: filter column followed by created_at, so ReportQuery filters with a date range or the
+    // default newest-first order are index range scans; the resident one supersedes the baseline
+    // single-column resident index
+    private static final String REPORT_FILTER_INDEXES = """
+            CREATE INDEX idx_reports_status_created ON reports(status, created_at, report_id);
+            CREATE INDEX idx_reports_type_created ON reports(report_type, created_at, report_id);
+            CREATE INDEX idx_reports_resident_created ON reports(resident_id, created_at, report_id);
+            DROP INDEX idx_reports_resident_id ON reports;
+            """;
+
+    // V11: outbox events NotificationDispatcher gave up on, kept for inspection until
+    // MaintenanceService purges them
+    private static final String OUTBOX_DEAD_LETTER = """
+            CREATE TABLE IF NOT EXISTS notification_outbox_dead_letter (
+                outbox_id BIGINT PRIMARY KEY,
+                event_type VARCHAR(30) NOT NULL,
+                entity_id INT NOT NULL,
+                old_status VARCHAR(20),
+                new_status VARCHAR(20),
+                attempts INT NOT NULL,
+                last_error VARCHAR(500),
+                created_at TIMESTAMP NULL,
+                dead_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            );
+            CREATE INDEX idx_outbox_dead_letter_dead_at ON notification_outbox_dead_letter(dead_at);
+            """;
+
+    private final List<Migration> migrations;
+
+    /**
+     * A single schema change with a unique, increasing version number
+     */
+    private static class Migration {
+        private final int version;
+        private final String description;
+        private final Supplier<String> script;
+
+        private Migration(int version, String description, Supplier<String> script) {
+            this.version = version;
+            this.description = description;
+            this.script = script;
+        }
+    }
+
+    /**
+     * Constructor
+     */
+    public SchemaMigrator() {
+        this.migrations = buildMigrations();
+    }
+
+    /**
+     * Ordered list of migrations. Append new versions at the end; never edit a released one.
+     * @return Migrations in version order
+     */
+    private List<Migration> buildMigrations() {
+        List<Migration> list = new ArrayList<>();
+        list.add(new Migration(1, "Baseline schema", this::readSchemaFromFile));
+        list.add(new Migration(2, "Composite indexes for keyset pagination", () -> KEYSET_PAGINATION_INDEXES));
+        list.add(new Migration(3, "Notification outbox", () -> NOTIFICATION_OUTBOX));
+        list.add(new Migration(4, "Report status counters", () -> REPORT_STATUS_COUNTS));
+        list.add(new Migration(5, "Indexes for incremental report refresh", () -> REPORT_CHANGE_INDEXES));
+        list.add(new Migration(6, "Unread notification counters", () -> NOTIFICATION_COUNTERS));
+        list.add(new Migration(7, "Notification archive and retention index", () -> NOTIFICATION_RETENTION));
+        list.add(new Migration(8, "Full-text search indexes", () -> FULLTEXT_SEARCH_INDEXES));
+        list.add(new Migration(9, "Report type sort index", () -> REPORT_SORT_INDEXES));
+        list.add(new Migration(10, "Report filter indexes", () -> REPORT_FILTER_INDEXES));
+        list.add(new Migration(11, "Notification outbox dead letters", () -> OUTBOX_DEAD_LETTER));
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Get the newest version this build knows about
+     * @return Latest migration version
+     */
+    public int getLatestVersion() {
+        return migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).version;
+    }
+
+    /**
+     * Apply all pending migrations
+     * @param conn Connection to migrate with
+     * @throws SQLException if a migration fails
+     */
+    public void migrate(Connection conn) throws SQLException {
+        int latest = getLatestVersion();
+        if (readCurrentVersion(conn) >= latest) {
+            return;
+        }
+
+        // Serialize migrations between application instances sharing the database
+        acquireLock(conn);
+        try {
+            createVersionTable(conn);
+            int current = readCurrentVersion(conn);
+            for (Migration migration : migrations) {
+                if (migration.version > current) {
+                    apply(conn, migration);
+                }
+            }
+        } finally {
+            releaseLock(conn);
+        }
+    }
+
+    /**
+     * Read the highest applied version
+     * @return Applied version, or 0 if the version table does not exist yet
+     */
+    private int readCurrentVersion(Connection conn) throws SQLException {
+        String sql = "SELECT COALESCE(MAX(version), 0) FROM " + VERSION_TABLE;
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            if (e.getErrorCode() == ER_NO_SUCH_TABLE || SQLSTATE_NO_SUCH_TABLE.equals(e.getSQLState())) {
+                return 0;
+            }
+            throw e;
+        }
+    }
+
+    private void createVersionTable(Connection conn) throws SQLException {
+        String sql = "CREATE TABLE IF NOT EXISTS " + VERSION_TABLE + " (" +
+                    "version INT PRIMARY KEY, " +
+                    "description VARCHAR(200) NOT NULL, " +
+                    "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)";
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private void acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            pstmt.setString(1, MIGRATION_LOCK);
+            pstmt.setInt(2, MIGRATION_LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("Timed out waiting for the schema migration lock");
+                }
+            }
+        }
+    }
+
+    private void releaseLock(Connection conn) {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            pstmt.setString(1, MIGRATION_LOCK);
+            pstmt.executeQuery().close();
+        } catch (SQLException e) {
+            System.err.println("Error releasing schema migration lock: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Run one migration and record it
+     */
+    private void apply(Connection conn, Migration migration) throws SQLException {
+        String script = migration.script.get();
+        try {
+            if (script != null && !script.isEmpty()) {
+                executeSchemaStatements(conn, script);
+            }
+        } catch (SQLException e) {
+            throw new SQLException("Schema migration V" + migration.version + " (" + migration.description
+                    + ") failed: " + e.getMessage(), e.getSQLState(), e.getErrorCode(), e);
+        }
+
+        String sql = "INSERT INTO " + VERSION_TABLE + " (version, description) VALUES (?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, migration.version);
+            pstmt.setString(2, migration.description);
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Read the baseline schema from the SQL file
+     * @return Schema SQL string
+     */
+    private String readSchemaFromFile() {
+        StringBuilder schema = new StringBuilder();
+        try (InputStream is = openSchemaInputStream()) {
+            if (is == null) {
+                return getBasicSchema();
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(is))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("--")) {
+                        continue;
+                    }
+                    schema.append(line).append("\n");
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Error reading schema file: " + e.getMessage());
+            return getBasicSchema();
+        }
+        return schema.toString();
+    }
+
+    private InputStream openSchemaInputStream() {
+        InputStream is = getClass().getClassLoader().getResourceAsStream("database_schema.sql");
+        if (is != null) {
+            return is;
+        }
+        try {
+            Path schemaPath = Paths.get("database_schema.sql");
+            if (Files.exists(schemaPath)) {
+                return new FileInputStream(schemaPath.toFile());
+            }
+        } catch (Exception ignore) {
+        }
+        return null;
+    }
+
+    /**
+     * Execute schema statements sequentially to support MySQL strict mode.
+     */
+    private void executeSchemaStatements(Connection conn, String schema) throws SQLException {
+        String[] statements = schema.split(";");
+        try (Statement stmt = conn.createStatement()) {
+            for (String rawStatement : statements) {
+                String sql = stripComments(rawStatement).trim();
+                if (sql.isEmpty()) {
+                    continue;
+                }
+                executeStatement(stmt, sql);
+            }
+        }
+    }
+
+    /**
+     * Execute one statement; index DDL that has already taken effect is skipped
+     */
+    private void executeStatement(Statement stmt, String sql) throws SQLException {
+        if (!INDEX_DDL.matcher(sql).find()) {
+            stmt.execute(sql);
+            return;
+        }
+        String plainSql = DROP_INDEX.matcher(CREATE_INDEX.matcher(sql).replaceFirst("$1")).replaceFirst("$1");
+        try {
+            stmt.execute(plainSql);
+        } catch (SQLException e) {
+            boolean creating = plainSql.regionMatches(true, 0, "CREATE", 0, 6);
+            int alreadyApplied = creating ? ER_DUP_KEYNAME : ER_CANT_DROP_FIELD_OR_KEY;
+            if (e.getErrorCode() != alreadyApplied) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Drop "--" comment lines so inline migration scripts can be documented
+     */
+    private String stripComments(String statement) {
+        StringBuilder sql = new StringBuilder();
+        for (String line : statement.split("\n")) {
+            if (!line.trim().startsWith("--")) {
+                sql.append(line).append("\n");
+            }
+        }
+        return sql.toString();
+    }
+    
+    /**
+     * Get basic database schema as fallback for MySQL/MariaDB
+     * @return Basic schema SQL
+     */
+    private String getBasicSchema() {
+        return """
+            CREATE TABLE IF NOT EXISTS users (
+                user_id INT AUTO_INCREMENT PRIMARY KEY,
+                username VARCHAR(50) UNIQUE NOT NULL,
+                password VARCHAR(255) NOT NULL,
+                full_name VARCHAR(100) NOT NULL,
+                address TEXT NOT NULL,
+                gender VARCHAR(10),
+                email VARCHAR(100) UNIQUE NOT NULL,
+                contact_number VARCHAR(20),
+                birthday DATE,
+                user_role VARCHAR(20) NOT NULL DEFAULT 'Resident',
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            );
+            
+            CREATE TABLE IF NOT EXISTS reports (
+                report_id INT AUTO_INCREMENT PRIMARY KEY,
+                resident_id INT NOT NULL,
+                report_type VARCHAR(50) NOT NULL,
+                location TEXT NOT NULL,
+                description TEXT NOT NULL,
+                status VARCHAR(20) DEFAULT 'Pending',
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                FOREIGN KEY (resident_id) REFERENCES users(user_id) ON DELETE CASCADE
+            );
+            
+            CREATE TABLE IF NOT EXISTS announcements (
+                announcement_id INT AUTO_INCREMENT PRIMARY KEY,
+                admin_id INT NOT NULL,
+                title VARCHAR(200) NOT NULL,
+                content TEXT NOT NULL,
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                FOREIGN KEY (admin_id) REFERENCES users(user_id) ON DELETE CASCADE
+            );
+            
+            CREATE TABLE IF NOT EXISTS notifications (
+                notification_id INT AUTO_INCREMENT PRIMARY KEY,
+                user_id INT NOT NULL,
+                title VARCHAR(200) NOT NULL,
+                message TEXT NOT NULL,
+                notification_type VARCHAR(20) NOT NULL,
+                related_id INT,
+                is_read BOOLEAN DEFAULT FALSE,
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+            );
+            
+            INSERT IGNORE INTO users (username, password, full_name, address, gender, email, contact_number, birthday, user_role)
+            VALUES ('admin', 'adminadmin123', 'System Administrator', 'Admin Office', 'Other', 'admin@matisense.com', '1234567890', '1990-01-01', 'Admin');
+            """;
+    }
+}
@@ -0,0 +1,230 @@
+package com.matisense.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU cache of server-side prepared statements for one physical connection
+ * Statements handed out from the cache are proxies whose close() resets them for reuse
+ * instead of deallocating them on the server.
+ */
+class StatementCache {
+    private final Connection physical;
+    private final int capacity;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong poolHits;
+    private final AtomicLong poolMisses;
+    private long hits;
+    private long misses;
+
+    /**
+     * Cache key: SQL text plus the generated-keys flag it was prepared with
+     */
+    private static class Key {
+        private final String sql;
+        private final int autoGeneratedKeys;
+
+        private Key(String sql, int autoGeneratedKeys) {
+            this.sql = sql;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return autoGeneratedKeys == other.autoGeneratedKeys && sql.equals(other.sql);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, autoGeneratedKeys);
+        }
+    }
+
+    private static class Entry {
+        private final PreparedStatement statement;
+        private boolean inUse;
+        private boolean evicted;
+
+        private Entry(PreparedStatement statement) {
+            this.statement = statement;
+        }
+    }
+
+    /**
+     * Constructor
+     * @param physical Physical connection the statements belong to
+     * @param capacity Maximum number of cached statements
+     * @param poolHits Pool-wide hit counter
+     * @param poolMisses Pool-wide miss counter
+     */
+    StatementCache(Connection physical, int capacity, AtomicLong poolHits, AtomicLong poolMisses) {
+        this.physical = physical;
+        this.capacity = capacity;
+        this.poolHits = poolHits;
+        this.poolMisses = poolMisses;
+    }
+
+    /**
+     * Prepare a statement, reusing a cached one when it is free
+     * @param sql SQL text
+     * @param autoGeneratedKeys Statement.RETURN_GENERATED_KEYS / NO_GENERATED_KEYS
+     * @return Prepared statement; closing it returns it to the cache
+     * @throws SQLException if preparation fails
+     */
+    synchronized PreparedStatement prepare(String sql, int autoGeneratedKeys) throws SQLException {
+        Key key = new Key(sql, autoGeneratedKeys);
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.inUse) {
+            hits++;
+            poolHits.incrementAndGet();
+            entry.inUse = true;
+            return wrap(key, entry);
+        }
+
+        misses++;
+        poolMisses.incrementAndGet();
+        PreparedStatement statement = physical.prepareStatement(sql, autoGeneratedKeys);
+        if (entry != null) {
+            // Same SQL already open on this connection (nested use); hand out an uncached one
+            return statement;
+        }
+
+        entry = new Entry(statement);
+        entry.inUse = true;
+        entries.put(key, entry);
+        evictOverflow();
+        return wrap(key, entry);
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Key, Entry>> eldestFirst = entries.entrySet().iterator();
+        while (entries.size() > capacity && eldestFirst.hasNext()) {
+            Entry eldest = eldestFirst.next().getValue();
+            eldestFirst.remove();
+            if (eldest.inUse) {
+                eldest.evicted = true;
+            } else {
+                closeQuietly(eldest.statement);
+            }
+        }
+    }
+
+    /**
+     * Called when the borrower closes a cached statement
+     */
+    private synchronized void checkIn(Key key, Entry entry) {
+        entry.inUse = false;
+        if (entry.evicted) {
+            closeQuietly(entry.statement);
+            return;
+        }
+        try {
+            entry.statement.clearParameters();
+            entry.statement.clearBatch();
+            entry.statement.clearWarnings();
+        } catch (SQLException e) {
+            entries.remove(key, entry);
+            closeQuietly(entry.statement);
+        }
+    }
+
+    /**
+     * Close statements the borrower forgot to close; called when the connection returns to the pool
+     */
+    synchronized void releaseAbandoned() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.inUse) {
+                it.remove();
+                closeQuietly(entry.statement);
+            }
+        }
+    }
+
+    /**
+     * Close every cached statement; called before the physical connection is closed
+     */
+    synchronized void closeAll() {
+        List<Entry> all = new ArrayList<>(entries.values());
+        entries.clear();
+        for (Entry entry : all) {
+            closeQuietly(entry.statement);
+        }
+    }
+
+    synchronized long getHits() {
+        return hits;
+    }
+
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private PreparedStatement wrap(Key key, Entry entry) {
+        InvocationHandler handler = new InvocationHandler() {
+            // Read by QueryCancellation.cancel() on another thread
+            private volatile boolean logicallyClosed;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close":
+                        if (!logicallyClosed) {
+                            logicallyClosed = true;
+                            QueryCancellation.unregister((PreparedStatement) proxy);
+                            checkIn(key, entry);
+                        }
+                        return null;
+                    case "isClosed":
+                        return logicallyClosed || entry.statement.isClosed();
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "CachedStatement[" + key.sql + "]";
+                    default:
+                        break;
+                }
+                if (logicallyClosed) {
+                    throw new SQLException("Statement has already been closed");
+                }
+                try {
+                    return method.invoke(entry.statement, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        };
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, handler);
+    }
+
+    private void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignore) {
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.matisense.dao;
 
 import com.matisense.model.Announcement;
+import com.matisense.model.OutboxEvent;
 import com.matisense.exception.MatisenseException;
 import com.matisense.config.DatabaseConfig;
+import com.matisense.util.EntityCache;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -13,13 +15,20 @@ import java.util.List;
  * Implements CRUD operations and encapsulates database logic
  */
 public class AnnouncementDAO {
+    private static final long CACHE_TTL_MILLIS = 5 * 60_000L;
+    // findById cache shared by all AnnouncementDAO instances
+    private static final EntityCache<Integer, Announcement> CACHE = new EntityCache<>(
+            "announcements", 200, CACHE_TTL_MILLIS, AnnouncementDAO::copyAnnouncement);
+    
     private final DatabaseConfig dbConfig;
+    private final OutboxDAO outboxDAO;
     
     /**
      * Constructor
      */
     public AnnouncementDAO() {
         this.dbConfig = DatabaseConfig.getInstance();
+        this.outboxDAO = new OutboxDAO();
     }
     
     /**
@@ -33,28 +42,37 @@ public class AnnouncementDAO {
             throw new MatisenseException("Invalid announcement data");
         }
         
-        String sql = "INSERT INTO announcements (admin_id, title, content) VALUES (?, ?, ?)";
+        String sql = NamedQuery.ANNOUNCEMENT_INSERT.getSql();
         
-        try (Connection conn = dbConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            pstmt.setInt(1, announcement.getAdminId());
-            pstmt.setString(2, announcement.getTitle());
-            pstmt.setString(3, announcement.getContent());
-            
-            int affectedRows = pstmt.executeUpdate();
-            
-            if (affectedRows == 0) {
-                throw new MatisenseException("Creating announcement failed, no rows affected.");
-            }
-            
-            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    announcement.setId(generatedKeys.getInt(1));
-                    return announcement;
-                } else {
-                    throw new MatisenseException("Creating announcement failed, no ID obtained.");
+        try (Connection conn = dbConfig.getConnection()) {
+            // Announcement and its outbox event commit together
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                
+                pstmt.setInt(1, announcement.getAdminId());
+                pstmt.setString(2, announcement.getTitle());
+                pstmt.setString(3, announcement.getContent());
+                
+                int affectedRows = pstmt.executeUpdate();
+                
+                if (affectedRows == 0) {
+                    throw new MatisenseException("Creating announcement failed, no rows affected.");
+                }
+                
+                try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        announcement.setId(generatedKeys.getInt(1));
+                    } else {
+                        throw new MatisenseException("Creating announcement failed, no ID obtained.");
+                    }
                 }
+                
+                outboxDAO.enqueue(conn, OutboxEvent.announcementPublished(announcement.getId()));
+                conn.commit();
+                return announcement;
+            } catch (SQLException | MatisenseException e) {
+                conn.rollback();
+                throw e;
             }
         } catch (SQLException e) {
             throw new MatisenseException("Error creating announcement: " + e.getMessage(), e);
@@ -68,7 +86,12 @@ public class AnnouncementDAO {
      * @throws MatisenseException if search fails
      */
     public Announcement findById(int id) throws MatisenseException {
-        String sql = "SELECT * FROM announcements WHERE announcement_id = ?";
+        Announcement cached = CACHE.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long epoch = CACHE.currentEpoch();
+        String sql = NamedQuery.ANNOUNCEMENT_FIND_BY_ID.getSql();
         
         try (Connection conn = dbConfig.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -77,7 +100,9 @@ public class AnnouncementDAO {
             
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToAnnouncement(rs);
+                    Announcement announcement = mapResultSetToAnnouncement(rs);
+                    CACHE.put(id, announcement, epoch);
+                    return announcement;
                 }
                 return null;
             }
@@ -92,12 +117,12 @@ public class AnnouncementDAO {
      * @throws MatisenseException if retrieval fails
      */
     public List<Announcement> findAll() throws MatisenseException {
-        String sql = "SELECT * FROM announcements ORDER BY created_at DESC";
+        String sql = NamedQuery.ANNOUNCEMENT_FIND_ALL.getSql();
         List<Announcement> announcements = new ArrayList<>();
         
         try (Connection conn = dbConfig.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
             while (rs.next()) {
                 announcements.add(mapResultSetToAnnouncement(rs));
@@ -109,6 +134,90 @@ public class AnnouncementDAO {
         }
     }
     
+    /**
+     * Get one page of announcements, newest first, using keyset pagination
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param pageSize Maximum number of announcements on the page
+     * @return Page of announcements with the cursor for the next page
+     * @throws MatisenseException if retrieval fails
+     */
+    public Page<Announcement> findPage(PageCursor after, int pageSize) throws MatisenseException {
+        if (!Page.isValidPageSize(pageSize)) {
+            throw new MatisenseException("Invalid page size: " + pageSize);
+        }
+        
+        String sql = after == null
+                ? NamedQuery.ANNOUNCEMENT_FIND_FIRST_PAGE.getSql()
+                : NamedQuery.ANNOUNCEMENT_FIND_PAGE_AFTER.getSql();
+        List<Announcement> announcements = new ArrayList<>();
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            if (after != null) {
+                Timestamp createdAt = Timestamp.valueOf(after.getCreatedAt());
+                pstmt.setTimestamp(index++, createdAt);
+                pstmt.setTimestamp(index++, createdAt);
+                pstmt.setInt(index++, after.getId());
+            }
+            // Fetch one extra row to learn whether another page follows
+            pstmt.setInt(index, pageSize + 1);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    announcements.add(mapResultSetToAnnouncement(rs));
+                }
+            }
+            
+            return Page.fromLookahead(announcements, pageSize, a -> new PageCursor(a.getCreatedAt(), a.getId()));
+        } catch (SQLException e) {
+            throw new MatisenseException("Error finding announcement page: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Search announcements by title and content, best match first
+     * @param query Words to search for; each must appear, as a whole word or word prefix
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param pageSize Maximum number of results on the page
+     * @return Page of matching announcements with the cursor for the next page
+     * @throws MatisenseException if the search fails
+     */
+    public SearchPage<Announcement> search(String query, SearchCursor after, int pageSize) throws MatisenseException {
+        if (!Page.isValidPageSize(pageSize)) {
+            throw new MatisenseException("Invalid page size: " + pageSize);
+        }
+        String expression = FullTextQuery.toBooleanMode(query);
+        int offset = after != null ? after.getOffset() : 0;
+        if (expression == null || offset > SearchPage.MAX_OFFSET) {
+            return SearchPage.empty();
+        }
+        
+        String sql = NamedQuery.ANNOUNCEMENT_SEARCH.getSql();
+        List<Announcement> announcements = new ArrayList<>();
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setString(1, expression);
+            pstmt.setString(2, expression);
+            // Fetch one extra row to learn whether another page follows
+            pstmt.setInt(3, pageSize + 1);
+            pstmt.setInt(4, offset);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    announcements.add(mapResultSetToAnnouncement(rs));
+                }
+            }
+            
+            return SearchPage.fromLookahead(announcements, offset, pageSize);
+        } catch (SQLException e) {
+            throw new MatisenseException("Error searching announcements: " + e.getMessage(), e);
+        }
+    }
+    
     /**
      * Get recent announcements (limit)
      * @param limit Maximum number of announcements
@@ -116,7 +225,7 @@ public class AnnouncementDAO {
      * @throws MatisenseException if retrieval fails
      */
     public List<Announcement> findRecent(int limit) throws MatisenseException {
-        String sql = "SELECT * FROM announcements ORDER BY created_at DESC LIMIT ?";
+        String sql = NamedQuery.ANNOUNCEMENT_FIND_RECENT.getSql();
         List<Announcement> announcements = new ArrayList<>();
         
         try (Connection conn = dbConfig.getConnection();
@@ -143,7 +252,7 @@ public class AnnouncementDAO {
      * @throws MatisenseException if retrieval fails
      */
     public List<Announcement> findByAdminId(int adminId) throws MatisenseException {
-        String sql = "SELECT * FROM announcements WHERE admin_id = ? ORDER BY created_at DESC";
+        String sql = NamedQuery.ANNOUNCEMENT_FIND_BY_ADMIN_ID.getSql();
         List<Announcement> announcements = new ArrayList<>();
         
         try (Connection conn = dbConfig.getConnection();
@@ -174,8 +283,7 @@ public class AnnouncementDAO {
             throw new MatisenseException("Invalid announcement data for update");
         }
         
-        String sql = "UPDATE announcements SET admin_id = ?, title = ?, content = ?, " +
-                    "updated_at = CURRENT_TIMESTAMP WHERE announcement_id = ?";
+        String sql = NamedQuery.ANNOUNCEMENT_UPDATE.getSql();
         
         try (Connection conn = dbConfig.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -191,6 +299,7 @@ public class AnnouncementDAO {
                 throw new MatisenseException("Updating announcement failed, no rows affected.");
             }
             
+            CACHE.invalidate(announcement.getId());
             return announcement;
         } catch (SQLException e) {
             throw new MatisenseException("Error updating announcement: " + e.getMessage(), e);
@@ -204,7 +313,7 @@ public class AnnouncementDAO {
      * @throws MatisenseException if deletion fails
      */
     public boolean delete(int id) throws MatisenseException {
-        String sql = "DELETE FROM announcements WHERE announcement_id = ?";
+        String sql = NamedQuery.ANNOUNCEMENT_DELETE.getSql();
         
         try (Connection conn = dbConfig.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -212,6 +321,7 @@ public class AnnouncementDAO {
             pstmt.setInt(1, id);
             
             int affectedRows = pstmt.executeUpdate();
+            CACHE.invalidate(id);
             return affectedRows > 0;
         } catch (SQLException e) {
             throw new MatisenseException("Error deleting announcement: " + e.getMessage(), e);
@@ -224,11 +334,11 @@ public class AnnouncementDAO {
      * @throws MatisenseException if count fails
      */
     public int getCount() throws MatisenseException {
-        String sql = "SELECT COUNT(*) FROM announcements";
+        String sql = NamedQuery.ANNOUNCEMENT_COUNT.getSql();
         
         try (Connection conn = dbConfig.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
             if (rs.next()) {
                 return rs.getInt(1);
@@ -239,6 +349,35 @@ public class AnnouncementDAO {
         }
     }
     
+    /**
+     * Get findById cache statistics
+     * @return Cache statistics snapshot
+     */
+    public static EntityCache.Stats getCacheStats() {
+        return CACHE.getStats();
+    }
+    
+    /**
+     * Drop every cached announcement, e.g. after a change that cascades to many rows
+     */
+    static void invalidateCache() {
+        CACHE.invalidateAll();
+    }
+    
+    /**
+     * Copy an announcement so cached instances are never shared with callers
+     * @param source Announcement to copy
+     * @return Independent copy
+     */
+    private static Announcement copyAnnouncement(Announcement source) {
+        Announcement copy = new Announcement(source.getId(), source.getAdminId(), source.getTitle(),
+                source.getContent());
+        // Timestamps last; the setters above touch updatedAt
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        return copy;
+    }
+    
     /**
      * Map ResultSet to Announcement object
      * @param rs ResultSet
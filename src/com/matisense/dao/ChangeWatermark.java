@@ -0,0 +1,59 @@
+package com.matisense.dao;
+
+import java.time.LocalDateTime;
+
+/**
+ * High-water mark of the newest change a client has seen
+ * Ordered by (updated_at, id); passed back to findChangedSince to fetch only newer activity.
+ */
+public class ChangeWatermark {
+    private final LocalDateTime updatedAt;
+    private final int id;
+
+    /**
+     * Constructor
+     * @param updatedAt Update time of the newest row seen
+     * @param id ID of the newest row seen
+     */
+    public ChangeWatermark(LocalDateTime updatedAt, int id) {
+        if (updatedAt == null) {
+            throw new IllegalArgumentException("Watermark update time is required");
+        }
+        this.updatedAt = updatedAt;
+        this.id = id;
+    }
+
+    /**
+     * Move a watermark forward past a row, if the row is newer
+     * @param current Current watermark, or null if nothing has been seen yet
+     * @param updatedAt Row update time
+     * @param id Row ID
+     * @return The later of the current watermark and the row
+     */
+    public static ChangeWatermark advance(ChangeWatermark current, LocalDateTime updatedAt, int id) {
+        if (updatedAt == null) {
+            return current;
+        }
+        if (current == null) {
+            return new ChangeWatermark(updatedAt, id);
+        }
+        int cmp = updatedAt.compareTo(current.updatedAt);
+        if (cmp > 0 || (cmp == 0 && id > current.id)) {
+            return new ChangeWatermark(updatedAt, id);
+        }
+        return current;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeWatermark[updatedAt=" + updatedAt + ", id=" + id + "]";
+    }
+}
@@ -0,0 +1,53 @@
+package com.matisense.dao;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns free text typed by a user into a safe MATCH ... AGAINST (... IN BOOLEAN MODE) expression
+ * Boolean-mode operators in the input are stripped so a stray quote or parenthesis cannot
+ * cause a syntax error; every remaining word becomes a required prefix term (+word*).
+ */
+final class FullTextQuery {
+    // InnoDB ignores words shorter than innodb_ft_min_token_size (default 3)
+    private static final int MIN_TERM_LENGTH = 3;
+    // Limit on terms per query so a pasted paragraph does not turn into a huge expression
+    private static final int MAX_TERMS = 10;
+    // InnoDB default stopwords; a required (+) stopword would make every search return nothing
+    private static final Set<String> STOPWORDS = new HashSet<>(Arrays.asList(
+            "a", "about", "an", "are", "as", "at", "be", "by", "com", "de", "en", "for", "from",
+            "how", "i", "in", "is", "it", "la", "of", "on", "or", "that", "the", "this", "to",
+            "was", "what", "when", "where", "who", "will", "with", "und", "www"));
+
+    private FullTextQuery() {
+    }
+
+    /**
+     * Build a boolean-mode search expression
+     * @param text Text typed by the user
+     * @return Expression such as "+flood* +purok*", or null if the text has no searchable words
+     */
+    static String toBooleanMode(String text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder expression = new StringBuilder();
+        int terms = 0;
+        // Anything that is not a letter or digit separates words, which also removes every operator
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() < MIN_TERM_LENGTH || STOPWORDS.contains(word)) {
+                continue;
+            }
+            if (expression.length() > 0) {
+                expression.append(' ');
+            }
+            expression.append('+').append(word).append('*');
+            if (++terms == MAX_TERMS) {
+                break;
+            }
+        }
+        return terms == 0 ? null : expression.toString();
+    }
+}
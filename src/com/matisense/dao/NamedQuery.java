@@ -0,0 +1,255 @@
+package com.matisense.dao;
+
+/**
+ * Central registry of the named SQL statements used by the DAOs
+ * Every DAO prepares its statements from here, so each query has exactly one SQL text
+ * and is parsed once per pooled connection by the prepared statement cache.
+ */
+public enum NamedQuery {
+    // Users
+    USER_INSERT("INSERT INTO users (username, password, full_name, address, gender, email, " +
+            "contact_number, birthday, user_role) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)"),
+    USER_UPDATE_PASSWORD("UPDATE users SET password = ?, updated_at = CURRENT_TIMESTAMP WHERE user_id = ?"),
+    USER_FIND_BY_ID("SELECT * FROM users WHERE user_id = ?"),
+    USER_FIND_BY_USERNAME("SELECT * FROM users WHERE username = ?"),
+    USER_FIND_BY_EMAIL("SELECT * FROM users WHERE email = ?"),
+    USER_AUTHENTICATE("SELECT * FROM users WHERE username = ? AND password = ?"),
+    USER_UPDATE("UPDATE users SET username = ?, password = ?, full_name = ?, address = ?, " +
+            "gender = ?, email = ?, contact_number = ?, birthday = ?, user_role = ?, " +
+            "updated_at = CURRENT_TIMESTAMP WHERE user_id = ?"),
+    USER_LOCK("SELECT user_id FROM users WHERE user_id = ? FOR UPDATE"),
+    USER_DELETE("DELETE FROM users WHERE user_id = ?"),
+    USER_FIND_ALL("SELECT * FROM users ORDER BY created_at DESC"),
+    USER_FIND_BY_ROLE("SELECT * FROM users WHERE user_role = ? ORDER BY created_at DESC"),
+
+    // Reports
+    REPORT_INSERT("INSERT INTO reports (resident_id, report_type, location, description, status) " +
+            "VALUES (?, ?, ?, ?, ?)"),
+    REPORT_FIND_BY_ID("SELECT * FROM reports WHERE report_id = ?"),
+    REPORT_FIND_ALL("SELECT * FROM reports ORDER BY created_at DESC"),
+    REPORT_FIND_ALL_LIST_ITEMS("SELECT r.report_id, r.resident_id, u.full_name AS resident_name, r.report_type, " +
+            "r.location, LEFT(r.description, ?) AS description_preview, " +
+            "CHAR_LENGTH(r.description) > ? AS description_truncated, r.status, r.created_at, r.updated_at " +
+            "FROM reports r LEFT JOIN users u ON u.user_id = r.resident_id " +
+            "ORDER BY r.created_at DESC"),
+    REPORT_FIND_CHANGED_SINCE("SELECT r.report_id, r.resident_id, u.full_name AS resident_name, r.report_type, " +
+            "r.location, LEFT(r.description, ?) AS description_preview, " +
+            "CHAR_LENGTH(r.description) > ? AS description_truncated, r.status, r.created_at, r.updated_at " +
+            "FROM reports r LEFT JOIN users u ON u.user_id = r.resident_id " +
+            "WHERE r.updated_at >= ? ORDER BY r.updated_at, r.report_id"),
+    REPORT_FIND_CHANGED_SINCE_FOR_RESIDENT("SELECT r.report_id, r.resident_id, u.full_name AS resident_name, " +
+            "r.report_type, r.location, LEFT(r.description, ?) AS description_preview, " +
+            "CHAR_LENGTH(r.description) > ? AS description_truncated, r.status, r.created_at, r.updated_at " +
+            "FROM reports r LEFT JOIN users u ON u.user_id = r.resident_id " +
+            "WHERE r.resident_id = ? AND r.updated_at >= ? ORDER BY r.updated_at, r.report_id"),
+    REPORT_SEARCH("SELECT r.report_id, r.resident_id, u.full_name AS resident_name, r.report_type, " +
+            "r.location, LEFT(r.description, ?) AS description_preview, " +
+            "CHAR_LENGTH(r.description) > ? AS description_truncated, r.status, r.created_at, r.updated_at, " +
+            "MATCH(r.description, r.location, r.report_type) AGAINST (? IN BOOLEAN MODE) AS relevance " +
+            "FROM reports r LEFT JOIN users u ON u.user_id = r.resident_id " +
+            "WHERE MATCH(r.description, r.location, r.report_type) AGAINST (? IN BOOLEAN MODE){filters} " +
+            "ORDER BY relevance DESC, r.report_id DESC LIMIT ? OFFSET ?"),
+    REPORT_COUNT_SEARCH("SELECT COUNT(*) FROM (SELECT 1 FROM reports r " +
+            "WHERE MATCH(r.description, r.location, r.report_type) AGAINST (? IN BOOLEAN MODE){filters} " +
+            "LIMIT ?) matches"),
+    REPORT_COUNT_FILTERED("SELECT COUNT(*) FROM reports WHERE TRUE{filters}"),
+    REPORT_FIND_LIST_ITEMS_FILTERED("SELECT r.report_id, r.resident_id, u.full_name AS resident_name, r.report_type, " +
+            "r.location, LEFT(r.description, ?) AS description_preview, " +
+            "CHAR_LENGTH(r.description) > ? AS description_truncated, r.status, r.created_at, r.updated_at " +
+            "FROM reports r LEFT JOIN users u ON u.user_id = r.resident_id " +
+            "WHERE TRUE{filters} ORDER BY {order}"),
+    REPORT_FIND_LIST_ITEM_WINDOW("SELECT r.report_id, r.resident_id, u.full_name AS resident_name, r.report_type, " +
+            "r.location, LEFT(r.description, ?) AS description_preview, " +
+            "CHAR_LENGTH(r.description) > ? AS description_truncated, r.status, r.created_at, r.updated_at " +
+            "FROM (SELECT report_id FROM reports WHERE TRUE{filters} " +
+            "ORDER BY {order} LIMIT ? OFFSET ?) w " +
+            "JOIN reports r ON r.report_id = w.report_id LEFT JOIN users u ON u.user_id = r.resident_id " +
+            "ORDER BY {outer_order}"),
+    REPORT_FIND_LIST_ITEM_FIRST_PAGE("SELECT r.report_id, r.resident_id, u.full_name AS resident_name, " +
+            "r.report_type, r.location, LEFT(r.description, ?) AS description_preview, " +
+            "CHAR_LENGTH(r.description) > ? AS description_truncated, r.status, r.created_at, r.updated_at " +
+            "FROM reports r LEFT JOIN users u ON u.user_id = r.resident_id " +
+            "WHERE TRUE{filters} ORDER BY r.created_at DESC, r.report_id DESC LIMIT ?"),
+    REPORT_FIND_LIST_ITEM_PAGE_AFTER("SELECT r.report_id, r.resident_id, u.full_name AS resident_name, " +
+            "r.report_type, r.location, LEFT(r.description, ?) AS description_preview, " +
+            "CHAR_LENGTH(r.description) > ? AS description_truncated, r.status, r.created_at, r.updated_at " +
+            "FROM reports r LEFT JOIN users u ON u.user_id = r.resident_id " +
+            "WHERE r.created_at <= ? AND (r.created_at < ? OR r.report_id < ?){filters} " +
+            "ORDER BY r.created_at DESC, r.report_id DESC LIMIT ?"),
+    REPORT_FIND_FIRST_PAGE("SELECT * FROM reports ORDER BY created_at DESC, report_id DESC LIMIT ?"),
+    REPORT_FIND_PAGE_AFTER("SELECT * FROM reports WHERE created_at <= ? AND (created_at < ? OR report_id < ?) " +
+            "ORDER BY created_at DESC, report_id DESC LIMIT ?"),
+    REPORT_FIND_BY_RESIDENT_ID("SELECT * FROM reports WHERE resident_id = ? ORDER BY created_at DESC"),
+    REPORT_FIND_BY_STATUS("SELECT * FROM reports WHERE status = ? ORDER BY created_at DESC"),
+    REPORT_UPDATE("UPDATE reports SET resident_id = ?, report_type = ?, location = ?, " +
+            "description = ?, status = ?, updated_at = CURRENT_TIMESTAMP WHERE report_id = ?"),
+    REPORT_LOCK_STATUS("SELECT status FROM reports WHERE report_id = ? FOR UPDATE"),
+    REPORT_UPDATE_STATUS("UPDATE reports SET status = ?, updated_at = CURRENT_TIMESTAMP WHERE report_id = ?"),
+    REPORT_DELETE("DELETE FROM reports WHERE report_id = ?"),
+
+    // Report status counters
+    REPORT_STATUS_COUNT_INCREMENT("INSERT INTO report_status_counts (status, report_count) VALUES (?, 1) " +
+            "ON DUPLICATE KEY UPDATE report_count = report_count + 1"),
+    REPORT_STATUS_COUNT_DECREMENT("UPDATE report_status_counts SET report_count = report_count - 1 WHERE status = ?"),
+    REPORT_STATUS_COUNT_REMOVE_RESIDENT("UPDATE report_status_counts c JOIN (" +
+            "SELECT COALESCE(status, 'Pending') AS status, COUNT(*) AS n FROM reports WHERE resident_id = ? " +
+            "GROUP BY COALESCE(status, 'Pending')) r ON r.status = c.status " +
+            "SET c.report_count = c.report_count - r.n"),
+    REPORT_STATUS_COUNT_RECOUNT("SELECT COALESCE(status, 'Pending'), COUNT(*) FROM reports " +
+            "GROUP BY COALESCE(status, 'Pending')"),
+    REPORT_STATUS_COUNT_CORRECT("UPDATE report_status_counts SET report_count = ? WHERE status = ? AND report_count = ?"),
+    REPORT_STATUS_COUNT_INSERT_MISSING("INSERT IGNORE INTO report_status_counts (status, report_count) VALUES (?, ?)"),
+    REPORT_STATUS_COUNT_FIND_ALL("SELECT status, report_count FROM report_status_counts"),
+
+    // Announcements
+    ANNOUNCEMENT_INSERT("INSERT INTO announcements (admin_id, title, content) VALUES (?, ?, ?)"),
+    ANNOUNCEMENT_FIND_BY_ID("SELECT * FROM announcements WHERE announcement_id = ?"),
+    ANNOUNCEMENT_FIND_ALL("SELECT * FROM announcements ORDER BY created_at DESC"),
+    ANNOUNCEMENT_FIND_FIRST_PAGE("SELECT * FROM announcements ORDER BY created_at DESC, announcement_id DESC LIMIT ?"),
+    ANNOUNCEMENT_FIND_PAGE_AFTER("SELECT * FROM announcements WHERE created_at <= ? AND (created_at < ? OR announcement_id < ?) " +
+            "ORDER BY created_at DESC, announcement_id DESC LIMIT ?"),
+    ANNOUNCEMENT_SEARCH("SELECT *, MATCH(title, content) AGAINST (? IN BOOLEAN MODE) AS relevance " +
+            "FROM announcements WHERE MATCH(title, content) AGAINST (? IN BOOLEAN MODE) " +
+            "ORDER BY relevance DESC, announcement_id DESC LIMIT ? OFFSET ?"),
+    ANNOUNCEMENT_FIND_RECENT("SELECT * FROM announcements ORDER BY created_at DESC LIMIT ?"),
+    ANNOUNCEMENT_FIND_BY_ADMIN_ID("SELECT * FROM announcements WHERE admin_id = ? ORDER BY created_at DESC"),
+    ANNOUNCEMENT_UPDATE("UPDATE announcements SET admin_id = ?, title = ?, content = ?, " +
+            "updated_at = CURRENT_TIMESTAMP WHERE announcement_id = ?"),
+    ANNOUNCEMENT_DELETE("DELETE FROM announcements WHERE announcement_id = ?"),
+    ANNOUNCEMENT_COUNT("SELECT COUNT(*) FROM announcements"),
+
+    // Notifications
+    NOTIFICATION_INSERT("INSERT INTO notifications (user_id, title, message, notification_type, related_id, is_read) " +
+            "VALUES (?, ?, ?, ?, ?, ?)"),
+    NOTIFICATION_FIND_BY_ID("SELECT * FROM notifications WHERE notification_id = ?"),
+    NOTIFICATION_FIND_BY_USER_ID("SELECT * FROM notifications WHERE user_id = ? ORDER BY created_at DESC"),
+    NOTIFICATION_FIND_FIRST_PAGE_BY_USER_ID("SELECT * FROM notifications WHERE user_id = ? " +
+            "ORDER BY created_at DESC, notification_id DESC LIMIT ?"),
+    NOTIFICATION_FIND_PAGE_AFTER_BY_USER_ID("SELECT * FROM notifications WHERE user_id = ? AND created_at <= ? " +
+            "AND (created_at < ? OR notification_id < ?) ORDER BY created_at DESC, notification_id DESC LIMIT ?"),
+    NOTIFICATION_COUNT_BY_USER_ID("SELECT COUNT(*) FROM notifications WHERE user_id = ?"),
+    NOTIFICATION_FIND_WINDOW_BY_USER_ID("SELECT n.* FROM (SELECT notification_id FROM notifications " +
+            "WHERE user_id = ? ORDER BY {order} LIMIT ? OFFSET ?) w " +
+            "JOIN notifications n ON n.notification_id = w.notification_id ORDER BY {outer_order}"),
+    NOTIFICATION_FIND_UNREAD_BY_USER_ID("SELECT * FROM notifications WHERE user_id = ? AND is_read = false ORDER BY created_at DESC"),
+    NOTIFICATION_FIND_ALL("SELECT * FROM notifications ORDER BY created_at DESC"),
+    NOTIFICATION_UPDATE("UPDATE notifications SET user_id = ?, title = ?, message = ?, " +
+            "notification_type = ?, related_id = ?, is_read = ?, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE notification_id = ?"),
+    NOTIFICATION_MARK_AS_READ("UPDATE notifications SET is_read = true, updated_at = CURRENT_TIMESTAMP WHERE notification_id = ?"),
+    NOTIFICATION_MARK_ALL_AS_READ_FOR_USER("UPDATE notifications SET is_read = true, updated_at = CURRENT_TIMESTAMP WHERE user_id = ?"),
+    NOTIFICATION_DELETE("DELETE FROM notifications WHERE notification_id = ?"),
+    NOTIFICATION_LOCK_STATE("SELECT user_id, is_read FROM notifications WHERE notification_id = ? FOR UPDATE"),
+    NOTIFICATION_INSERT_FOR_ALL_USERS("INSERT INTO notifications (user_id, title, message, notification_type, related_id, is_read) " +
+            "SELECT user_id, ?, ?, ?, ?, false FROM users"),
+    NOTIFICATION_INSERT_FOR_ROLE("INSERT INTO notifications (user_id, title, message, notification_type, related_id, is_read) " +
+            "SELECT user_id, ?, ?, ?, ?, false FROM users WHERE user_role = ?"),
+    NOTIFICATION_INSERT_FOR_ROLE_IN_SEGMENT("INSERT INTO notifications (user_id, title, message, notification_type, related_id, is_read) " +
+            "SELECT user_id, ?, ?, ?, ?, false FROM users WHERE user_role = ? AND address LIKE ? ESCAPE '!'"),
+    NOTIFICATION_LOCK_EXPIRED_FIRST("SELECT notification_id, user_id, created_at FROM notifications " +
+            "WHERE is_read = ? AND created_at < ? ORDER BY created_at, notification_id LIMIT ? FOR UPDATE"),
+    NOTIFICATION_LOCK_EXPIRED_AFTER("SELECT notification_id, user_id, created_at FROM notifications " +
+            "WHERE is_read = ? AND created_at < ? AND created_at >= ? AND (created_at > ? OR notification_id > ?) " +
+            "ORDER BY created_at, notification_id LIMIT ? FOR UPDATE"),
+    NOTIFICATION_ARCHIVE("INSERT IGNORE INTO notifications_archive (notification_id, user_id, title, message, " +
+            "notification_type, related_id, is_read, created_at, updated_at) " +
+            "SELECT notification_id, user_id, title, message, notification_type, related_id, is_read, created_at, updated_at " +
+            "FROM notifications WHERE notification_id = ?"),
+
+    // Unread notification counters
+    UNREAD_COUNTER_ADD("INSERT INTO notification_counters (user_id, unread_count) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE unread_count = GREATEST(unread_count + VALUES(unread_count), 0)"),
+    UNREAD_COUNTER_CLEAR("UPDATE notification_counters SET unread_count = 0 WHERE user_id = ?"),
+    UNREAD_COUNTER_FIND("SELECT unread_count FROM notification_counters WHERE user_id = ?"),
+    UNREAD_COUNTER_ADD_FOR_ALL_USERS("INSERT INTO notification_counters (user_id, unread_count) " +
+            "SELECT user_id, 1 FROM users ON DUPLICATE KEY UPDATE unread_count = unread_count + 1"),
+    UNREAD_COUNTER_ADD_FOR_ROLE("INSERT INTO notification_counters (user_id, unread_count) " +
+            "SELECT user_id, 1 FROM users WHERE user_role = ? ON DUPLICATE KEY UPDATE unread_count = unread_count + 1"),
+    UNREAD_COUNTER_ADD_FOR_ROLE_IN_SEGMENT("INSERT INTO notification_counters (user_id, unread_count) " +
+            "SELECT user_id, 1 FROM users WHERE user_role = ? AND address LIKE ? ESCAPE '!' " +
+            "ON DUPLICATE KEY UPDATE unread_count = unread_count + 1"),
+    UNREAD_COUNTER_RECONCILE_CHUNK_END("SELECT MAX(user_id) FROM (" +
+            "SELECT user_id FROM users WHERE user_id > ? ORDER BY user_id LIMIT ?) chunk"),
+    UNREAD_COUNTER_FIND_RANGE("SELECT user_id, unread_count FROM notification_counters " +
+            "WHERE user_id > ? AND user_id <= ?"),
+    UNREAD_COUNTER_COUNT_UNREAD_RANGE("SELECT user_id, COUNT(*) FROM notifications " +
+            "WHERE user_id > ? AND user_id <= ? AND is_read = false GROUP BY user_id"),
+    UNREAD_COUNTER_CORRECT("UPDATE notification_counters SET unread_count = ? WHERE user_id = ? AND unread_count = ?"),
+    UNREAD_COUNTER_INSERT_MISSING("INSERT IGNORE INTO notification_counters (user_id, unread_count) VALUES (?, ?)"),
+
+    // Notification outbox
+    OUTBOX_INSERT("INSERT INTO notification_outbox (event_type, entity_id, old_status, new_status) VALUES (?, ?, ?, ?)"),
+    OUTBOX_CLAIM("UPDATE notification_outbox SET claim_token = ?, " +
+            "claimed_until = TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP) " +
+            "WHERE attempts < ? AND available_at <= CURRENT_TIMESTAMP " +
+            "AND (claimed_until IS NULL OR claimed_until < CURRENT_TIMESTAMP) " +
+            "ORDER BY outbox_id LIMIT ?"),
+    OUTBOX_FIND_BY_CLAIM("SELECT * FROM notification_outbox WHERE claim_token = ? ORDER BY outbox_id"),
+    OUTBOX_DELETE("DELETE FROM notification_outbox WHERE outbox_id = ?"),
+    OUTBOX_MARK_FAILED("UPDATE notification_outbox SET attempts = attempts + 1, " +
+            "available_at = TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP), last_error = ?, " +
+            "claim_token = NULL, claimed_until = NULL WHERE outbox_id = ?"),
+    OUTBOX_PENDING_COUNT("SELECT COUNT(*) FROM notification_outbox WHERE attempts < ?"),
+    OUTBOX_FIND_EXHAUSTED("SELECT * FROM notification_outbox WHERE attempts >= ? ORDER BY outbox_id LIMIT ?"),
+    OUTBOX_DEAD_LETTER_INSERT("INSERT IGNORE INTO notification_outbox_dead_letter (outbox_id, event_type, entity_id, " +
+            "old_status, new_status, attempts, last_error, created_at) " +
+            "SELECT outbox_id, event_type, entity_id, old_status, new_status, attempts, last_error, created_at " +
+            "FROM notification_outbox WHERE outbox_id = ? AND attempts >= ?"),
+    OUTBOX_DELETE_EXHAUSTED("DELETE FROM notification_outbox WHERE outbox_id = ? AND attempts >= ?"),
+    OUTBOX_DEAD_LETTER_PURGE("DELETE FROM notification_outbox_dead_letter WHERE dead_at < ? " +
+            "ORDER BY dead_at LIMIT ?");
+
+    // Placeholders filled in from a ReportQuery or sort key; see getSql(filters, order, outerOrder)
+    private static final String FILTERS_PLACEHOLDER = "{filters}";
+    private static final String ORDER_PLACEHOLDER = "{order}";
+    private static final String OUTER_ORDER_PLACEHOLDER = "{outer_order}";
+
+    private final String sql;
+
+    NamedQuery(String sql) {
+        this.sql = sql;
+    }
+
+    /**
+     * Get the SQL text for this query
+     * @return SQL string
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Get the SQL text with its ORDER BY placeholders filled in
+     * The orders must come from a fixed set such as ReportSortKey, never from user input, so
+     * each query still has a small, fixed number of SQL texts for the statement cache.
+     * @param order Replacement for {order}
+     * @param outerOrder Replacement for {outer_order}
+     * @return SQL string
+     */
+    public String getSql(String order, String outerOrder) {
+        return getSql(null, order, outerOrder);
+    }
+
+    /**
+     * Get the SQL text with its filter and ORDER BY placeholders filled in
+     * Filters come from ReportQuery.toSqlConditions, which only emits conditions with
+     * parameter markers, so the same rule applies: a small, fixed set of SQL texts.
+     * @param filters Replacement for {filters}, or null if the query has none
+     * @param order Replacement for {order}, or null if the query has none
+     * @param outerOrder Replacement for {outer_order}, or null if the query has none
+     * @return SQL string
+     */
+    public String getSql(String filters, String order, String outerOrder) {
+        String text = sql;
+        if (filters != null) {
+            text = text.replace(FILTERS_PLACEHOLDER, filters);
+        }
+        if (order != null) {
+            text = text.replace(ORDER_PLACEHOLDER, order);
+        }
+        if (outerOrder != null) {
+            text = text.replace(OUTER_ORDER_PLACEHOLDER, outerOrder);
+        }
+        return text;
+    }
+}
@@ -1,20 +1,42 @@
 package com.matisense.dao;
 
 import com.matisense.model.Notification;
+import com.matisense.model.User;
 import com.matisense.exception.MatisenseException;
 import com.matisense.config.DatabaseConfig;
 
 import java.sql.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Data Access Object for Notification operations
  * Implements CRUD operations and encapsulates database logic
  */
 public class NotificationDAO {
+    // Rows per executeBatch(); the driver rewrites each chunk into multi-row INSERTs
+    private static final int BATCH_CHUNK_SIZE = 1000;
+    // Users whose unread counters are recounted per reconcile transaction
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+    
     private final DatabaseConfig dbConfig;
     
+    /**
+     * Owner and read flag of a notification before a change
+     */
+    private static class NotificationState {
+        private final int userId;
+        private final boolean read;
+        
+        private NotificationState(int userId, boolean read) {
+            this.userId = userId;
+            this.read = read;
+        }
+    }
+    
     /**
      * Constructor
      */
@@ -33,44 +55,126 @@ public class NotificationDAO {
             throw new MatisenseException("Invalid notification data");
         }
         
-        String sql = "INSERT INTO notifications (user_id, title, message, notification_type, related_id, is_read) " +
-                    "VALUES (?, ?, ?, ?, ?, ?)";
+        String sql = NamedQuery.NOTIFICATION_INSERT.getSql();
         
-        try (Connection conn = dbConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            pstmt.setInt(1, notification.getUserId());
-            pstmt.setString(2, notification.getTitle());
-            pstmt.setString(3, notification.getMessage());
-            pstmt.setString(4, notification.getNotificationType().getDisplayName());
-            
-            if (notification.getRelatedId() != null) {
-                pstmt.setInt(5, notification.getRelatedId());
-            } else {
-                pstmt.setNull(5, Types.INTEGER);
-            }
-            
-            pstmt.setBoolean(6, notification.isRead());
-            
-            int affectedRows = pstmt.executeUpdate();
-            
-            if (affectedRows == 0) {
-                throw new MatisenseException("Creating notification failed, no rows affected.");
-            }
-            
-            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    notification.setId(generatedKeys.getInt(1));
-                    return notification;
+        try (Connection conn = dbConfig.getConnection()) {
+            // Notification and unread counter commit together
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                
+                pstmt.setInt(1, notification.getUserId());
+                pstmt.setString(2, notification.getTitle());
+                pstmt.setString(3, notification.getMessage());
+                pstmt.setString(4, notification.getNotificationType().getDisplayName());
+                
+                if (notification.getRelatedId() != null) {
+                    pstmt.setInt(5, notification.getRelatedId());
                 } else {
-                    throw new MatisenseException("Creating notification failed, no ID obtained.");
+                    pstmt.setNull(5, Types.INTEGER);
+                }
+                
+                pstmt.setBoolean(6, notification.isRead());
+                
+                int affectedRows = pstmt.executeUpdate();
+                
+                if (affectedRows == 0) {
+                    throw new MatisenseException("Creating notification failed, no rows affected.");
                 }
+                
+                try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        notification.setId(generatedKeys.getInt(1));
+                    } else {
+                        throw new MatisenseException("Creating notification failed, no ID obtained.");
+                    }
+                }
+                
+                if (!notification.isRead()) {
+                    UnreadCounters.add(conn, notification.getUserId(), 1);
+                }
+                conn.commit();
+                return notification;
+            } catch (SQLException | MatisenseException e) {
+                conn.rollback();
+                throw e;
             }
         } catch (SQLException e) {
             throw new MatisenseException("Error creating notification: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Create many notifications in one transaction using JDBC batching
+     * @param notifications Notifications to create; each one gets its generated ID set
+     * @return Generated IDs in the same order as the input
+     * @throws MatisenseException if any notification is invalid or the insert fails (nothing is saved)
+     */
+    public List<Integer> createBatch(List<Notification> notifications) throws MatisenseException {
+        List<Integer> ids = new ArrayList<>(notifications.size());
+        if (notifications.isEmpty()) {
+            return ids;
+        }
+        for (Notification notification : notifications) {
+            if (!notification.isValid()) {
+                throw new MatisenseException("Invalid notification data");
+            }
+        }
+        
+        String sql = NamedQuery.NOTIFICATION_INSERT.getSql();
+        
+        try (Connection conn = dbConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (int start = 0; start < notifications.size(); start += BATCH_CHUNK_SIZE) {
+                    List<Notification> chunk = notifications.subList(start,
+                            Math.min(start + BATCH_CHUNK_SIZE, notifications.size()));
+                    
+                    for (Notification notification : chunk) {
+                        pstmt.setInt(1, notification.getUserId());
+                        pstmt.setString(2, notification.getTitle());
+                        pstmt.setString(3, notification.getMessage());
+                        pstmt.setString(4, notification.getNotificationType().getDisplayName());
+                        
+                        if (notification.getRelatedId() != null) {
+                            pstmt.setInt(5, notification.getRelatedId());
+                        } else {
+                            pstmt.setNull(5, Types.INTEGER);
+                        }
+                        
+                        pstmt.setBoolean(6, notification.isRead());
+                        pstmt.addBatch();
+                    }
+                    pstmt.executeBatch();
+                    
+                    try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                        for (Notification notification : chunk) {
+                            if (!generatedKeys.next()) {
+                                throw new SQLException("Creating notifications failed, no ID obtained.");
+                            }
+                            notification.setId(generatedKeys.getInt(1));
+                            ids.add(notification.getId());
+                        }
+                    }
+                }
+                
+                Map<Integer, Integer> unreadByUser = new HashMap<>();
+                for (Notification notification : notifications) {
+                    if (!notification.isRead()) {
+                        unreadByUser.merge(notification.getUserId(), 1, Integer::sum);
+                    }
+                }
+                UnreadCounters.addAll(conn, unreadByUser);
+                conn.commit();
+                return ids;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new MatisenseException("Error creating notifications: " + e.getMessage(), e);
+        }
+    }
+    
     /**
      * Find notification by ID
      * @param id Notification ID
@@ -78,7 +182,7 @@ public class NotificationDAO {
      * @throws MatisenseException if search fails
      */
     public Notification findById(int id) throws MatisenseException {
-        String sql = "SELECT * FROM notifications WHERE notification_id = ?";
+        String sql = NamedQuery.NOTIFICATION_FIND_BY_ID.getSql();
         
         try (Connection conn = dbConfig.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -103,7 +207,7 @@ public class NotificationDAO {
      * @throws MatisenseException if retrieval fails
      */
     public List<Notification> findByUserId(int userId) throws MatisenseException {
-        String sql = "SELECT * FROM notifications WHERE user_id = ? ORDER BY created_at DESC";
+        String sql = NamedQuery.NOTIFICATION_FIND_BY_USER_ID.getSql();
         List<Notification> notifications = new ArrayList<>();
         
         try (Connection conn = dbConfig.getConnection();
@@ -123,6 +227,113 @@ public class NotificationDAO {
         }
     }
     
+    /**
+     * Get one page of a user's notifications, newest first, using keyset pagination
+     * @param userId User ID
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param pageSize Maximum number of notifications on the page
+     * @return Page of notifications with the cursor for the next page
+     * @throws MatisenseException if retrieval fails
+     */
+    public Page<Notification> findPageByUserId(int userId, PageCursor after, int pageSize) throws MatisenseException {
+        if (!Page.isValidPageSize(pageSize)) {
+            throw new MatisenseException("Invalid page size: " + pageSize);
+        }
+        
+        String sql = after == null
+                ? NamedQuery.NOTIFICATION_FIND_FIRST_PAGE_BY_USER_ID.getSql()
+                : NamedQuery.NOTIFICATION_FIND_PAGE_AFTER_BY_USER_ID.getSql();
+        List<Notification> notifications = new ArrayList<>();
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            pstmt.setInt(index++, userId);
+            if (after != null) {
+                Timestamp createdAt = Timestamp.valueOf(after.getCreatedAt());
+                pstmt.setTimestamp(index++, createdAt);
+                pstmt.setTimestamp(index++, createdAt);
+                pstmt.setInt(index++, after.getId());
+            }
+            // Fetch one extra row to learn whether another page follows
+            pstmt.setInt(index, pageSize + 1);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    notifications.add(mapResultSetToNotification(rs));
+                }
+            }
+            
+            return Page.fromLookahead(notifications, pageSize, n -> new PageCursor(n.getCreatedAt(), n.getId()));
+        } catch (SQLException e) {
+            throw new MatisenseException("Error finding notification page: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Count a user's notifications, read or not
+     * @param userId User ID
+     * @return Number of notifications
+     * @throws MatisenseException if counting fails
+     */
+    public int countByUserId(int userId) throws MatisenseException {
+        String sql = NamedQuery.NOTIFICATION_COUNT_BY_USER_ID.getSql();
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, userId);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw new MatisenseException("Error counting notifications: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Get a window of a user's notifications at an arbitrary position, in the given order
+     * Used for scrolling a virtual table; the window is located on the sort key's index
+     * before the notification rows are read.
+     * @param userId User ID
+     * @param sortKey Sort column, or null for the creation time
+     * @param descending true for descending order
+     * @param offset Position of the first notification in the sorted list
+     * @param limit Maximum notifications to return (1..Page.MAX_PAGE_SIZE)
+     * @return Notifications in the window, in sort order
+     * @throws MatisenseException if retrieval fails
+     */
+    public List<Notification> findWindowByUserId(int userId, NotificationSortKey sortKey, boolean descending,
+            int offset, int limit) throws MatisenseException {
+        if (offset < 0 || !Page.isValidPageSize(limit)) {
+            throw new MatisenseException("Invalid notification window: offset " + offset + ", limit " + limit);
+        }
+        NotificationSortKey key = sortKey != null ? sortKey : NotificationSortKey.CREATED;
+        String sql = NamedQuery.NOTIFICATION_FIND_WINDOW_BY_USER_ID.getSql(
+                key.orderBy(null, descending), key.orderBy("n", descending));
+        List<Notification> notifications = new ArrayList<>(limit);
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, limit);
+            pstmt.setInt(3, offset);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    notifications.add(mapResultSetToNotification(rs));
+                }
+            }
+            
+            return notifications;
+        } catch (SQLException e) {
+            throw new MatisenseException("Error finding notification window: " + e.getMessage(), e);
+        }
+    }
+    
     /**
      * Get unread notifications by user ID
      * @param userId User ID
@@ -130,7 +341,7 @@ public class NotificationDAO {
      * @throws MatisenseException if retrieval fails
      */
     public List<Notification> findUnreadByUserId(int userId) throws MatisenseException {
-        String sql = "SELECT * FROM notifications WHERE user_id = ? AND is_read = false ORDER BY created_at DESC";
+        String sql = NamedQuery.NOTIFICATION_FIND_UNREAD_BY_USER_ID.getSql();
         List<Notification> notifications = new ArrayList<>();
         
         try (Connection conn = dbConfig.getConnection();
@@ -156,12 +367,12 @@ public class NotificationDAO {
      * @throws MatisenseException if retrieval fails
      */
     public List<Notification> findAll() throws MatisenseException {
-        String sql = "SELECT * FROM notifications ORDER BY created_at DESC";
+        String sql = NamedQuery.NOTIFICATION_FIND_ALL.getSql();
         List<Notification> notifications = new ArrayList<>();
         
         try (Connection conn = dbConfig.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
             while (rs.next()) {
                 notifications.add(mapResultSetToNotification(rs));
@@ -184,34 +395,51 @@ public class NotificationDAO {
             throw new MatisenseException("Invalid notification data for update");
         }
         
-        String sql = "UPDATE notifications SET user_id = ?, title = ?, message = ?, " +
-                    "notification_type = ?, related_id = ?, is_read = ?, updated_at = CURRENT_TIMESTAMP " +
-                    "WHERE notification_id = ?";
+        String sql = NamedQuery.NOTIFICATION_UPDATE.getSql();
         
-        try (Connection conn = dbConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, notification.getUserId());
-            pstmt.setString(2, notification.getTitle());
-            pstmt.setString(3, notification.getMessage());
-            pstmt.setString(4, notification.getNotificationType().getDisplayName());
-            
-            if (notification.getRelatedId() != null) {
-                pstmt.setInt(5, notification.getRelatedId());
-            } else {
-                pstmt.setNull(5, Types.INTEGER);
-            }
-            
-            pstmt.setBoolean(6, notification.isRead());
-            pstmt.setInt(7, notification.getId());
-            
-            int affectedRows = pstmt.executeUpdate();
-            
-            if (affectedRows == 0) {
-                throw new MatisenseException("Updating notification failed, no rows affected.");
+        try (Connection conn = dbConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                NotificationState old = lockState(conn, notification.getId());
+                if (old == null) {
+                    throw new MatisenseException("Updating notification failed, no rows affected.");
+                }
+                
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setInt(1, notification.getUserId());
+                    pstmt.setString(2, notification.getTitle());
+                    pstmt.setString(3, notification.getMessage());
+                    pstmt.setString(4, notification.getNotificationType().getDisplayName());
+                    
+                    if (notification.getRelatedId() != null) {
+                        pstmt.setInt(5, notification.getRelatedId());
+                    } else {
+                        pstmt.setNull(5, Types.INTEGER);
+                    }
+                    
+                    pstmt.setBoolean(6, notification.isRead());
+                    pstmt.setInt(7, notification.getId());
+                    
+                    int affectedRows = pstmt.executeUpdate();
+                    
+                    if (affectedRows == 0) {
+                        throw new MatisenseException("Updating notification failed, no rows affected.");
+                    }
+                }
+                
+                // Covers both a read-state change and a move to another user
+                if (!old.read) {
+                    UnreadCounters.add(conn, old.userId, -1);
+                }
+                if (!notification.isRead()) {
+                    UnreadCounters.add(conn, notification.getUserId(), 1);
+                }
+                conn.commit();
+                return notification;
+            } catch (SQLException | MatisenseException e) {
+                conn.rollback();
+                throw e;
             }
-            
-            return notification;
         } catch (SQLException e) {
             throw new MatisenseException("Error updating notification: " + e.getMessage(), e);
         }
@@ -224,15 +452,32 @@ public class NotificationDAO {
      * @throws MatisenseException if update fails
      */
     public boolean markAsRead(int notificationId) throws MatisenseException {
-        String sql = "UPDATE notifications SET is_read = true, updated_at = CURRENT_TIMESTAMP WHERE notification_id = ?";
+        String sql = NamedQuery.NOTIFICATION_MARK_AS_READ.getSql();
         
-        try (Connection conn = dbConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, notificationId);
-            
-            int affectedRows = pstmt.executeUpdate();
-            return affectedRows > 0;
+        try (Connection conn = dbConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                NotificationState old = lockState(conn, notificationId);
+                if (old == null) {
+                    conn.rollback();
+                    return false;
+                }
+                
+                int affectedRows;
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setInt(1, notificationId);
+                    affectedRows = pstmt.executeUpdate();
+                }
+                
+                if (!old.read) {
+                    UnreadCounters.add(conn, old.userId, -1);
+                }
+                conn.commit();
+                return affectedRows > 0;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
         } catch (SQLException e) {
             throw new MatisenseException("Error marking notification as read: " + e.getMessage(), e);
         }
@@ -245,15 +490,24 @@ public class NotificationDAO {
      * @throws MatisenseException if update fails
      */
     public boolean markAllAsReadForUser(int userId) throws MatisenseException {
-        String sql = "UPDATE notifications SET is_read = true, updated_at = CURRENT_TIMESTAMP WHERE user_id = ?";
+        String sql = NamedQuery.NOTIFICATION_MARK_ALL_AS_READ_FOR_USER.getSql();
         
-        try (Connection conn = dbConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, userId);
-            
-            int affectedRows = pstmt.executeUpdate();
-            return affectedRows > 0;
+        try (Connection conn = dbConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                int affectedRows;
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setInt(1, userId);
+                    affectedRows = pstmt.executeUpdate();
+                }
+                
+                UnreadCounters.clear(conn, userId);
+                conn.commit();
+                return affectedRows > 0;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
         } catch (SQLException e) {
             throw new MatisenseException("Error marking all notifications as read: " + e.getMessage(), e);
         }
@@ -266,15 +520,32 @@ public class NotificationDAO {
      * @throws MatisenseException if deletion fails
      */
     public boolean delete(int id) throws MatisenseException {
-        String sql = "DELETE FROM notifications WHERE notification_id = ?";
+        String sql = NamedQuery.NOTIFICATION_DELETE.getSql();
         
-        try (Connection conn = dbConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, id);
-            
-            int affectedRows = pstmt.executeUpdate();
-            return affectedRows > 0;
+        try (Connection conn = dbConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                NotificationState old = lockState(conn, id);
+                if (old == null) {
+                    conn.rollback();
+                    return false;
+                }
+                
+                int affectedRows;
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setInt(1, id);
+                    affectedRows = pstmt.executeUpdate();
+                }
+                
+                if (!old.read) {
+                    UnreadCounters.add(conn, old.userId, -1);
+                }
+                conn.commit();
+                return affectedRows > 0;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
         } catch (SQLException e) {
             throw new MatisenseException("Error deleting notification: " + e.getMessage(), e);
         }
@@ -282,26 +553,48 @@ public class NotificationDAO {
     
     /**
      * Get unread count for user
+     * Primary-key lookup on the maintained counter; does not scan notifications.
      * @param userId User ID
      * @return Count of unread notifications
      * @throws MatisenseException if count fails
      */
     public int getUnreadCount(int userId) throws MatisenseException {
-        String sql = "SELECT COUNT(*) FROM notifications WHERE user_id = ? AND is_read = false";
-        
-        try (Connection conn = dbConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, userId);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1);
+        try (Connection conn = dbConfig.getConnection()) {
+            return UnreadCounters.read(conn, userId);
+        } catch (SQLException e) {
+            throw new MatisenseException("Error counting unread notifications: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Recount unread notifications for every user and fix counters that drifted
+     * Users are walked in user_id order in chunks; the counts are non-locking reads, so
+     * notification writes are never blocked by the recount.
+     * @return Number of counters whose value was actually changed
+     * @throws MatisenseException if the recount fails
+     */
+    public int reconcileUnreadCounters() throws MatisenseException {
+        try (Connection conn = dbConfig.getConnection()) {
+            int corrected = 0;
+            int afterUserId = 0;
+            Integer lastUserId;
+            while ((lastUserId = UnreadCounters.findChunkEnd(conn, afterUserId, RECONCILE_CHUNK_SIZE)) != null) {
+                // One short transaction per chunk; its reads share one snapshot
+                conn.setAutoCommit(false);
+                try {
+                    corrected += UnreadCounters.reconcileRange(conn, afterUserId, lastUserId);
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                } finally {
+                    conn.setAutoCommit(true);
                 }
-                return 0;
+                afterUserId = lastUserId;
             }
+            return corrected;
         } catch (SQLException e) {
-            throw new MatisenseException("Error counting unread notifications: " + e.getMessage(), e);
+            throw new MatisenseException("Error reconciling unread counters: " + e.getMessage(), e);
         }
     }
     
@@ -315,30 +608,237 @@ public class NotificationDAO {
      */
     public void createForAllUsers(String title, String message, Notification.NotificationType type, Integer relatedId) 
             throws MatisenseException {
-        // This would require getting all users and creating notifications for each
-        // For simplicity, we'll implement a basic version
-        String sql = "INSERT INTO notifications (user_id, title, message, notification_type, related_id, is_read) " +
-                    "SELECT user_id, ?, ?, ?, ?, false FROM users";
+        String sql = NamedQuery.NOTIFICATION_INSERT_FOR_ALL_USERS.getSql();
         
-        try (Connection conn = dbConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setString(1, title);
-            pstmt.setString(2, message);
-            pstmt.setString(3, type.getDisplayName());
-            
-            if (relatedId != null) {
-                pstmt.setInt(4, relatedId);
-            } else {
-                pstmt.setNull(4, Types.INTEGER);
+        try (Connection conn = dbConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, title);
+                    pstmt.setString(2, message);
+                    pstmt.setString(3, type.getDisplayName());
+                    
+                    if (relatedId != null) {
+                        pstmt.setInt(4, relatedId);
+                    } else {
+                        pstmt.setNull(4, Types.INTEGER);
+                    }
+                    
+                    pstmt.executeUpdate();
+                }
+                
+                // Same user set as the insert above: INSERT ... SELECT holds shared locks on the users it read
+                try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.UNREAD_COUNTER_ADD_FOR_ALL_USERS.getSql())) {
+                    pstmt.executeUpdate();
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
             }
-            
-            pstmt.executeUpdate();
         } catch (SQLException e) {
             throw new MatisenseException("Error creating notifications for all users: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Create the same notification for every user with a role, optionally limited to an address segment
+     * Runs as a single INSERT ... SELECT on the server; no user rows are loaded into the application.
+     * @param role Recipient role
+     * @param addressSegment Text the recipient's address must contain (e.g. a purok or street), or null for everyone in the role
+     * @param title Notification title
+     * @param message Notification message
+     * @param type Notification type
+     * @param relatedId Related entity ID, or null
+     * @return Number of notifications created
+     * @throws MatisenseException if creation fails
+     */
+    public int createForAudience(User.UserRole role, String addressSegment, String title, String message,
+            Notification.NotificationType type, Integer relatedId) throws MatisenseException {
+        boolean segmented = addressSegment != null && !addressSegment.trim().isEmpty();
+        String sql = segmented
+                ? NamedQuery.NOTIFICATION_INSERT_FOR_ROLE_IN_SEGMENT.getSql()
+                : NamedQuery.NOTIFICATION_INSERT_FOR_ROLE.getSql();
+        String counterSql = segmented
+                ? NamedQuery.UNREAD_COUNTER_ADD_FOR_ROLE_IN_SEGMENT.getSql()
+                : NamedQuery.UNREAD_COUNTER_ADD_FOR_ROLE.getSql();
+        String pattern = segmented ? "%" + escapeLike(addressSegment.trim()) + "%" : null;
+        
+        try (Connection conn = dbConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                int created;
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, title);
+                    pstmt.setString(2, message);
+                    pstmt.setString(3, type.getDisplayName());
+                    
+                    if (relatedId != null) {
+                        pstmt.setInt(4, relatedId);
+                    } else {
+                        pstmt.setNull(4, Types.INTEGER);
+                    }
+                    
+                    pstmt.setString(5, role.getDisplayName());
+                    if (segmented) {
+                        pstmt.setString(6, pattern);
+                    }
+                    
+                    created = pstmt.executeUpdate();
+                }
+                
+                // Same user set as the insert above: INSERT ... SELECT holds shared locks on the users it read
+                try (PreparedStatement pstmt = conn.prepareStatement(counterSql)) {
+                    pstmt.setString(1, role.getDisplayName());
+                    if (segmented) {
+                        pstmt.setString(2, pattern);
+                    }
+                    pstmt.executeUpdate();
+                }
+                conn.commit();
+                return created;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new MatisenseException("Error creating notifications for audience: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Escape LIKE wildcards so the segment is matched literally
+     * @param value Raw text
+     * @return Text safe to embed in a LIKE pattern using '!' as escape character
+     */
+    private String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+    
+    /**
+     * Delete one chunk of read notifications created before a cutoff
+     * Rows are taken oldest first in (created_at, notification_id) order; each chunk is its own
+     * short transaction so inserts into notifications are never blocked for long.
+     * @param cutoff Notifications created before this time are deleted
+     * @param after Last row of the previous chunk, or null to start from the oldest
+     * @param chunkSize Maximum rows to delete (1..Page.MAX_PAGE_SIZE)
+     * @return IDs deleted, with the cursor for the next chunk or null if nothing is left
+     * @throws MatisenseException if deletion fails
+     */
+    public Page<Integer> purgeReadChunk(LocalDateTime cutoff, PageCursor after, int chunkSize)
+            throws MatisenseException {
+        return removeExpiredChunk(true, cutoff, after, chunkSize);
+    }
+    
+    /**
+     * Move one chunk of unread notifications created before a cutoff into notifications_archive
+     * The owners' unread counters are reduced in the same transaction.
+     * @param cutoff Notifications created before this time are archived
+     * @param after Last row of the previous chunk, or null to start from the oldest
+     * @param chunkSize Maximum rows to archive (1..Page.MAX_PAGE_SIZE)
+     * @return IDs archived, with the cursor for the next chunk or null if nothing is left
+     * @throws MatisenseException if archiving fails
+     */
+    public Page<Integer> archiveUnreadChunk(LocalDateTime cutoff, PageCursor after, int chunkSize)
+            throws MatisenseException {
+        return removeExpiredChunk(false, cutoff, after, chunkSize);
+    }
+    
+    /**
+     * Lock, optionally archive, and delete one chunk of expired notifications
+     * @param read true for read notifications (deleted), false for unread ones (archived)
+     */
+    private Page<Integer> removeExpiredChunk(boolean read, LocalDateTime cutoff, PageCursor after, int chunkSize)
+            throws MatisenseException {
+        if (cutoff == null || !Page.isValidPageSize(chunkSize)) {
+            throw new MatisenseException("Invalid retention chunk parameters");
+        }
+        String sql = after == null
+                ? NamedQuery.NOTIFICATION_LOCK_EXPIRED_FIRST.getSql()
+                : NamedQuery.NOTIFICATION_LOCK_EXPIRED_AFTER.getSql();
+        
+        try (Connection conn = dbConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                List<Integer> ids = new ArrayList<>();
+                Map<Integer, Integer> unreadByUser = new HashMap<>();
+                PageCursor last = null;
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    int index = 1;
+                    pstmt.setBoolean(index++, read);
+                    pstmt.setTimestamp(index++, Timestamp.valueOf(cutoff));
+                    if (after != null) {
+                        Timestamp createdAt = Timestamp.valueOf(after.getCreatedAt());
+                        pstmt.setTimestamp(index++, createdAt);
+                        pstmt.setTimestamp(index++, createdAt);
+                        pstmt.setInt(index++, after.getId());
+                    }
+                    pstmt.setInt(index, chunkSize);
+                    
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            int id = rs.getInt("notification_id");
+                            ids.add(id);
+                            unreadByUser.merge(rs.getInt("user_id"), -1, Integer::sum);
+                            last = new PageCursor(rs.getTimestamp("created_at").toLocalDateTime(), id);
+                        }
+                    }
+                }
+                
+                if (ids.isEmpty()) {
+                    conn.rollback();
+                    return new Page<>(ids, null);
+                }
+                
+                if (!read) {
+                    try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.NOTIFICATION_ARCHIVE.getSql())) {
+                        for (int id : ids) {
+                            pstmt.setInt(1, id);
+                            pstmt.addBatch();
+                        }
+                        pstmt.executeBatch();
+                    }
+                }
+                try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.NOTIFICATION_DELETE.getSql())) {
+                    for (int id : ids) {
+                        pstmt.setInt(1, id);
+                        pstmt.addBatch();
+                    }
+                    pstmt.executeBatch();
+                }
+                if (!read) {
+                    UnreadCounters.addAll(conn, unreadByUser);
+                }
+                conn.commit();
+                return new Page<>(ids, ids.size() == chunkSize ? last : null);
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new MatisenseException("Error removing expired notifications: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Lock a notification row and read the fields the unread counter depends on
+     * @param conn Connection with the open transaction
+     * @param notificationId Notification ID
+     * @return Current state, or null if the notification does not exist
+     * @throws SQLException if the read fails
+     */
+    private NotificationState lockState(Connection conn, int notificationId) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.NOTIFICATION_LOCK_STATE.getSql())) {
+            pstmt.setInt(1, notificationId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                return new NotificationState(rs.getInt("user_id"), rs.getBoolean("is_read"));
+            }
+        }
+    }
+    
     /**
      * Map ResultSet to Notification object
      * @param rs ResultSet
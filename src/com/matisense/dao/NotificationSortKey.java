@@ -0,0 +1,34 @@
+package com.matisense.dao;
+
+/**
+ * Columns a user's paged notification list can be sorted on by the database
+ * Each key follows an index that starts with user_id: (user_id) for the ID,
+ * (user_id, is_read) for the read flag and (user_id, created_at, notification_id) for the
+ * creation time. Ties are broken by notification_id in the same direction.
+ */
+public enum NotificationSortKey {
+    ID("notification_id"),
+    READ("is_read"),
+    CREATED("created_at");
+
+    private final String column;
+
+    NotificationSortKey(String column) {
+        this.column = column;
+    }
+
+    /**
+     * Build the ORDER BY list for this key
+     * @param alias Table alias to qualify the columns with, or null
+     * @param descending true for descending order
+     * @return ORDER BY expressions, without the ORDER BY keyword
+     */
+    String orderBy(String alias, boolean descending) {
+        String prefix = alias != null ? alias + "." : "";
+        String direction = descending ? " DESC" : " ASC";
+        if (this == ID) {
+            return prefix + column + direction;
+        }
+        return prefix + column + direction + ", " + prefix + "notification_id" + direction;
+    }
+}
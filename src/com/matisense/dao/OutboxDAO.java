@@ -0,0 +1,264 @@
+package com.matisense.dao;
+
+import com.matisense.model.OutboxEvent;
+import com.matisense.exception.MatisenseException;
+import com.matisense.config.DatabaseConfig;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Access Object for the notification outbox
+ * Events are enqueued by other DAOs inside their own transaction and claimed in
+ * batches by the notification dispatcher. Events that use up their attempts are moved to
+ * notification_outbox_dead_letter, which the retention job purges.
+ */
+public class OutboxDAO {
+    private static final int MAX_ERROR_LENGTH = 500;
+    
+    private final DatabaseConfig dbConfig;
+    
+    /**
+     * Constructor
+     */
+    public OutboxDAO() {
+        this.dbConfig = DatabaseConfig.getInstance();
+    }
+    
+    /**
+     * Add an event to the outbox on the caller's connection
+     * Must be called inside the transaction that makes the change the event describes.
+     * @param conn Connection with the open transaction
+     * @param event Event to enqueue
+     * @throws SQLException if the insert fails
+     */
+    void enqueue(Connection conn, OutboxEvent event) throws SQLException {
+        String sql = NamedQuery.OUTBOX_INSERT.getSql();
+        
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, event.getEventType().name());
+            pstmt.setInt(2, event.getEntityId());
+            pstmt.setString(3, event.getOldStatus());
+            pstmt.setString(4, event.getNewStatus());
+            pstmt.executeUpdate();
+        }
+    }
+    
+    /**
+     * Claim a batch of due events for one dispatcher run
+     * Claimed events are leased; if the claimer dies they become claimable again when the lease expires.
+     * @param claimToken Unique token for this claim
+     * @param limit Maximum number of events to claim
+     * @param leaseSeconds How long the claim is held
+     * @param maxAttempts Events that already failed this many times are left alone
+     * @return Claimed events in enqueue order
+     * @throws MatisenseException if claiming fails
+     */
+    public List<OutboxEvent> claimBatch(String claimToken, int limit, int leaseSeconds, int maxAttempts)
+            throws MatisenseException {
+        List<OutboxEvent> events = new ArrayList<>();
+        
+        try (Connection conn = dbConfig.getConnection()) {
+            try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.OUTBOX_CLAIM.getSql())) {
+                pstmt.setString(1, claimToken);
+                pstmt.setInt(2, leaseSeconds);
+                pstmt.setInt(3, maxAttempts);
+                pstmt.setInt(4, limit);
+                
+                if (pstmt.executeUpdate() == 0) {
+                    return events;
+                }
+            }
+            
+            try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.OUTBOX_FIND_BY_CLAIM.getSql())) {
+                pstmt.setString(1, claimToken);
+                
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        events.add(mapResultSetToEvent(rs));
+                    }
+                }
+            }
+            
+            return events;
+        } catch (SQLException e) {
+            throw new MatisenseException("Error claiming outbox events: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Remove an event whose notifications have been written
+     * @param id Outbox event ID
+     * @throws MatisenseException if deletion fails
+     */
+    public void markDispatched(long id) throws MatisenseException {
+        String sql = NamedQuery.OUTBOX_DELETE.getSql();
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, id);
+            pstmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new MatisenseException("Error removing outbox event: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Release a failed event for a later retry
+     * @param id Outbox event ID
+     * @param error Failure description
+     * @param retryDelaySeconds Delay before the event becomes claimable again
+     * @throws MatisenseException if the update fails
+     */
+    public void markFailed(long id, String error, int retryDelaySeconds) throws MatisenseException {
+        String sql = NamedQuery.OUTBOX_MARK_FAILED.getSql();
+        String message = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, retryDelaySeconds);
+            pstmt.setString(2, message);
+            pstmt.setLong(3, id);
+            pstmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new MatisenseException("Error recording outbox failure: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Move an event that used up its attempts to the dead-letter table
+     * Copy and delete run in one transaction. An event with attempts left stays in the outbox.
+     * @param id Outbox event ID
+     * @param maxAttempts Attempts after which an event is given up
+     * @return true if the event was moved
+     * @throws MatisenseException if the move fails
+     */
+    public boolean moveToDeadLetter(long id, int maxAttempts) throws MatisenseException {
+        try (Connection conn = dbConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.OUTBOX_DEAD_LETTER_INSERT.getSql())) {
+                    pstmt.setLong(1, id);
+                    pstmt.setInt(2, maxAttempts);
+                    pstmt.executeUpdate();
+                }
+                int deleted;
+                try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.OUTBOX_DELETE_EXHAUSTED.getSql())) {
+                    pstmt.setLong(1, id);
+                    pstmt.setInt(2, maxAttempts);
+                    deleted = pstmt.executeUpdate();
+                }
+                conn.commit();
+                return deleted > 0;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new MatisenseException("Error moving outbox event to dead letters: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Find events that used up their attempts but are still in the outbox
+     * @param maxAttempts Attempts after which an event is given up
+     * @param limit Maximum number of events to return
+     * @return Exhausted events in enqueue order
+     * @throws MatisenseException if the query fails
+     */
+    public List<OutboxEvent> findExhausted(int maxAttempts, int limit) throws MatisenseException {
+        List<OutboxEvent> events = new ArrayList<>();
+        String sql = NamedQuery.OUTBOX_FIND_EXHAUSTED.getSql();
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, maxAttempts);
+            pstmt.setInt(2, limit);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    events.add(mapResultSetToEvent(rs));
+                }
+            }
+            return events;
+        } catch (SQLException e) {
+            throw new MatisenseException("Error finding exhausted outbox events: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Delete one chunk of dead letters given up before a cutoff, oldest first
+     * @param cutoff Dead letters older than this are deleted
+     * @param chunkSize Maximum rows to delete
+     * @return Number of dead letters deleted
+     * @throws MatisenseException if deletion fails
+     */
+    public int purgeDeadLettersChunk(LocalDateTime cutoff, int chunkSize) throws MatisenseException {
+        String sql = NamedQuery.OUTBOX_DEAD_LETTER_PURGE.getSql();
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setTimestamp(1, Timestamp.valueOf(cutoff));
+            pstmt.setInt(2, chunkSize);
+            return pstmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new MatisenseException("Error purging outbox dead letters: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Get number of events still waiting to be dispatched
+     * @param maxAttempts Events that failed this many times are not counted
+     * @return Pending event count
+     * @throws MatisenseException if count fails
+     */
+    public int getPendingCount(int maxAttempts) throws MatisenseException {
+        String sql = NamedQuery.OUTBOX_PENDING_COUNT.getSql();
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, maxAttempts);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1);
+                }
+                return 0;
+            }
+        } catch (SQLException e) {
+            throw new MatisenseException("Error counting outbox events: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Map ResultSet to OutboxEvent object
+     * @param rs ResultSet
+     * @return OutboxEvent object
+     * @throws SQLException if mapping fails
+     */
+    private OutboxEvent mapResultSetToEvent(ResultSet rs) throws SQLException {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(rs.getLong("outbox_id"));
+        event.setEventType(OutboxEvent.EventType.fromString(rs.getString("event_type")));
+        event.setEntityId(rs.getInt("entity_id"));
+        event.setOldStatus(rs.getString("old_status"));
+        event.setNewStatus(rs.getString("new_status"));
+        event.setAttempts(rs.getInt("attempts"));
+        event.setLastError(rs.getString("last_error"));
+        
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        if (createdAt != null) {
+            event.setCreatedAt(createdAt.toLocalDateTime());
+        }
+        
+        return event;
+    }
+}
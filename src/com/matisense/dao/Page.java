@@ -0,0 +1,68 @@
+package com.matisense.dao;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list
+ * @param <T> Item type
+ */
+public class Page<T> {
+    // Upper bound on rows per page so a single request cannot pull a whole table
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final List<T> items;
+    private final PageCursor nextCursor;
+
+    /**
+     * Constructor
+     * @param items Items on this page
+     * @param nextCursor Cursor for the following page, or null if this is the last page
+     */
+    public Page(List<T> items, PageCursor nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Build a page from a query that fetched one row more than the page size
+     * @param rows Rows returned by the query (at most pageSize + 1)
+     * @param pageSize Requested page size
+     * @param cursorOf Extracts the cursor position of a row
+     * @param <T> Item type
+     * @return Page with the extra row dropped and the next cursor set if it existed
+     */
+    static <T> Page<T> fromLookahead(List<T> rows, int pageSize, Function<T, PageCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new Page<>(rows, null);
+        }
+        List<T> pageRows = rows.subList(0, pageSize);
+        return new Page<>(pageRows, cursorOf.apply(pageRows.get(pageSize - 1)));
+    }
+
+    /**
+     * Check a requested page size
+     * @param pageSize Requested page size
+     * @return true if within 1..MAX_PAGE_SIZE
+     */
+    static boolean isValidPageSize(int pageSize) {
+        return pageSize > 0 && pageSize <= MAX_PAGE_SIZE;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public PageCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Check if more rows follow this page
+     * @return true if getNextCursor() can be used to fetch another page
+     */
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
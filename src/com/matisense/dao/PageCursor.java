@@ -0,0 +1,39 @@
+package com.matisense.dao;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keyset pagination cursor for lists ordered by (created_at, id)
+ * Points at the last row of the previous page; the next page starts strictly after it
+ * in the list's direction (newest-first for display lists, oldest-first for retention chunks).
+ */
+public class PageCursor {
+    private final LocalDateTime createdAt;
+    private final int id;
+
+    /**
+     * Constructor
+     * @param createdAt Creation time of the last row already shown
+     * @param id ID of the last row already shown
+     */
+    public PageCursor(LocalDateTime createdAt, int id) {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Cursor creation time is required");
+        }
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "PageCursor[createdAt=" + createdAt + ", id=" + id + "]";
+    }
+}
@@ -1,25 +1,38 @@
 package com.matisense.dao;
 
+import com.matisense.model.OutboxEvent;
 import com.matisense.model.Report;
+import com.matisense.model.ReportListItem;
 import com.matisense.exception.MatisenseException;
 import com.matisense.config.DatabaseConfig;
+import com.matisense.util.EntityCache;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Data Access Object for Report operations
  * Implements CRUD operations and encapsulates database logic
  */
 public class ReportDAO {
+    private static final long CACHE_TTL_MILLIS = 5 * 60_000L;
+    // Re-read this much before the watermark so rows committed late with an older updated_at are not missed
+    private static final int CHANGE_OVERLAP_SECONDS = 2;
+    // findById cache shared by all ReportDAO instances
+    private static final EntityCache<Integer, Report> CACHE = new EntityCache<>(
+            "reports", 1000, CACHE_TTL_MILLIS, ReportDAO::copyReport);
+    
     private final DatabaseConfig dbConfig;
+    private final OutboxDAO outboxDAO;
     
     /**
      * Constructor
      */
     public ReportDAO() {
         this.dbConfig = DatabaseConfig.getInstance();
+        this.outboxDAO = new OutboxDAO();
     }
     
     /**
@@ -33,31 +46,40 @@ public class ReportDAO {
             throw new MatisenseException("Invalid report data");
         }
         
-        String sql = "INSERT INTO reports (resident_id, report_type, location, description, status) " +
-                    "VALUES (?, ?, ?, ?, ?)";
+        String sql = NamedQuery.REPORT_INSERT.getSql();
         
-        try (Connection conn = dbConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            pstmt.setInt(1, report.getResidentId());
-            pstmt.setString(2, report.getReportType());
-            pstmt.setString(3, report.getLocation());
-            pstmt.setString(4, report.getDescription());
-            pstmt.setString(5, report.getStatus().getDisplayName());
-            
-            int affectedRows = pstmt.executeUpdate();
-            
-            if (affectedRows == 0) {
-                throw new MatisenseException("Creating report failed, no rows affected.");
-            }
-            
-            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    report.setId(generatedKeys.getInt(1));
-                    return report;
-                } else {
-                    throw new MatisenseException("Creating report failed, no ID obtained.");
+        try (Connection conn = dbConfig.getConnection()) {
+            // Report, its outbox event and the status counter commit together
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                
+                pstmt.setInt(1, report.getResidentId());
+                pstmt.setString(2, report.getReportType());
+                pstmt.setString(3, report.getLocation());
+                pstmt.setString(4, report.getDescription());
+                pstmt.setString(5, report.getStatus().getDisplayName());
+                
+                int affectedRows = pstmt.executeUpdate();
+                
+                if (affectedRows == 0) {
+                    throw new MatisenseException("Creating report failed, no rows affected.");
                 }
+                
+                try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        report.setId(generatedKeys.getInt(1));
+                    } else {
+                        throw new MatisenseException("Creating report failed, no ID obtained.");
+                    }
+                }
+                
+                outboxDAO.enqueue(conn, OutboxEvent.reportSubmitted(report.getId()));
+                ReportStatusCounts.increment(conn, report.getStatus().getDisplayName());
+                conn.commit();
+                return report;
+            } catch (SQLException | MatisenseException e) {
+                conn.rollback();
+                throw e;
             }
         } catch (SQLException e) {
             throw new MatisenseException("Error creating report: " + e.getMessage(), e);
@@ -71,7 +93,12 @@ public class ReportDAO {
      * @throws MatisenseException if search fails
      */
     public Report findById(int id) throws MatisenseException {
-        String sql = "SELECT * FROM reports WHERE report_id = ?";
+        Report cached = CACHE.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long epoch = CACHE.currentEpoch();
+        String sql = NamedQuery.REPORT_FIND_BY_ID.getSql();
         
         try (Connection conn = dbConfig.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -80,7 +107,9 @@ public class ReportDAO {
             
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToReport(rs);
+                    Report report = mapResultSetToReport(rs);
+                    CACHE.put(id, report, epoch);
+                    return report;
                 }
                 return null;
             }
@@ -95,12 +124,12 @@ public class ReportDAO {
      * @throws MatisenseException if retrieval fails
      */
     public List<Report> findAll() throws MatisenseException {
-        String sql = "SELECT * FROM reports ORDER BY created_at DESC";
+        String sql = NamedQuery.REPORT_FIND_ALL.getSql();
         List<Report> reports = new ArrayList<>();
         
         try (Connection conn = dbConfig.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
             while (rs.next()) {
                 reports.add(mapResultSetToReport(rs));
@@ -112,6 +141,363 @@ public class ReportDAO {
         }
     }
     
+    /**
+     * Get all reports as list rows joined with the resident's name
+     * One query regardless of row count; only the first previewLength characters
+     * of each description are transferred.
+     * @param previewLength Maximum description characters per row
+     * @return List of report list items, newest first
+     * @throws MatisenseException if retrieval fails
+     */
+    public List<ReportListItem> findAllListItems(int previewLength) throws MatisenseException {
+        String sql = NamedQuery.REPORT_FIND_ALL_LIST_ITEMS.getSql();
+        List<ReportListItem> items = new ArrayList<>();
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, previewLength);
+            pstmt.setInt(2, previewLength);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    items.add(mapResultSetToListItem(rs));
+                }
+            }
+            
+            return items;
+        } catch (SQLException e) {
+            throw new MatisenseException("Error finding report list: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Get every report matching a filter as list rows, in the query's sort order
+     * Only the filters that are set reach the WHERE clause, so the rows are found with an
+     * index range scan rather than by reading every report.
+     * @param filters Filters and sort order, or null for all reports newest first
+     * @param previewLength Maximum description characters per row
+     * @return Matching list rows
+     * @throws MatisenseException if retrieval fails
+     */
+    public List<ReportListItem> findListItems(ReportQuery filters, int previewLength) throws MatisenseException {
+        ReportQuery f = filters != null ? filters : new ReportQuery();
+        String sql = NamedQuery.REPORT_FIND_LIST_ITEMS_FILTERED.getSql(f.toSqlConditions("r"),
+                f.getSortKey().orderBy("r", f.isSortDescending()), null);
+        List<ReportListItem> items = new ArrayList<>();
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            pstmt.setInt(index++, previewLength);
+            pstmt.setInt(index++, previewLength);
+            f.bindParameters(pstmt, index);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    items.add(mapResultSetToListItem(rs));
+                }
+            }
+            
+            return items;
+        } catch (SQLException e) {
+            throw new MatisenseException("Error finding filtered report list: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Get list rows for reports created or changed since a watermark
+     * The lower bound is inclusive and overlaps slightly, so the same row can be
+     * returned by consecutive calls; callers merge by report ID.
+     * @param since Watermark from the previous call
+     * @param residentId Only this resident's reports, or null for all reports
+     * @param previewLength Maximum description characters per row
+     * @return Changed rows, oldest change first
+     * @throws MatisenseException if retrieval fails
+     */
+    public List<ReportListItem> findChangedSince(ChangeWatermark since, Integer residentId, int previewLength)
+            throws MatisenseException {
+        String sql = residentId != null
+                ? NamedQuery.REPORT_FIND_CHANGED_SINCE_FOR_RESIDENT.getSql()
+                : NamedQuery.REPORT_FIND_CHANGED_SINCE.getSql();
+        List<ReportListItem> items = new ArrayList<>();
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            pstmt.setInt(index++, previewLength);
+            pstmt.setInt(index++, previewLength);
+            if (residentId != null) {
+                pstmt.setInt(index++, residentId);
+            }
+            pstmt.setTimestamp(index, Timestamp.valueOf(since.getUpdatedAt().minusSeconds(CHANGE_OVERLAP_SECONDS)));
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    items.add(mapResultSetToListItem(rs));
+                }
+            }
+            
+            return items;
+        } catch (SQLException e) {
+            throw new MatisenseException("Error finding changed reports: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Get one page of reports, newest first, using keyset pagination
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param pageSize Maximum number of reports on the page
+     * @return Page of reports with the cursor for the next page
+     * @throws MatisenseException if retrieval fails
+     */
+    public Page<Report> findPage(PageCursor after, int pageSize) throws MatisenseException {
+        if (!Page.isValidPageSize(pageSize)) {
+            throw new MatisenseException("Invalid page size: " + pageSize);
+        }
+        
+        String sql = after == null
+                ? NamedQuery.REPORT_FIND_FIRST_PAGE.getSql()
+                : NamedQuery.REPORT_FIND_PAGE_AFTER.getSql();
+        List<Report> reports = new ArrayList<>();
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            if (after != null) {
+                Timestamp createdAt = Timestamp.valueOf(after.getCreatedAt());
+                pstmt.setTimestamp(index++, createdAt);
+                pstmt.setTimestamp(index++, createdAt);
+                pstmt.setInt(index++, after.getId());
+            }
+            // Fetch one extra row to learn whether another page follows
+            pstmt.setInt(index, pageSize + 1);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    reports.add(mapResultSetToReport(rs));
+                }
+            }
+            
+            return Page.fromLookahead(reports, pageSize, r -> new PageCursor(r.getCreatedAt(), r.getId()));
+        } catch (SQLException e) {
+            throw new MatisenseException("Error finding report page: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Get one page of list rows matching a filter, newest first, using keyset pagination
+     * Lets a caller show the first rows of a long list after a single page fetch. The
+     * filter's sort order is ignored; pages are always ordered by (created_at, report_id).
+     * @param filters Filters, or null for all reports
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param pageSize Maximum number of rows on the page
+     * @param previewLength Maximum description characters per row
+     * @return Page of list rows with the cursor for the next page
+     * @throws MatisenseException if retrieval fails
+     */
+    public Page<ReportListItem> findListItemPage(ReportQuery filters, PageCursor after, int pageSize,
+            int previewLength) throws MatisenseException {
+        if (!Page.isValidPageSize(pageSize)) {
+            throw new MatisenseException("Invalid page size: " + pageSize);
+        }
+        
+        ReportQuery f = filters != null ? filters : new ReportQuery();
+        NamedQuery query = after == null
+                ? NamedQuery.REPORT_FIND_LIST_ITEM_FIRST_PAGE
+                : NamedQuery.REPORT_FIND_LIST_ITEM_PAGE_AFTER;
+        String sql = query.getSql(f.toSqlConditions("r"), null, null);
+        List<ReportListItem> items = new ArrayList<>();
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            pstmt.setInt(index++, previewLength);
+            pstmt.setInt(index++, previewLength);
+            if (after != null) {
+                Timestamp createdAt = Timestamp.valueOf(after.getCreatedAt());
+                pstmt.setTimestamp(index++, createdAt);
+                pstmt.setTimestamp(index++, createdAt);
+                pstmt.setInt(index++, after.getId());
+            }
+            index = f.bindParameters(pstmt, index);
+            // Fetch one extra row to learn whether another page follows
+            pstmt.setInt(index, pageSize + 1);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    items.add(mapResultSetToListItem(rs));
+                }
+            }
+            
+            return Page.fromLookahead(items, pageSize, r -> new PageCursor(r.getCreatedAt(), r.getReportId()));
+        } catch (SQLException e) {
+            throw new MatisenseException("Error finding report list page: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Search reports by description, location and type, best match first
+     * Runs against the full-text index, so only the requested page is transferred.
+     * @param query Words to search for; each must appear, as a whole word or word prefix
+     * @param filters Additional filters, or null for none
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param pageSize Maximum number of results on the page
+     * @param previewLength Maximum description characters per row
+     * @return Page of matching list rows with the cursor for the next page
+     * @throws MatisenseException if the search fails
+     */
+    public SearchPage<ReportListItem> search(String query, ReportQuery filters, SearchCursor after,
+            int pageSize, int previewLength) throws MatisenseException {
+        if (!Page.isValidPageSize(pageSize)) {
+            throw new MatisenseException("Invalid page size: " + pageSize);
+        }
+        String expression = FullTextQuery.toBooleanMode(query);
+        int offset = after != null ? after.getOffset() : 0;
+        if (expression == null || offset > SearchPage.MAX_OFFSET) {
+            return SearchPage.empty();
+        }
+        ReportQuery f = filters != null ? filters : new ReportQuery();
+        
+        String sql = NamedQuery.REPORT_SEARCH.getSql(f.toSqlConditions("r"), null, null);
+        List<ReportListItem> items = new ArrayList<>();
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            pstmt.setInt(index++, previewLength);
+            pstmt.setInt(index++, previewLength);
+            pstmt.setString(index++, expression);
+            pstmt.setString(index++, expression);
+            index = f.bindParameters(pstmt, index);
+            // Fetch one extra row to learn whether another page follows
+            pstmt.setInt(index++, pageSize + 1);
+            pstmt.setInt(index, offset);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    items.add(mapResultSetToListItem(rs));
+                }
+            }
+            
+            return SearchPage.fromLookahead(items, offset, pageSize);
+        } catch (SQLException e) {
+            throw new MatisenseException("Error searching reports: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Count the search results that search() can page through
+     * Counting stops at SearchPage.MAX_OFFSET, the deepest result search() serves.
+     * @param query Words to search for, as given to search()
+     * @param filters Additional filters, or null for none
+     * @return Number of matching reports, at most SearchPage.MAX_OFFSET
+     * @throws MatisenseException if counting fails
+     */
+    public int countSearchResults(String query, ReportQuery filters) throws MatisenseException {
+        String expression = FullTextQuery.toBooleanMode(query);
+        if (expression == null) {
+            return 0;
+        }
+        ReportQuery f = filters != null ? filters : new ReportQuery();
+        String sql = NamedQuery.REPORT_COUNT_SEARCH.getSql(f.toSqlConditions("r"), null, null);
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            pstmt.setString(index++, expression);
+            index = f.bindParameters(pstmt, index);
+            pstmt.setInt(index, SearchPage.MAX_OFFSET);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw new MatisenseException("Error counting search results: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Count the reports matching a filter
+     * The unfiltered total comes from the maintained status counters. Filtered counts use the
+     * same predicate as findListItemWindow, on the index of the most selective filter, so they
+     * always match the rows a window query returns; the counters fold unknown status spellings
+     * into a known status and would not.
+     * @param filters Filters, or null for all reports
+     * @return Number of matching reports
+     * @throws MatisenseException if counting fails
+     */
+    public int countListItems(ReportQuery filters) throws MatisenseException {
+        ReportQuery f = filters != null ? filters : new ReportQuery();
+        if (f.getStatus() == null && f.getReportType() == null && f.getResidentId() == null && !f.hasCreatedRange()) {
+            return getStatusHistogram().values().stream().mapToInt(Integer::intValue).sum();
+        }
+        
+        String sql = NamedQuery.REPORT_COUNT_FILTERED.getSql(f.toSqlConditions(null), null, null);
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            f.bindParameters(pstmt, 1);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw new MatisenseException("Error counting reports: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Get a window of list rows at an arbitrary position, in the query's sort order
+     * Used for scrolling a virtual table; the window is located on the sort key's index
+     * before any row data or resident names are read.
+     * @param filters Filters and sort order, or null for all reports newest first
+     * @param offset Position of the first row in the sorted, filtered list
+     * @param limit Maximum rows to return (1..Page.MAX_PAGE_SIZE)
+     * @param previewLength Maximum description characters per row
+     * @return Rows in the window, in sort order
+     * @throws MatisenseException if retrieval fails
+     */
+    public List<ReportListItem> findListItemWindow(ReportQuery filters, int offset, int limit, int previewLength)
+            throws MatisenseException {
+        if (offset < 0 || !Page.isValidPageSize(limit)) {
+            throw new MatisenseException("Invalid report window: offset " + offset + ", limit " + limit);
+        }
+        ReportQuery f = filters != null ? filters : new ReportQuery();
+        String sql = NamedQuery.REPORT_FIND_LIST_ITEM_WINDOW.getSql(f.toSqlConditions(null),
+                f.getSortKey().orderBy(null, f.isSortDescending()),
+                f.getSortKey().orderBy("r", f.isSortDescending()));
+        List<ReportListItem> items = new ArrayList<>(limit);
+        
+        try (Connection conn = dbConfig.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            pstmt.setInt(index++, previewLength);
+            pstmt.setInt(index++, previewLength);
+            index = f.bindParameters(pstmt, index);
+            pstmt.setInt(index++, limit);
+            pstmt.setInt(index, offset);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    items.add(mapResultSetToListItem(rs));
+                }
+            }
+            
+            return items;
+        } catch (SQLException e) {
+            throw new MatisenseException("Error finding report window: " + e.getMessage(), e);
+        }
+    }
+    
     /**
      * Get reports by resident ID
      * @param residentId Resident ID
@@ -119,7 +505,7 @@ public class ReportDAO {
      * @throws MatisenseException if retrieval fails
      */
     public List<Report> findByResidentId(int residentId) throws MatisenseException {
-        String sql = "SELECT * FROM reports WHERE resident_id = ? ORDER BY created_at DESC";
+        String sql = NamedQuery.REPORT_FIND_BY_RESIDENT_ID.getSql();
         List<Report> reports = new ArrayList<>();
         
         try (Connection conn = dbConfig.getConnection();
@@ -146,7 +532,7 @@ public class ReportDAO {
      * @throws MatisenseException if retrieval fails
      */
     public List<Report> findByStatus(Report.ReportStatus status) throws MatisenseException {
-        String sql = "SELECT * FROM reports WHERE status = ? ORDER BY created_at DESC";
+        String sql = NamedQuery.REPORT_FIND_BY_STATUS.getSql();
         List<Report> reports = new ArrayList<>();
         
         try (Connection conn = dbConfig.getConnection();
@@ -177,25 +563,39 @@ public class ReportDAO {
             throw new MatisenseException("Invalid report data for update");
         }
         
-        String sql = "UPDATE reports SET resident_id = ?, report_type = ?, location = ?, " +
-                    "description = ?, status = ?, updated_at = CURRENT_TIMESTAMP WHERE report_id = ?";
+        String sql = NamedQuery.REPORT_UPDATE.getSql();
         
-        try (Connection conn = dbConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, report.getResidentId());
-            pstmt.setString(2, report.getReportType());
-            pstmt.setString(3, report.getLocation());
-            pstmt.setString(4, report.getDescription());
-            pstmt.setString(5, report.getStatus().getDisplayName());
-            pstmt.setInt(6, report.getId());
-            
-            int affectedRows = pstmt.executeUpdate();
-            
-            if (affectedRows == 0) {
-                throw new MatisenseException("Updating report failed, no rows affected.");
+        try (Connection conn = dbConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                String oldStatus = lockStatus(conn, report.getId());
+                if (oldStatus == null) {
+                    throw new MatisenseException("Updating report failed, no rows affected.");
+                }
+                
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setInt(1, report.getResidentId());
+                    pstmt.setString(2, report.getReportType());
+                    pstmt.setString(3, report.getLocation());
+                    pstmt.setString(4, report.getDescription());
+                    pstmt.setString(5, report.getStatus().getDisplayName());
+                    pstmt.setInt(6, report.getId());
+                    
+                    int affectedRows = pstmt.executeUpdate();
+                    
+                    if (affectedRows == 0) {
+                        throw new MatisenseException("Updating report failed, no rows affected.");
+                    }
+                }
+                
+                ReportStatusCounts.move(conn, oldStatus, report.getStatus().getDisplayName());
+                conn.commit();
+            } catch (SQLException | MatisenseException e) {
+                conn.rollback();
+                throw e;
             }
             
+            CACHE.invalidate(report.getId());
             return report;
         } catch (SQLException e) {
             throw new MatisenseException("Error updating report: " + e.getMessage(), e);
@@ -204,22 +604,43 @@ public class ReportDAO {
     
     /**
      * Update report status
+     * A real status change also enqueues a notification event in the same transaction.
      * @param reportId Report ID
      * @param status New status
      * @return true if updated, false otherwise
      * @throws MatisenseException if update fails
      */
     public boolean updateStatus(int reportId, Report.ReportStatus status) throws MatisenseException {
-        String sql = "UPDATE reports SET status = ?, updated_at = CURRENT_TIMESTAMP WHERE report_id = ?";
-        
-        try (Connection conn = dbConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setString(1, status.getDisplayName());
-            pstmt.setInt(2, reportId);
-            
-            int affectedRows = pstmt.executeUpdate();
-            return affectedRows > 0;
+        try (Connection conn = dbConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                String oldStatus = lockStatus(conn, reportId);
+                if (oldStatus == null) {
+                    conn.rollback();
+                    return false;
+                }
+                
+                int affectedRows;
+                try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.REPORT_UPDATE_STATUS.getSql())) {
+                    pstmt.setString(1, status.getDisplayName());
+                    pstmt.setInt(2, reportId);
+                    affectedRows = pstmt.executeUpdate();
+                }
+                
+                Report.ReportStatus previous = Report.ReportStatus.fromString(oldStatus);
+                if (affectedRows > 0 && previous != status) {
+                    outboxDAO.enqueue(conn, OutboxEvent.reportStatusChanged(reportId, previous, status));
+                }
+                if (affectedRows > 0) {
+                    ReportStatusCounts.move(conn, oldStatus, status.getDisplayName());
+                }
+                conn.commit();
+                CACHE.invalidate(reportId);
+                return affectedRows > 0;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
         } catch (SQLException e) {
             throw new MatisenseException("Error updating report status: " + e.getMessage(), e);
         }
@@ -232,15 +653,33 @@ public class ReportDAO {
      * @throws MatisenseException if deletion fails
      */
     public boolean delete(int id) throws MatisenseException {
-        String sql = "DELETE FROM reports WHERE report_id = ?";
+        String sql = NamedQuery.REPORT_DELETE.getSql();
         
-        try (Connection conn = dbConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, id);
-            
-            int affectedRows = pstmt.executeUpdate();
-            return affectedRows > 0;
+        try (Connection conn = dbConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                String oldStatus = lockStatus(conn, id);
+                if (oldStatus == null) {
+                    conn.rollback();
+                    return false;
+                }
+                
+                int affectedRows;
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setInt(1, id);
+                    affectedRows = pstmt.executeUpdate();
+                }
+                
+                if (affectedRows > 0) {
+                    ReportStatusCounts.decrement(conn, oldStatus);
+                }
+                conn.commit();
+                CACHE.invalidate(id);
+                return affectedRows > 0;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
         } catch (SQLException e) {
             throw new MatisenseException("Error deleting report: " + e.getMessage(), e);
         }
@@ -248,29 +687,124 @@ public class ReportDAO {
     
     /**
      * Get report count by status
+     * Reads the maintained counters instead of counting rows.
      * @param status Report status
      * @return Count of reports with specified status
      * @throws MatisenseException if count fails
      */
     public int getCountByStatus(Report.ReportStatus status) throws MatisenseException {
-        String sql = "SELECT COUNT(*) FROM reports WHERE status = ?";
-        
-        try (Connection conn = dbConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setString(1, status.getDisplayName());
-            
+        return getStatusHistogram().get(status);
+    }
+    
+    /**
+     * Get the number of reports in every status with a single query
+     * Served from the report_status_counts table, so the cost does not grow with the number of reports.
+     * @return Report count per status; every status is present
+     * @throws MatisenseException if retrieval fails
+     */
+    public Map<Report.ReportStatus, Integer> getStatusHistogram() throws MatisenseException {
+        try (Connection conn = dbConfig.getConnection()) {
+            return ReportStatusCounts.read(conn);
+        } catch (SQLException e) {
+            throw new MatisenseException("Error reading report status counts: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Recount the status counters from the reports table and fix counters that drifted
+     * Repairs drift from changes made outside this DAO (e.g. manual SQL). The recount is a
+     * non-locking read, and only counters whose value differs are written.
+     * @return Number of counters whose value was actually changed
+     * @throws MatisenseException if the recount fails
+     */
+    public int reconcileStatusCounts() throws MatisenseException {
+        try (Connection conn = dbConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                int corrected = ReportStatusCounts.reconcile(conn);
+                conn.commit();
+                return corrected;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new MatisenseException("Error reconciling report status counts: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Lock a report row and read its stored status
+     * @param conn Connection with the open transaction
+     * @param reportId Report ID
+     * @return Stored status, or null if the report does not exist
+     * @throws SQLException if the read fails
+     */
+    private String lockStatus(Connection conn, int reportId) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.REPORT_LOCK_STATUS.getSql())) {
+            pstmt.setInt(1, reportId);
             try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1);
+                if (!rs.next()) {
+                    return null;
                 }
-                return 0;
+                String status = rs.getString("status");
+                return status != null ? status : Report.ReportStatus.PENDING.getDisplayName();
             }
-        } catch (SQLException e) {
-            throw new MatisenseException("Error counting reports by status: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Map ResultSet to ReportListItem object
+     * @param rs ResultSet
+     * @return ReportListItem object
+     * @throws SQLException if mapping fails
+     */
+    private ReportListItem mapResultSetToListItem(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        
+        return new ReportListItem(
+                rs.getInt("report_id"),
+                rs.getInt("resident_id"),
+                rs.getString("resident_name"),
+                rs.getString("report_type"),
+                rs.getString("location"),
+                rs.getString("description_preview"),
+                rs.getBoolean("description_truncated"),
+                Report.ReportStatus.fromString(rs.getString("status")),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                updatedAt != null ? updatedAt.toLocalDateTime() : null);
+    }
+    
+    /**
+     * Get findById cache statistics
+     * @return Cache statistics snapshot
+     */
+    public static EntityCache.Stats getCacheStats() {
+        return CACHE.getStats();
+    }
+    
+    /**
+     * Drop every cached report, e.g. after a change that cascades to many rows
+     */
+    static void invalidateCache() {
+        CACHE.invalidateAll();
+    }
+    
+    /**
+     * Copy a report so cached instances are never shared with callers
+     * @param source Report to copy
+     * @return Independent copy
+     */
+    private static Report copyReport(Report source) {
+        Report copy = new Report(source.getId(), source.getResidentId(), source.getReportType(),
+                source.getLocation(), source.getDescription(), source.getStatus());
+        // Timestamps last; the setters above touch updatedAt
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        return copy;
+    }
+    
     /**
      * Map ResultSet to Report object
      * @param rs ResultSet
@@ -0,0 +1,167 @@
+package com.matisense.dao;
+
+import com.matisense.model.Report;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters applied to report lists and searches, and the order of paged report lists
+ * A null filter means "any"; an empty ReportQuery matches every report, newest first.
+ * Only the filters that are set become SQL conditions, so each can be served by an index
+ * led by its column and followed by created_at (SchemaMigrator V10).
+ * The sort order is ignored by full-text search, which orders by relevance.
+ */
+public class ReportQuery {
+    private Report.ReportStatus status;
+    private String reportType;
+    private Integer residentId;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdBefore;
+    private ReportSortKey sortKey = ReportSortKey.CREATED;
+    private boolean sortDescending = true;
+
+    /**
+     * Constructor for a query without filters
+     */
+    public ReportQuery() {
+    }
+
+    public Report.ReportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Report.ReportStatus status) {
+        this.status = status;
+    }
+
+    public String getReportType() {
+        return reportType;
+    }
+
+    public void setReportType(String reportType) {
+        this.reportType = reportType;
+    }
+
+    public Integer getResidentId() {
+        return residentId;
+    }
+
+    public void setResidentId(Integer residentId) {
+        this.residentId = residentId;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public LocalDateTime getCreatedBefore() {
+        return createdBefore;
+    }
+
+    /**
+     * Limit reports to a creation time range
+     * @param from Earliest creation time (inclusive), or null for no lower bound
+     * @param before Creation time limit (exclusive), or null for no upper bound
+     */
+    public void setCreatedRange(LocalDateTime from, LocalDateTime before) {
+        this.createdFrom = from;
+        this.createdBefore = before;
+    }
+
+    /**
+     * Limit reports to those created on one day
+     * @param day Creation date
+     */
+    public void setCreatedOn(LocalDate day) {
+        setCreatedRange(day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Check if a creation time bound is set
+     * @return true if createdFrom or createdBefore is set
+     */
+    public boolean hasCreatedRange() {
+        return createdFrom != null || createdBefore != null;
+    }
+
+    public ReportSortKey getSortKey() {
+        return sortKey;
+    }
+
+    public boolean isSortDescending() {
+        return sortDescending;
+    }
+
+    /**
+     * Set the order of paged report lists
+     * @param sortKey Sort column; null restores the default (creation time)
+     * @param descending true for descending order
+     */
+    public void setSort(ReportSortKey sortKey, boolean descending) {
+        this.sortKey = sortKey != null ? sortKey : ReportSortKey.CREATED;
+        this.sortDescending = descending;
+    }
+
+    /**
+     * Build the SQL conditions for the filters that are set
+     * @param alias Table alias to qualify the columns with, or null
+     * @return Conditions, each starting with " AND "; empty if no filter is set
+     */
+    String toSqlConditions(String alias) {
+        String prefix = alias != null ? alias + "." : "";
+        StringBuilder conditions = new StringBuilder();
+        if (status != null) {
+            conditions.append(" AND ").append(prefix).append("status = ?");
+        }
+        if (reportType != null) {
+            conditions.append(" AND ").append(prefix).append("report_type = ?");
+        }
+        if (residentId != null) {
+            conditions.append(" AND ").append(prefix).append("resident_id = ?");
+        }
+        if (createdFrom != null) {
+            conditions.append(" AND ").append(prefix).append("created_at >= ?");
+        }
+        if (createdBefore != null) {
+            conditions.append(" AND ").append(prefix).append("created_at < ?");
+        }
+        return conditions.toString();
+    }
+
+    /**
+     * Bind the parameters of toSqlConditions, in the same order
+     * @param pstmt Statement to bind
+     * @param index Index of the first filter parameter
+     * @return Index of the next parameter
+     * @throws SQLException if binding fails
+     */
+    int bindParameters(PreparedStatement pstmt, int index) throws SQLException {
+        if (status != null) {
+            pstmt.setString(index++, status.getDisplayName());
+        }
+        if (reportType != null) {
+            pstmt.setString(index++, reportType);
+        }
+        if (residentId != null) {
+            pstmt.setInt(index++, residentId);
+        }
+        if (createdFrom != null) {
+            pstmt.setTimestamp(index++, Timestamp.valueOf(createdFrom));
+        }
+        if (createdBefore != null) {
+            pstmt.setTimestamp(index++, Timestamp.valueOf(createdBefore));
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "ReportQuery[status=" + status + ", reportType=" + reportType + ", residentId=" + residentId
+                + ", created=[" + createdFrom + ", " + createdBefore + ")"
+                + ", sort=" + sortKey + (sortDescending ? " DESC" : " ASC") + "]";
+    }
+}
@@ -0,0 +1,37 @@
+package com.matisense.dao;
+
+/**
+ * Columns a paged report list can be sorted on by the database
+ * Each key has an index whose order matches (report_id, the primary key, is implicitly the
+ * last column of every secondary index), so a sorted window is read in index order instead
+ * of sorting every report. Ties are broken by report_id in the same direction, which keeps
+ * window boundaries stable while scrolling.
+ */
+public enum ReportSortKey {
+    ID("report_id"),
+    TYPE("report_type"),
+    STATUS("status"),
+    CREATED("created_at"),
+    UPDATED("updated_at");
+
+    private final String column;
+
+    ReportSortKey(String column) {
+        this.column = column;
+    }
+
+    /**
+     * Build the ORDER BY list for this key
+     * @param alias Table alias to qualify the columns with, or null
+     * @param descending true for descending order
+     * @return ORDER BY expressions, without the ORDER BY keyword
+     */
+    String orderBy(String alias, boolean descending) {
+        String prefix = alias != null ? alias + "." : "";
+        String direction = descending ? " DESC" : " ASC";
+        if (this == ID) {
+            return prefix + column + direction;
+        }
+        return prefix + column + direction + ", " + prefix + "report_id" + direction;
+    }
+}
@@ -0,0 +1,149 @@
+package com.matisense.dao;
+
+import com.matisense.model.Report;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maintenance of the report_status_counts table
+ * Every method runs on the caller's connection so the counter change commits or
+ * rolls back together with the report change that caused it.
+ */
+final class ReportStatusCounts {
+
+    private ReportStatusCounts() {
+    }
+
+    /**
+     * Count one more report with a status
+     * @param conn Connection with the open transaction
+     * @param status Stored status value
+     * @throws SQLException if the update fails
+     */
+    static void increment(Connection conn, String status) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.REPORT_STATUS_COUNT_INCREMENT.getSql())) {
+            pstmt.setString(1, normalize(status));
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Count one report less with a status
+     * @param conn Connection with the open transaction
+     * @param status Stored status value
+     * @throws SQLException if the update fails
+     */
+    static void decrement(Connection conn, String status) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.REPORT_STATUS_COUNT_DECREMENT.getSql())) {
+            pstmt.setString(1, normalize(status));
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Move one report from one status to another
+     * @param conn Connection with the open transaction
+     * @param oldStatus Stored status before the change
+     * @param newStatus Stored status after the change
+     * @throws SQLException if the update fails
+     */
+    static void move(Connection conn, String oldStatus, String newStatus) throws SQLException {
+        if (normalize(oldStatus).equals(normalize(newStatus))) {
+            return;
+        }
+        decrement(conn, oldStatus);
+        increment(conn, newStatus);
+    }
+
+    /**
+     * Subtract all of a resident's reports, before the resident (and by cascade the reports) is deleted
+     * @param conn Connection with the open transaction
+     * @param residentId Resident ID
+     * @throws SQLException if the update fails
+     */
+    static void removeResident(Connection conn, int residentId) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.REPORT_STATUS_COUNT_REMOVE_RESIDENT.getSql())) {
+            pstmt.setInt(1, residentId);
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Recount every status from the reports table and correct counters that drifted
+     * The recount is a plain consistent read, so report writes are not blocked. A counter is
+     * only written if it differs, and only if it still holds the value that was read; one
+     * changed by a concurrent transaction is left for the next run.
+     * @param conn Connection with the open transaction
+     * @return Number of counters actually corrected
+     * @throws SQLException if the recount fails
+     */
+    static int reconcile(Connection conn) throws SQLException {
+        Map<String, Integer> counters = readAll(conn, NamedQuery.REPORT_STATUS_COUNT_FIND_ALL);
+        Map<String, Integer> actual = readAll(conn, NamedQuery.REPORT_STATUS_COUNT_RECOUNT);
+
+        int corrected = 0;
+        try (PreparedStatement update = conn.prepareStatement(NamedQuery.REPORT_STATUS_COUNT_CORRECT.getSql());
+             PreparedStatement insert = conn.prepareStatement(NamedQuery.REPORT_STATUS_COUNT_INSERT_MISSING.getSql())) {
+            for (Map.Entry<String, Integer> counter : counters.entrySet()) {
+                int expected = actual.getOrDefault(counter.getKey(), 0);
+                if (counter.getValue() != expected) {
+                    update.setInt(1, expected);
+                    update.setString(2, counter.getKey());
+                    update.setInt(3, counter.getValue());
+                    corrected += update.executeUpdate();
+                }
+            }
+            for (Map.Entry<String, Integer> count : actual.entrySet()) {
+                if (!counters.containsKey(count.getKey())) {
+                    insert.setString(1, count.getKey());
+                    insert.setInt(2, count.getValue());
+                    corrected += insert.executeUpdate();
+                }
+            }
+        }
+        return corrected;
+    }
+
+    private static Map<String, Integer> readAll(Connection conn, NamedQuery query) throws SQLException {
+        Map<String, Integer> values = new HashMap<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(query.getSql());
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                values.put(rs.getString(1), rs.getInt(2));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Read all counters
+     * @param conn Connection to read with
+     * @return Report count per status; every status is present
+     * @throws SQLException if the read fails
+     */
+    static Map<Report.ReportStatus, Integer> read(Connection conn) throws SQLException {
+        Map<Report.ReportStatus, Integer> histogram = new EnumMap<>(Report.ReportStatus.class);
+        for (Report.ReportStatus status : Report.ReportStatus.values()) {
+            histogram.put(status, 0);
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.REPORT_STATUS_COUNT_FIND_ALL.getSql());
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                // Legacy spellings of a status fold into the same bucket
+                histogram.merge(Report.ReportStatus.fromString(rs.getString("status")),
+                        Math.max(0, rs.getInt("report_count")), Integer::sum);
+            }
+        }
+        return histogram;
+    }
+
+    private static String normalize(String status) {
+        return status != null ? status : Report.ReportStatus.PENDING.getDisplayName();
+    }
+}
@@ -0,0 +1,30 @@
+package com.matisense.dao;
+
+/**
+ * Position in a ranked search result
+ * Relevance scores are not a stable sort key, so search results are paged by offset
+ * into the ranked list rather than by keyset.
+ */
+public class SearchCursor {
+    private final int offset;
+
+    /**
+     * Constructor
+     * @param offset Number of ranked results already returned
+     */
+    public SearchCursor(int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Search offset cannot be negative");
+        }
+        this.offset = offset;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchCursor[offset=" + offset + "]";
+    }
+}
@@ -0,0 +1,67 @@
+package com.matisense.dao;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of ranked search results, best match first
+ * @param <T> Item type
+ */
+public class SearchPage<T> {
+    // Deepest offset served; past this the user should narrow the search instead of paging
+    public static final int MAX_OFFSET = 10_000;
+
+    private final List<T> items;
+    private final SearchCursor nextCursor;
+
+    /**
+     * Constructor
+     * @param items Items on this page
+     * @param nextCursor Cursor for the following page, or null if this is the last page
+     */
+    public SearchPage(List<T> items, SearchCursor nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Get an empty result
+     * @param <T> Item type
+     * @return Page with no items and no next cursor
+     */
+    public static <T> SearchPage<T> empty() {
+        return new SearchPage<>(Collections.emptyList(), null);
+    }
+
+    /**
+     * Build a page from a query that fetched one row more than the page size
+     * @param rows Rows returned by the query (at most pageSize + 1)
+     * @param offset Offset the query started at
+     * @param pageSize Requested page size
+     * @param <T> Item type
+     * @return Page with the extra row dropped and the next cursor set if it existed
+     */
+    static <T> SearchPage<T> fromLookahead(List<T> rows, int offset, int pageSize) {
+        int nextOffset = offset + pageSize;
+        if (rows.size() <= pageSize || nextOffset > MAX_OFFSET) {
+            return new SearchPage<>(rows.subList(0, Math.min(rows.size(), pageSize)), null);
+        }
+        return new SearchPage<>(rows.subList(0, pageSize), new SearchCursor(nextOffset));
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public SearchCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Check if more results follow this page
+     * @return true if getNextCursor() can be used to fetch another page
+     */
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,161 @@
+package com.matisense.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maintenance of the notification_counters table (unread notifications per user)
+ * Every method runs on the caller's connection so the counter change commits or
+ * rolls back together with the notification change that caused it.
+ */
+final class UnreadCounters {
+
+    private UnreadCounters() {
+    }
+
+    /**
+     * Add to one user's unread count
+     * @param conn Connection with the open transaction
+     * @param userId User ID
+     * @param delta Amount to add; negative to subtract
+     * @throws SQLException if the update fails
+     */
+    static void add(Connection conn, int userId, int delta) throws SQLException {
+        if (delta == 0) {
+            return;
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.UNREAD_COUNTER_ADD.getSql())) {
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, delta);
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Add to many users' unread counts in one batch
+     * @param conn Connection with the open transaction
+     * @param deltas Amount to add per user ID
+     * @throws SQLException if the update fails
+     */
+    static void addAll(Connection conn, Map<Integer, Integer> deltas) throws SQLException {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.UNREAD_COUNTER_ADD.getSql())) {
+            for (Map.Entry<Integer, Integer> entry : deltas.entrySet()) {
+                pstmt.setInt(1, entry.getKey());
+                pstmt.setInt(2, entry.getValue());
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    /**
+     * Reset one user's unread count after all their notifications were marked read
+     * @param conn Connection with the open transaction
+     * @param userId User ID
+     * @throws SQLException if the update fails
+     */
+    static void clear(Connection conn, int userId) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.UNREAD_COUNTER_CLEAR.getSql())) {
+            pstmt.setInt(1, userId);
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Read one user's unread count
+     * @param conn Connection to read with
+     * @param userId User ID
+     * @return Unread count; 0 if the user has no counter row yet
+     * @throws SQLException if the read fails
+     */
+    static int read(Connection conn, int userId) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.UNREAD_COUNTER_FIND.getSql())) {
+            pstmt.setInt(1, userId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? Math.max(0, rs.getInt(1)) : 0;
+            }
+        }
+    }
+
+    /**
+     * Find the last user ID of the next reconcile chunk
+     * @param conn Connection to read with
+     * @param afterUserId Last user ID of the previous chunk, or 0 to start
+     * @param chunkSize Users per chunk
+     * @return Last user ID of the chunk, or null if no users are left
+     * @throws SQLException if the read fails
+     */
+    static Integer findChunkEnd(Connection conn, int afterUserId, int chunkSize) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.UNREAD_COUNTER_RECONCILE_CHUNK_END.getSql())) {
+            pstmt.setInt(1, afterUserId);
+            pstmt.setInt(2, chunkSize);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    int last = rs.getInt(1);
+                    return rs.wasNull() ? null : last;
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Recount the unread notifications of a range of users and correct counters that drifted
+     * Counts and counters are read with plain consistent reads, so notification writes are not
+     * blocked. A counter is only written if it differs, and only if it still holds the value
+     * that was read; one changed by a concurrent transaction is left for the next run.
+     * @param conn Connection with the open transaction
+     * @param afterUserId Range start, exclusive
+     * @param lastUserId Range end, inclusive
+     * @return Number of counters actually corrected
+     * @throws SQLException if the recount fails
+     */
+    static int reconcileRange(Connection conn, int afterUserId, int lastUserId) throws SQLException {
+        Map<Integer, Integer> counters = readRange(conn, NamedQuery.UNREAD_COUNTER_FIND_RANGE, afterUserId, lastUserId);
+        Map<Integer, Integer> unread = readRange(conn, NamedQuery.UNREAD_COUNTER_COUNT_UNREAD_RANGE, afterUserId, lastUserId);
+
+        int corrected = 0;
+        try (PreparedStatement update = conn.prepareStatement(NamedQuery.UNREAD_COUNTER_CORRECT.getSql());
+             PreparedStatement insert = conn.prepareStatement(NamedQuery.UNREAD_COUNTER_INSERT_MISSING.getSql())) {
+            for (Map.Entry<Integer, Integer> counter : counters.entrySet()) {
+                int expected = unread.getOrDefault(counter.getKey(), 0);
+                if (counter.getValue() != expected) {
+                    update.setInt(1, expected);
+                    update.setInt(2, counter.getKey());
+                    update.setInt(3, counter.getValue());
+                    corrected += update.executeUpdate();
+                }
+            }
+            for (Map.Entry<Integer, Integer> count : unread.entrySet()) {
+                if (!counters.containsKey(count.getKey())) {
+                    insert.setInt(1, count.getKey());
+                    insert.setInt(2, count.getValue());
+                    corrected += insert.executeUpdate();
+                }
+            }
+        }
+        return corrected;
+    }
+
+    private static Map<Integer, Integer> readRange(Connection conn, NamedQuery query, int afterUserId, int lastUserId)
+            throws SQLException {
+        Map<Integer, Integer> values = new HashMap<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(query.getSql())) {
+            pstmt.setInt(1, afterUserId);
+            pstmt.setInt(2, lastUserId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    values.put(rs.getInt(1), rs.getInt(2));
+                }
+            }
+        }
+        return values;
+    }
+}
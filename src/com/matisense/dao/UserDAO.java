@@ -3,6 +3,7 @@ package com.matisense.dao;
 import com.matisense.model.User;
 import com.matisense.exception.MatisenseException;
 import com.matisense.config.DatabaseConfig;
+import com.matisense.util.EntityCache;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -13,6 +14,11 @@ import java.util.List;
  * Implements CRUD operations and encapsulates database logic
  */
 public class UserDAO {
+    private static final long CACHE_TTL_MILLIS = 5 * 60_000L;
+    // findById cache shared by all UserDAO instances
+    private static final EntityCache<Integer, User> CACHE = new EntityCache<>(
+            "users", 500, CACHE_TTL_MILLIS, UserDAO::copyUser);
+    
     private final DatabaseConfig dbConfig;
     
     /**
@@ -33,8 +39,7 @@ public class UserDAO {
             throw new MatisenseException("Invalid user data");
         }
         
-        String sql = "INSERT INTO users (username, password, full_name, address, gender, email, " +
-                    "contact_number, birthday, user_role) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String sql = NamedQuery.USER_INSERT.getSql();
         
         try (Connection conn = dbConfig.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
@@ -79,7 +84,7 @@ public class UserDAO {
      * @throws MatisenseException if update fails
      */
     public boolean updatePassword(int userId, String newPassword) throws MatisenseException {
-        String sql = "UPDATE users SET password = ?, updated_at = CURRENT_TIMESTAMP WHERE user_id = ?";
+        String sql = NamedQuery.USER_UPDATE_PASSWORD.getSql();
         
         try (Connection conn = dbConfig.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -88,6 +93,7 @@ public class UserDAO {
             pstmt.setInt(2, userId);
             
             int affectedRows = pstmt.executeUpdate();
+            CACHE.invalidate(userId);
             return affectedRows > 0;
         } catch (SQLException e) {
             throw new MatisenseException("Error updating password: " + e.getMessage(), e);
@@ -101,7 +107,12 @@ public class UserDAO {
      * @throws MatisenseException if search fails
      */
     public User findById(int id) throws MatisenseException {
-        String sql = "SELECT * FROM users WHERE user_id = ?";
+        User cached = CACHE.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long epoch = CACHE.currentEpoch();
+        String sql = NamedQuery.USER_FIND_BY_ID.getSql();
         
         try (Connection conn = dbConfig.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -110,7 +121,9 @@ public class UserDAO {
             
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToUser(rs);
+                    User user = mapResultSetToUser(rs);
+                    CACHE.put(id, user, epoch);
+                    return user;
                 }
                 return null;
             }
@@ -126,7 +139,7 @@ public class UserDAO {
      * @throws MatisenseException if search fails
      */
     public User findByUsername(String username) throws MatisenseException {
-        String sql = "SELECT * FROM users WHERE username = ?";
+        String sql = NamedQuery.USER_FIND_BY_USERNAME.getSql();
         
         try (Connection conn = dbConfig.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -151,7 +164,7 @@ public class UserDAO {
      * @throws MatisenseException if search fails
      */
     public User findByEmail(String email) throws MatisenseException {
-        String sql = "SELECT * FROM users WHERE email = ?";
+        String sql = NamedQuery.USER_FIND_BY_EMAIL.getSql();
         
         try (Connection conn = dbConfig.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -177,7 +190,7 @@ public class UserDAO {
      * @throws MatisenseException if authentication fails
      */
     public User authenticate(String username, String password) throws MatisenseException {
-        String sql = "SELECT * FROM users WHERE username = ? AND password = ?";
+        String sql = NamedQuery.USER_AUTHENTICATE.getSql();
         
         try (Connection conn = dbConfig.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -207,9 +220,7 @@ public class UserDAO {
             throw new MatisenseException("Invalid user data for update");
         }
         
-        String sql = "UPDATE users SET username = ?, password = ?, full_name = ?, address = ?, " +
-                    "gender = ?, email = ?, contact_number = ?, birthday = ?, user_role = ?, " +
-                    "updated_at = CURRENT_TIMESTAMP WHERE user_id = ?";
+        String sql = NamedQuery.USER_UPDATE.getSql();
         
         try (Connection conn = dbConfig.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -231,6 +242,7 @@ public class UserDAO {
                 throw new MatisenseException("Updating user failed, no rows affected.");
             }
             
+            CACHE.invalidate(user.getId());
             return user;
         } catch (SQLException e) {
             if (e.getMessage().contains("UNIQUE constraint failed")) {
@@ -247,15 +259,41 @@ public class UserDAO {
      * @throws MatisenseException if deletion fails
      */
     public boolean delete(int id) throws MatisenseException {
-        String sql = "DELETE FROM users WHERE user_id = ?";
+        String sql = NamedQuery.USER_DELETE.getSql();
         
-        try (Connection conn = dbConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, id);
-            
-            int affectedRows = pstmt.executeUpdate();
-            return affectedRows > 0;
+        try (Connection conn = dbConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                // Lock the user first so no report can be added for them while counts are adjusted
+                try (PreparedStatement pstmt = conn.prepareStatement(NamedQuery.USER_LOCK.getSql())) {
+                    pstmt.setInt(1, id);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        if (!rs.next()) {
+                            conn.rollback();
+                            return false;
+                        }
+                    }
+                }
+                
+                // Reports are deleted with the user (ON DELETE CASCADE); take them out of the counters
+                ReportStatusCounts.removeResident(conn, id);
+                
+                int affectedRows;
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setInt(1, id);
+                    affectedRows = pstmt.executeUpdate();
+                }
+                conn.commit();
+                
+                CACHE.invalidate(id);
+                // Reports and announcements are deleted with the user (ON DELETE CASCADE)
+                ReportDAO.invalidateCache();
+                AnnouncementDAO.invalidateCache();
+                return affectedRows > 0;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
         } catch (SQLException e) {
             throw new MatisenseException("Error deleting user: " + e.getMessage(), e);
         }
@@ -267,12 +305,12 @@ public class UserDAO {
      * @throws MatisenseException if retrieval fails
      */
     public List<User> findAll() throws MatisenseException {
-        String sql = "SELECT * FROM users ORDER BY created_at DESC";
+        String sql = NamedQuery.USER_FIND_ALL.getSql();
         List<User> users = new ArrayList<>();
         
         try (Connection conn = dbConfig.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
             while (rs.next()) {
                 users.add(mapResultSetToUser(rs));
@@ -291,7 +329,7 @@ public class UserDAO {
      * @throws MatisenseException if retrieval fails
      */
     public List<User> findByRole(User.UserRole role) throws MatisenseException {
-        String sql = "SELECT * FROM users WHERE user_role = ? ORDER BY created_at DESC";
+        String sql = NamedQuery.USER_FIND_BY_ROLE.getSql();
         List<User> users = new ArrayList<>();
         
         try (Connection conn = dbConfig.getConnection();
@@ -311,6 +349,44 @@ public class UserDAO {
         }
     }
     
+    /**
+     * Get findById cache statistics
+     * @return Cache statistics snapshot
+     */
+    public static EntityCache.Stats getCacheStats() {
+        return CACHE.getStats();
+    }
+    
+    /**
+     * Drop every cached user, e.g. after a change that cascades to many rows
+     */
+    static void invalidateCache() {
+        CACHE.invalidateAll();
+    }
+    
+    /**
+     * Copy a user so cached instances are never shared with callers
+     * @param source User to copy
+     * @return Independent copy
+     */
+    private static User copyUser(User source) {
+        User copy = new User();
+        copy.setId(source.getId());
+        copy.setUsername(source.getUsername());
+        copy.setPassword(source.getPassword());
+        copy.setFullName(source.getFullName());
+        copy.setAddress(source.getAddress());
+        copy.setGender(source.getGender());
+        copy.setEmail(source.getEmail());
+        copy.setContactNumber(source.getContactNumber());
+        copy.setBirthday(source.getBirthday());
+        copy.setUserRole(source.getUserRole());
+        // Timestamps last; the setters above touch updatedAt
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        return copy;
+    }
+    
     /**
      * Map ResultSet to User object
      * @param rs ResultSet
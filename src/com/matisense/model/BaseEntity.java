@@ -8,6 +8,8 @@ import java.time.format.DateTimeFormatter;
  * Implements common functionality and enforces abstraction
  */
 public abstract class BaseEntity {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a");
+
     protected int id;
     protected LocalDateTime createdAt;
     protected LocalDateTime updatedAt;
@@ -91,7 +93,7 @@ public abstract class BaseEntity {
      */
     public String getFormattedCreatedAt() {
         if (createdAt != null) {
-            return createdAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a"));
+            return createdAt.format(DATE_TIME_FORMAT);
         }
         return "N/A";
     }
@@ -102,7 +104,7 @@ public abstract class BaseEntity {
      */
     public String getFormattedUpdatedAt() {
         if (updatedAt != null) {
-            return updatedAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a"));
+            return updatedAt.format(DATE_TIME_FORMAT);
         }
         return "N/A";
     }
@@ -2,12 +2,15 @@ package com.matisense.model;
 
 import com.matisense.util.ValidationUtil;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 /**
  * Notification model class representing system notifications
  * Implements encapsulation and validation
  */
 public class Notification {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private int id;
     private int userId;
     private String title;
@@ -253,7 +256,7 @@ public class Notification {
         if (createdAt == null) {
             return "";
         }
-        return createdAt.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        return createdAt.format(DATE_TIME_FORMAT);
     }
     
     @Override
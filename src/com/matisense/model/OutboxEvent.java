@@ -0,0 +1,159 @@
+package com.matisense.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox event model class
+ * Records a change that still has to be turned into notifications; written in the
+ * same transaction as the change itself and drained by the notification dispatcher
+ */
+public class OutboxEvent {
+    private long id;
+    private EventType eventType;
+    private int entityId;
+    private String oldStatus;
+    private String newStatus;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime createdAt;
+
+    /**
+     * Enum for outbox event types
+     */
+    public enum EventType {
+        REPORT_SUBMITTED,
+        REPORT_STATUS_CHANGED,
+        ANNOUNCEMENT_PUBLISHED;
+
+        public static EventType fromString(String type) {
+            for (EventType et : EventType.values()) {
+                if (et.name().equalsIgnoreCase(type)) {
+                    return et;
+                }
+            }
+            throw new IllegalArgumentException("Unknown outbox event type: " + type);
+        }
+    }
+
+    /**
+     * Default constructor
+     */
+    public OutboxEvent() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * Constructor with parameters
+     * @param eventType Event type
+     * @param entityId ID of the report or announcement the event is about
+     */
+    public OutboxEvent(EventType eventType, int entityId) {
+        this();
+        this.eventType = eventType;
+        this.entityId = entityId;
+    }
+
+    /**
+     * Event for a newly submitted report
+     * @param reportId Report ID
+     * @return Outbox event
+     */
+    public static OutboxEvent reportSubmitted(int reportId) {
+        return new OutboxEvent(EventType.REPORT_SUBMITTED, reportId);
+    }
+
+    /**
+     * Event for a report status change
+     * @param reportId Report ID
+     * @param oldStatus Status before the change
+     * @param newStatus Status after the change
+     * @return Outbox event
+     */
+    public static OutboxEvent reportStatusChanged(int reportId, Report.ReportStatus oldStatus,
+            Report.ReportStatus newStatus) {
+        OutboxEvent event = new OutboxEvent(EventType.REPORT_STATUS_CHANGED, reportId);
+        event.setOldStatus(oldStatus != null ? oldStatus.getDisplayName() : null);
+        event.setNewStatus(newStatus != null ? newStatus.getDisplayName() : null);
+        return event;
+    }
+
+    /**
+     * Event for a newly published announcement
+     * @param announcementId Announcement ID
+     * @return Outbox event
+     */
+    public static OutboxEvent announcementPublished(int announcementId) {
+        return new OutboxEvent(EventType.ANNOUNCEMENT_PUBLISHED, announcementId);
+    }
+
+    // Getters and Setters
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(EventType eventType) {
+        this.eventType = eventType;
+    }
+
+    public int getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(int entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getOldStatus() {
+        return oldStatus;
+    }
+
+    public void setOldStatus(String oldStatus) {
+        this.oldStatus = oldStatus;
+    }
+
+    public String getNewStatus() {
+        return newStatus;
+    }
+
+    public void setNewStatus(String newStatus) {
+        this.newStatus = newStatus;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OutboxEvent{id=%d, type=%s, entityId=%d, attempts=%d}",
+                id, eventType, entityId, attempts);
+    }
+}
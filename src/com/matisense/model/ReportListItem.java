@@ -0,0 +1,123 @@
+package com.matisense.model;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Read-only projection of a report for list views
+ * Carries the resident's name and a shortened description so a list can be
+ * built from a single joined query
+ */
+public class ReportListItem {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a");
+
+    private final int reportId;
+    private final int residentId;
+    private final String residentName;
+    private final String reportType;
+    private final String location;
+    private final String descriptionPreview;
+    private final boolean descriptionTruncated;
+    private final Report.ReportStatus status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    /**
+     * Constructor
+     * @param reportId Report ID
+     * @param residentId Resident ID
+     * @param residentName Resident full name, or null if the resident no longer exists
+     * @param reportType Report type
+     * @param location Location
+     * @param descriptionPreview Leading part of the description
+     * @param descriptionTruncated true if the description is longer than the preview
+     * @param status Report status
+     * @param createdAt Creation time
+     * @param updatedAt Last update time
+     */
+    public ReportListItem(int reportId, int residentId, String residentName, String reportType,
+            String location, String descriptionPreview, boolean descriptionTruncated,
+            Report.ReportStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.reportId = reportId;
+        this.residentId = residentId;
+        this.residentName = residentName;
+        this.reportType = reportType;
+        this.location = location;
+        this.descriptionPreview = descriptionPreview;
+        this.descriptionTruncated = descriptionTruncated;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public int getReportId() {
+        return reportId;
+    }
+
+    public int getResidentId() {
+        return residentId;
+    }
+
+    /**
+     * Get resident name for display
+     * @return Full name, or "Resident #id" if the resident is unknown
+     */
+    public String getResidentName() {
+        return residentName != null ? residentName : "Resident #" + residentId;
+    }
+
+    public String getReportType() {
+        return reportType;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * Get description preview for display
+     * @return Preview text, with "..." appended if the description was cut
+     */
+    public String getDescriptionPreview() {
+        String preview = descriptionPreview != null ? descriptionPreview : "";
+        return descriptionTruncated ? preview + "..." : preview;
+    }
+
+    public boolean isDescriptionTruncated() {
+        return descriptionTruncated;
+    }
+
+    public Report.ReportStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Get formatted creation date
+     * @return Formatted date string
+     */
+    public String getFormattedCreatedAt() {
+        return createdAt != null ? createdAt.format(DATE_TIME_FORMAT) : "N/A";
+    }
+
+    /**
+     * Get formatted update date
+     * @return Formatted date string
+     */
+    public String getFormattedUpdatedAt() {
+        return updatedAt != null ? updatedAt.format(DATE_TIME_FORMAT) : "N/A";
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReportListItem{id=%d, resident='%s', type='%s', status=%s}",
+                reportId, getResidentName(), reportType, status);
+    }
+}
@@ -0,0 +1,134 @@
+package com.matisense.service;
+
+import com.matisense.config.QueryCancellation;
+import com.matisense.exception.MatisenseException;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs DAO calls off the calling thread and returns their results as CompletableFutures
+ * Calls run on virtual threads when the runtime has them (Java 21+), otherwise on a small
+ * daemon thread pool; either way at most MAX_CONCURRENT_CALLS run at once, so a burst of UI
+ * actions cannot exhaust the connection pool. Cancelling a returned future cancels the JDBC
+ * statement it is running and fails any statement it would run next.
+ * Implements singleton pattern.
+ */
+public class AsyncDataAccess {
+    private static AsyncDataAccess instance;
+
+    private static final int MAX_CONCURRENT_CALLS = 8;
+
+    private final ExecutorService executor;
+    // Bounds virtual threads, which the executor itself does not limit
+    private final Semaphore permits = new Semaphore(MAX_CONCURRENT_CALLS);
+
+    /**
+     * Database work to run in the background
+     * @param <T> Result type
+     */
+    @FunctionalInterface
+    public interface DaoCall<T> {
+        T call() throws MatisenseException;
+    }
+
+    /**
+     * Database work without a result
+     */
+    @FunctionalInterface
+    public interface VoidDaoCall {
+        void run() throws MatisenseException;
+    }
+
+    private AsyncDataAccess() {
+        this.executor = createExecutor();
+    }
+
+    /**
+     * Get singleton instance of AsyncDataAccess
+     * @return AsyncDataAccess instance
+     */
+    public static synchronized AsyncDataAccess getInstance() {
+        if (instance == null) {
+            instance = new AsyncDataAccess();
+        }
+        return instance;
+    }
+
+    /**
+     * Run a DAO call in the background
+     * A MatisenseException thrown by the call completes the future exceptionally with it as
+     * the cause. Callbacks run on the background thread unless an executor is given, e.g.
+     * SwingUtilities::invokeLater for the EDT.
+     * @param call Database work
+     * @param <T> Result type
+     * @return Future for the result; cancel(...) also cancels the running statement
+     */
+    public <T> CompletableFuture<T> submit(DaoCall<T> call) {
+        QueryCancellation scope = new QueryCancellation();
+        CompletableFuture<T> future = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                scope.cancel();
+                return cancelled;
+            }
+        };
+        executor.execute(() -> run(call, scope, future));
+        return future;
+    }
+
+    /**
+     * Run a DAO call that returns nothing in the background
+     * @param call Database work
+     * @return Future completed when the work is done
+     */
+    public CompletableFuture<Void> run(VoidDaoCall call) {
+        return submit(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private <T> void run(DaoCall<T> call, QueryCancellation scope, CompletableFuture<T> future) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+            return;
+        }
+        try {
+            // Cancelled while queued: never touch the database
+            if (future.isDone()) {
+                return;
+            }
+            future.complete(scope.callWithin(call::call));
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Use Executors.newVirtualThreadPerTaskExecutor() when available without requiring Java 21 to build
+     */
+    private static ExecutorService createExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicInteger threadCount = new AtomicInteger();
+            return Executors.newFixedThreadPool(MAX_CONCURRENT_CALLS, runnable -> {
+                Thread thread = new Thread(runnable, "matisense-data-access-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.matisense.service;
+
+import com.matisense.config.NotificationRetentionPolicy;
+import com.matisense.dao.NotificationDAO;
+import com.matisense.dao.OutboxDAO;
+import com.matisense.dao.Page;
+import com.matisense.dao.PageCursor;
+import com.matisense.dao.ReportDAO;
+import com.matisense.exception.MatisenseException;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodic database housekeeping
+ * Recounts the maintained counters (unread notifications, report status totals) so any
+ * drift from manual edits or failed transactions is corrected without a restart, and
+ * applies the notification retention policy, including outbox dead letters, in small
+ * throttled chunks.
+ * Implements singleton pattern; started once by MainApplication.
+ */
+public class MaintenanceService {
+    private static MaintenanceService instance;
+
+    private static final long INITIAL_DELAY_MINUTES = 1;
+    private static final long RECONCILE_INTERVAL_MINUTES = 30;
+    private static final long RETENTION_INITIAL_DELAY_MINUTES = 10;
+    private static final long RETENTION_INTERVAL_MINUTES = 6 * 60;
+
+    private final NotificationDAO notificationDAO;
+    private final ReportDAO reportDAO;
+    private final OutboxDAO outboxDAO;
+    private final NotificationRetentionPolicy retentionPolicy;
+
+    private ScheduledExecutorService scheduler;
+
+    private MaintenanceService() {
+        this.notificationDAO = new NotificationDAO();
+        this.reportDAO = new ReportDAO();
+        this.outboxDAO = new OutboxDAO();
+        this.retentionPolicy = NotificationRetentionPolicy.fromSystemProperties();
+    }
+
+    /**
+     * Get singleton instance of MaintenanceService
+     * @return MaintenanceService instance
+     */
+    public static synchronized MaintenanceService getInstance() {
+        if (instance == null) {
+            instance = new MaintenanceService();
+        }
+        return instance;
+    }
+
+    /**
+     * Schedule the housekeeping jobs; does nothing if already running
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "matisense-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::reconcileCounters, INITIAL_DELAY_MINUTES,
+                RECONCILE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        scheduler.scheduleWithFixedDelay(this::applyRetention, RETENTION_INITIAL_DELAY_MINUTES,
+                RETENTION_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Stop the scheduled jobs; a job already running is interrupted
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    /**
+     * Recount the maintained counters
+     * Each counter is fixed in its own transaction so one failure does not block the other.
+     */
+    private void reconcileCounters() {
+        try {
+            int corrected = notificationDAO.reconcileUnreadCounters();
+            if (corrected > 0) {
+                System.err.println("Corrected " + corrected + " drifted unread notification counter(s)");
+            }
+        } catch (MatisenseException | RuntimeException e) {
+            // Never let an exception cancel the periodic task
+            System.err.println("Error reconciling unread counters: " + e.getMessage());
+        }
+        try {
+            int corrected = reportDAO.reconcileStatusCounts();
+            if (corrected > 0) {
+                System.err.println("Corrected " + corrected + " drifted report status counter(s)");
+            }
+        } catch (MatisenseException | RuntimeException e) {
+            System.err.println("Error reconciling report status counts: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Delete old read notifications and outbox dead letters, and archive old unread notifications
+     * Stops early, leaving the rest for the next run, if the service is stopped.
+     */
+    private void applyRetention() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            LocalDateTime readCutoff = retentionPolicy.readCutoff(now);
+            if (readCutoff != null) {
+                removeInChunks(true, readCutoff);
+            }
+            LocalDateTime unreadCutoff = retentionPolicy.unreadCutoff(now);
+            if (unreadCutoff != null) {
+                removeInChunks(false, unreadCutoff);
+            }
+            LocalDateTime deadLetterCutoff = retentionPolicy.deadLetterCutoff(now);
+            if (deadLetterCutoff != null) {
+                purgeDeadLetters(deadLetterCutoff);
+            }
+        } catch (MatisenseException | RuntimeException e) {
+            // Never let an exception cancel the periodic task
+            System.err.println("Error applying notification retention: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Delete dead letters older than the cutoff, one short statement per chunk
+     * @param cutoff Time the events were given up on
+     */
+    private void purgeDeadLetters(LocalDateTime cutoff) throws MatisenseException, InterruptedException {
+        int chunkSize = retentionPolicy.getChunkSize();
+        while (outboxDAO.purgeDeadLettersChunk(cutoff, chunkSize) == chunkSize) {
+            Thread.sleep(retentionPolicy.getPauseMillis());
+        }
+    }
+
+    /**
+     * Walk expired notifications oldest first, one short transaction per chunk
+     * @param read true to delete read notifications, false to archive unread ones
+     * @param cutoff Creation time limit
+     */
+    private void removeInChunks(boolean read, LocalDateTime cutoff) throws MatisenseException, InterruptedException {
+        int chunkSize = Math.min(retentionPolicy.getChunkSize(), Page.MAX_PAGE_SIZE);
+        PageCursor cursor = null;
+        do {
+            Page<Integer> chunk = read
+                    ? notificationDAO.purgeReadChunk(cutoff, cursor, chunkSize)
+                    : notificationDAO.archiveUnreadChunk(cutoff, cursor, chunkSize);
+            cursor = chunk.getNextCursor();
+            if (cursor != null) {
+                // Give row locks and the redo log a breather between chunks
+                Thread.sleep(retentionPolicy.getPauseMillis());
+            }
+        } while (cursor != null);
+    }
+}
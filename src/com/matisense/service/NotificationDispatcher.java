@@ -0,0 +1,257 @@
+package com.matisense.service;
+
+import com.matisense.dao.AnnouncementDAO;
+import com.matisense.dao.OutboxDAO;
+import com.matisense.dao.ReportDAO;
+import com.matisense.exception.MatisenseException;
+import com.matisense.model.Announcement;
+import com.matisense.model.OutboxEvent;
+import com.matisense.model.Report;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background dispatcher for the notification outbox
+ * Claims outbox events in batches, turns them into notifications on a small worker
+ * pool and retries failures with exponential backoff. Delivery is at-least-once; an event
+ * that fails MAX_ATTEMPTS times is moved to the dead-letter table and logged to stderr.
+ * Implements singleton pattern; started once by MainApplication.
+ */
+public class NotificationDispatcher {
+    private static NotificationDispatcher instance;
+
+    private static final int BATCH_SIZE = 50;
+    private static final int WORKER_THREADS = 2;
+    private static final long POLL_INTERVAL_MILLIS = 5_000L;
+    private static final int LEASE_SECONDS = 120;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final int BASE_RETRY_DELAY_SECONDS = 5;
+    private static final int MAX_RETRY_DELAY_SECONDS = 15 * 60;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+    private final OutboxDAO outboxDAO;
+    private final ReportDAO reportDAO;
+    private final AnnouncementDAO announcementDAO;
+    private final NotificationService notificationService;
+    private final AtomicBoolean drainQueued = new AtomicBoolean(false);
+
+    private ScheduledExecutorService poller;
+    private ExecutorService workers;
+
+    private NotificationDispatcher() {
+        this.outboxDAO = new OutboxDAO();
+        this.reportDAO = new ReportDAO();
+        this.announcementDAO = new AnnouncementDAO();
+        this.notificationService = new NotificationService();
+    }
+
+    /**
+     * Get singleton instance of NotificationDispatcher
+     * @return NotificationDispatcher instance
+     */
+    public static synchronized NotificationDispatcher getInstance() {
+        if (instance == null) {
+            instance = new NotificationDispatcher();
+        }
+        return instance;
+    }
+
+    /**
+     * Start polling the outbox; does nothing if already running
+     */
+    public synchronized void start() {
+        if (poller != null) {
+            return;
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(namedThreads("matisense-outbox-poller"));
+        workers = Executors.newFixedThreadPool(WORKER_THREADS, namedThreads("matisense-outbox-worker"));
+        // Events given up on while a move failed, or before dead letters existed, are still in the outbox
+        poller.execute(this::moveExhaustedEvents);
+        poller.scheduleWithFixedDelay(this::drain, POLL_INTERVAL_MILLIS, POLL_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Drain the outbox now instead of waiting for the next poll
+     * Called after a change that enqueued an event so notifications go out promptly.
+     */
+    public synchronized void wakeUp() {
+        if (poller != null && drainQueued.compareAndSet(false, true)) {
+            poller.execute(this::drain);
+        }
+    }
+
+    /**
+     * Stop polling and wait briefly for in-flight events
+     * Unfinished events stay in the outbox and are picked up on the next start.
+     */
+    public synchronized void stop() {
+        if (poller == null) {
+            return;
+        }
+        poller.shutdownNow();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        poller = null;
+        workers = null;
+    }
+
+    /**
+     * Claim and dispatch batches until the outbox has no due events
+     * Always runs on the single poller thread, so drains never overlap.
+     */
+    private void drain() {
+        drainQueued.set(false);
+        try {
+            List<OutboxEvent> batch;
+            do {
+                batch = outboxDAO.claimBatch(UUID.randomUUID().toString(), BATCH_SIZE, LEASE_SECONDS, MAX_ATTEMPTS);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                List<Callable<Void>> tasks = new ArrayList<>(batch.size());
+                for (OutboxEvent event : batch) {
+                    tasks.add(() -> {
+                        process(event);
+                        return null;
+                    });
+                }
+                workers.invokeAll(tasks);
+            } while (batch.size() == BATCH_SIZE && !Thread.currentThread().isInterrupted());
+        } catch (MatisenseException e) {
+            System.err.println("Error draining notification outbox: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // Never let an exception cancel the periodic task
+            System.err.println("Unexpected error draining notification outbox: " + e);
+        }
+    }
+
+    /**
+     * Dispatch one event and record the outcome
+     * @param event Claimed outbox event
+     */
+    private void process(OutboxEvent event) {
+        try {
+            dispatch(event);
+            outboxDAO.markDispatched(event.getId());
+        } catch (MatisenseException | RuntimeException e) {
+            int attempt = event.getAttempts() + 1;
+            try {
+                outboxDAO.markFailed(event.getId(), e.getMessage(), retryDelaySeconds(attempt));
+            } catch (MatisenseException markEx) {
+                // The claim lease expires and the event is retried anyway
+                System.err.println("Error recording failure for " + event + ": " + markEx.getMessage());
+                return;
+            }
+            if (attempt >= MAX_ATTEMPTS) {
+                moveToDeadLetter(event, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Move every event that used up its attempts but is still in the outbox to the dead-letter table
+     */
+    private void moveExhaustedEvents() {
+        try {
+            List<OutboxEvent> batch;
+            boolean allMoved = true;
+            do {
+                batch = outboxDAO.findExhausted(MAX_ATTEMPTS, BATCH_SIZE);
+                for (OutboxEvent event : batch) {
+                    allMoved &= moveToDeadLetter(event, event.getLastError());
+                }
+                // A failed move would be found again; leave it for the next start
+            } while (batch.size() == BATCH_SIZE && allMoved && !Thread.currentThread().isInterrupted());
+        } catch (MatisenseException | RuntimeException e) {
+            System.err.println("Error moving exhausted outbox events to dead letters: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Give up on an event and log it
+     * @param event Event that used up its attempts
+     * @param error Last failure
+     * @return true unless the move failed
+     */
+    private boolean moveToDeadLetter(OutboxEvent event, String error) {
+        try {
+            if (outboxDAO.moveToDeadLetter(event.getId(), MAX_ATTEMPTS)) {
+                System.err.println("Gave up on " + event + " after " + MAX_ATTEMPTS
+                        + " attempts, moved to dead letters: " + error);
+            }
+            return true;
+        } catch (MatisenseException e) {
+            // Still exhausted in the outbox, so it is never claimed again; the next start moves it
+            System.err.println("Error moving " + event + " to dead letters: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Turn an outbox event into notifications
+     * @param event Outbox event
+     * @throws MatisenseException if notification creation fails
+     */
+    private void dispatch(OutboxEvent event) throws MatisenseException {
+        switch (event.getEventType()) {
+            case REPORT_SUBMITTED -> {
+                Report report = reportDAO.findById(event.getEntityId());
+                if (report != null) {
+                    notificationService.notifyNewReportSubmission(report);
+                }
+            }
+            case REPORT_STATUS_CHANGED -> {
+                Report report = reportDAO.findById(event.getEntityId());
+                if (report != null) {
+                    // Describe the change as it happened, even if the report moved on since
+                    if (event.getNewStatus() != null) {
+                        report.setStatus(Report.ReportStatus.fromString(event.getNewStatus()));
+                    }
+                    Report.ReportStatus oldStatus = event.getOldStatus() != null
+                            ? Report.ReportStatus.fromString(event.getOldStatus()) : null;
+                    notificationService.notifyReportStatusUpdate(report, oldStatus);
+                }
+            }
+            case ANNOUNCEMENT_PUBLISHED -> {
+                Announcement announcement = announcementDAO.findById(event.getEntityId());
+                if (announcement != null) {
+                    notificationService.notifyNewAnnouncement(announcement);
+                }
+            }
+        }
+    }
+
+    private int retryDelaySeconds(int attempt) {
+        long delay = (long) BASE_RETRY_DELAY_SECONDS << Math.min(attempt - 1, 20);
+        return (int) Math.min(delay, MAX_RETRY_DELAY_SECONDS);
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
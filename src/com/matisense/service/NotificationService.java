@@ -42,23 +42,24 @@ public class NotificationService {
             // Get all admin users
             java.util.List<User> admins = userDAO.findByRole(User.UserRole.ADMIN);
 
-            for (User admin : admins) {
-                String title = report.getReportType() != null ? report.getReportType() : "Report";
-                String location = report.getLocation() != null ? report.getLocation() : "Unspecified";
-                String description = report.getDescription() != null ? report.getDescription()
-                        : "No description provided.";
+            String title = report.getReportType() != null ? report.getReportType() : "Report";
+            String location = report.getLocation() != null ? report.getLocation() : "Unspecified";
+            String description = report.getDescription() != null ? report.getDescription()
+                    : "No description provided.";
 
-                // Detailed message for admins about the new report
-                String message = String.format(
-                        "New report submitted by Resident #%d%n" +
-                                "Type: %s%n" +
-                                "Location: %s%n%n" +
-                                "Description:%n%s",
-                        report.getResidentId(),
-                        report.getReportType(),
-                        location,
-                        description);
+            // Detailed message for admins about the new report
+            String message = String.format(
+                    "New report submitted by Resident #%d%n" +
+                            "Type: %s%n" +
+                            "Location: %s%n%n" +
+                            "Description:%n%s",
+                    report.getResidentId(),
+                    report.getReportType(),
+                    location,
+                    description);
 
+            java.util.List<Notification> notifications = new java.util.ArrayList<>(admins.size());
+            for (User admin : admins) {
                 // Store detailed report data in the notification record
                 Notification notification = new Notification(
                         admin.getId(),
@@ -66,8 +67,9 @@ public class NotificationService {
                         message,
                         Notification.NotificationType.REPORT);
                 notification.setRelatedId(report.getId());
-                notificationDAO.create(notification);
+                notifications.add(notification);
             }
+            notificationDAO.createBatch(notifications);
         } catch (MatisenseException e) {
             throw new MatisenseException("Error creating report submission notifications: " + e.getMessage(), e);
         }
@@ -126,19 +128,29 @@ public class NotificationService {
      *                            kapag may bagong announcement.
      */
     public void notifyNewAnnouncement(Announcement announcement) throws MatisenseException {
-        try {
-            // Get all resident users
-            java.util.List<User> residents = userDAO.findByRole(User.UserRole.RESIDENT);
+        notifyNewAnnouncement(announcement, null);
+    }
 
-            for (User resident : residents) {
-                Notification notification = new Notification(
-                        resident.getId(),
-                        "New Announcement",
-                        String.format("New announcement: %s", announcement.getTitle()),
-                        Notification.NotificationType.ANNOUNCEMENT);
-                notification.setRelatedId(announcement.getId());
-                notificationDAO.create(notification);
-            }
+    /**
+     * Create notification for new announcement (for residents in an address segment)
+     * 
+     * @param announcement   New announcement
+     * @param addressSegment Text the resident's address must contain, or null for all residents
+     * @return Number of residents notified
+     * @throws MatisenseException if notification creation fails
+     * 
+     *                            Isang INSERT ... SELECT lang sa database; hindi na
+     *                            kinukuha ang bawat resident papunta sa application.
+     */
+    public int notifyNewAnnouncement(Announcement announcement, String addressSegment) throws MatisenseException {
+        try {
+            return notificationDAO.createForAudience(
+                    User.UserRole.RESIDENT,
+                    addressSegment,
+                    "New Announcement",
+                    String.format("New announcement: %s", announcement.getTitle()),
+                    Notification.NotificationType.ANNOUNCEMENT,
+                    announcement.getId());
         } catch (MatisenseException e) {
             throw new MatisenseException("Error creating announcement notifications: " + e.getMessage(), e);
         }
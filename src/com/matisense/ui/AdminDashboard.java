@@ -1,23 +1,38 @@
 package com.matisense.ui;
 
 import com.matisense.dao.AnnouncementDAO;
+import com.matisense.dao.ChangeWatermark;
+import com.matisense.dao.NotificationDAO;
+import com.matisense.dao.Page;
+import com.matisense.dao.PageCursor;
+import com.matisense.dao.ReportQuery;
 import com.matisense.dao.ReportDAO;
+import com.matisense.dao.ReportSortKey;
+import com.matisense.dao.SearchCursor;
 import com.matisense.dao.UserDAO;
 import com.matisense.exception.MatisenseException;
 import com.matisense.model.Announcement;
 import com.matisense.model.Report;
+import com.matisense.model.ReportListItem;
 import com.matisense.model.User;
-import com.matisense.service.NotificationService;
+import com.matisense.service.NotificationDispatcher;
+import com.matisense.util.InvertedIndex;
 import com.matisense.util.ValidationUtil;
 import java.awt.*;
 import java.time.LocalDate;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.Date;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import javax.swing.*;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
@@ -25,7 +40,6 @@ import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableRowSorter;
-import javax.swing.RowFilter;
 
 /**
  * Admin dashboard with reports and announcements management.
@@ -34,6 +48,21 @@ public class AdminDashboard extends JFrame {
     private static final Dimension DEFAULT_BUTTON_SIZE = new Dimension(150, 36);
     private static final Color PRIMARY_COLOR = new Color(21, 101, 192);
     private static final Color TABLE_HEADER = new Color(227, 242, 253);
+    private static final int DESCRIPTION_PREVIEW_LENGTH = 120;
+    // Quiet period after the last keystroke or filter change before rows are re-filtered
+    private static final int FILTER_DEBOUNCE_MILLIS = 150;
+    // Above this many reports the table switches to a paged model that loads rows as they scroll into view
+    private static final int PAGED_MODE_THRESHOLD = 5_000;
+    private static final int REPORT_PAGE_SIZE = 100;
+    // Rows per page when a full load is streamed into reportsTableModel
+    private static final int REPORT_STREAM_PAGE_SIZE = 250;
+    // Time every dashboard section together may take before the stragglers are cancelled
+    private static final long DASHBOARD_LOAD_DEADLINE_MILLIS = 30_000L;
+    private static final int MAX_CACHED_REPORT_PAGES = 20;
+    private static final int REPORT_CREATED_COLUMN = 6;
+    private static final String[] REPORT_COLUMNS = new String[] {
+            "Report ID", "Resident", "Type", "Location", "Summary", "Status", "Created At", "Updated At"
+    };
     private static final String[] REPORT_TYPES = new String[] {
             "Infrastructure Issue",
             "Security Concern",
@@ -47,12 +76,22 @@ public class AdminDashboard extends JFrame {
     private final ReportDAO reportDAO;
     private final UserDAO userDAO;
     private final AnnouncementDAO announcementDAO;
-    private final NotificationService notificationService;
+    private final NotificationDAO notificationDAO;
+    // Background DAO calls; cancelled when the window closes
+    private final WindowTasks tasks;
 
     private JTabbedPane tabbedPane;
     private JTable reportsTable;
-    private DefaultTableModel reportsTableModel;
-    private TableRowSorter<DefaultTableModel> reportsSorter;
+    private ReportTableModel reportsTableModel;
+    private TableRowSorter<ReportTableModel> reportsSorter;
+    private TableSearchIndex reportsSearchIndex;
+    private RowFilterPipeline reportFilterPipeline;
+    private PagedTableModel<ReportListItem> pagedReportsModel;
+    private ServerSortRowSorter<PagedTableModel<ReportListItem>> pagedReportsSorter;
+    // Filter changes in paged mode re-query the database, so typing is debounced
+    private Timer pagedFilterTimer;
+    // true while reportsTable shows pagedReportsModel instead of reportsTableModel
+    private boolean pagedMode;
     private JTextField searchField;
     private JComboBox<String> statusFilter;
     private JComboBox<String> dateFilter;
@@ -64,6 +103,7 @@ public class AdminDashboard extends JFrame {
     private JButton refreshButton;
     private JButton updateStatusButton;
     private JButton notificationsButton;
+    private JButton diagnosticsButton;
     private JButton logoutButton;
     private JButton annRefreshButton;
     private JButton annCreateButton;
@@ -72,36 +112,55 @@ public class AdminDashboard extends JFrame {
     private JButton annCloseButton;
     private JLabel welcomeLabel;
     private JLabel statsLabel;
+    private ProgressStrip progressStrip;
+    // Dashboard load still running, or null; a newer refresh cancels it
+    private WindowTasks.Group dashboardLoad;
+    // Rows streamed into the table by the current dashboard load
+    private int streamedReportRows;
     private final Set<Integer> unopenedReportIds = new HashSet<>();
     private final Set<Integer> openedReportIds = new HashSet<>();
     private LocalDate specificDateFilter;
+    // Newest report change already in the table; null forces a full reload
+    private ChangeWatermark reportWatermark;
+
+    private static class LoadedReports {
+        private final List<ReportListItem> reports = new ArrayList<>();
+        // true if reports only holds rows changed since the previous watermark
+        private boolean incremental;
+        private ChangeWatermark watermark;
+        // Where a full load continues, or null once every report is in
+        private PageCursor nextCursor;
+    }
 
-    private static class DashboardData {
-        private final List<ReportRow> reportRows = new ArrayList<>();
-        private int pendingCount;
-        private int inReviewCount;
-        private int approvedCount;
-        private int inProgressCount;
-        private int resolvedCount;
-        private int completedCount;
+    /**
+     * The two results that decide how the reports section of a dashboard load continues
+     * Both are fetched in parallel; whichever arrives second picks paged or full mode.
+     */
+    private static class ReportsStart {
+        private Map<Report.ReportStatus, Integer> statusCounts;
+        private LoadedReports firstReports;
     }
 
-    private static class ReportRow {
-        private final Object[] rowData;
+    /**
+     * One page of a streamed full load, with the total expected when it was fetched
+     */
+    private static class ReportPage {
+        private final List<ReportListItem> rows;
+        private final int estimatedTotal;
 
-        private ReportRow(int reportId, String residentName, String reportType,
-                String location, String descriptionPreview,
-                String status, String createdAt, String updatedAt) {
-            this.rowData = new Object[] {
-                    reportId,
-                    residentName,
-                    reportType,
-                    location,
-                    descriptionPreview,
-                    status,
-                    createdAt,
-                    updatedAt
-            };
+        private ReportPage(List<ReportListItem> rows, int estimatedTotal) {
+            this.rows = rows;
+            this.estimatedTotal = estimatedTotal;
+        }
+    }
+
+    private static class ReportDetails {
+        private final Report report;
+        private final User resident;
+
+        private ReportDetails(Report report, User resident) {
+            this.report = report;
+            this.resident = resident;
         }
     }
 
@@ -119,13 +178,14 @@ public class AdminDashboard extends JFrame {
         this.reportDAO = new ReportDAO();
         this.userDAO = new UserDAO();
         this.announcementDAO = new AnnouncementDAO();
-        this.notificationService = new NotificationService();
+        this.notificationDAO = new NotificationDAO();
+        this.tasks = new WindowTasks(this);
 
         initializeComponents();
         setupLayout();
         setupEventHandlers();
         configureFrame();
-        refreshDashboardDataWithLoader("Loading dashboard data...");
+        refreshDashboardData("Loading dashboard data...");
     }
 
     private void initializeComponents() {
@@ -133,28 +193,33 @@ public class AdminDashboard extends JFrame {
         tabbedPane.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
         tabbedPane.setBackground(Color.WHITE);
 
-        reportsTableModel = new DefaultTableModel(new String[] {
-                "Report ID", "Resident", "Type", "Location", "Summary", "Status", "Created At", "Updated At"
-        }, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        reportsTableModel = new ReportTableModel(REPORT_COLUMNS,
+                ReportTableModel.Column.ID, ReportTableModel.Column.RESIDENT, ReportTableModel.Column.TYPE,
+                ReportTableModel.Column.LOCATION, ReportTableModel.Column.SUMMARY, ReportTableModel.Column.STATUS,
+                ReportTableModel.Column.CREATED, ReportTableModel.Column.UPDATED);
         reportsTable = new JTable(reportsTableModel);
+        reportsSearchIndex = new TableSearchIndex(reportsTableModel, 0, 2, 3, 4);
         reportsSorter = new TableRowSorter<>(reportsTableModel);
+        reportsTableModel.installComparators(reportsSorter);
         reportsTable.setRowSorter(reportsSorter);
+        reportFilterPipeline = new RowFilterPipeline(reportsTableModel, reportsSorter, FILTER_DEBOUNCE_MILLIS,
+                this::buildReportCriteria);
         reportsTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         reportsTable.getTableHeader().setReorderingAllowed(false);
         styleTable(reportsTable);
-        reportsTable.getColumnModel().getColumn(0).setPreferredWidth(80);
-        reportsTable.getColumnModel().getColumn(1).setPreferredWidth(140);
-        reportsTable.getColumnModel().getColumn(2).setPreferredWidth(120);
-        reportsTable.getColumnModel().getColumn(3).setPreferredWidth(200);
-        reportsTable.getColumnModel().getColumn(4).setPreferredWidth(200);
-        reportsTable.getColumnModel().getColumn(5).setPreferredWidth(120);
-        reportsTable.getColumnModel().getColumn(6).setPreferredWidth(150);
-        reportsTable.getColumnModel().getColumn(7).setPreferredWidth(160);
+        configureReportColumns();
+        pagedReportsModel = new PagedTableModel<>(REPORT_COLUMNS, REPORT_PAGE_SIZE, MAX_CACHED_REPORT_PAGES, item -> {
+            if (!openedReportIds.contains(item.getReportId())) {
+                unopenedReportIds.add(item.getReportId());
+            }
+            return toPagedRow(item);
+        }, tasks);
+        pagedReportsSorter = new ServerSortRowSorter<>(pagedReportsModel,
+                new RowSorter.SortKey(REPORT_CREATED_COLUMN, SortOrder.DESCENDING),
+                column -> toSortKey(column) != null,
+                () -> pagedReportsModel.setSource(buildPagedReportSource()));
+        pagedFilterTimer = new Timer(FILTER_DEBOUNCE_MILLIS, e -> pagedReportsModel.setSource(buildPagedReportSource()));
+        pagedFilterTimer.setRepeats(false);
 
         announcementsTableModel = new DefaultTableModel(new String[] {
                 "ID", "Title", "Preview", "Created At", "Updated At"
@@ -172,6 +237,7 @@ public class AdminDashboard extends JFrame {
         refreshButton = new JButton("Refresh");
         updateStatusButton = new JButton("Update Status");
         notificationsButton = new JButton("Notifications");
+        diagnosticsButton = new JButton("Diagnostics");
         logoutButton = new JButton("Logout");
         annRefreshButton = new JButton("Refresh");
         annCreateButton = new JButton("Create New");
@@ -184,10 +250,11 @@ public class AdminDashboard extends JFrame {
         statsLabel = new JLabel();
         statsLabel.setFont(new Font("Arial", Font.PLAIN, 12));
         statsLabel.setForeground(new Color(233, 247, 255));
+        progressStrip = new ProgressStrip();
 
-        applyButtonSizing(refreshButton, updateStatusButton, notificationsButton, logoutButton,
+        applyButtonSizing(refreshButton, updateStatusButton, notificationsButton, diagnosticsButton, logoutButton,
                 annRefreshButton, annCreateButton, annEditButton, annDeleteButton, annCloseButton);
-        applyButtonTheme(refreshButton, updateStatusButton, notificationsButton, logoutButton,
+        applyButtonTheme(refreshButton, updateStatusButton, notificationsButton, diagnosticsButton, logoutButton,
                 annRefreshButton, annCreateButton, annEditButton, annDeleteButton, annCloseButton);
 
         searchField = new JTextField(18);
@@ -200,6 +267,17 @@ public class AdminDashboard extends JFrame {
         datePickerLabel.setForeground(Color.DARK_GRAY);
     }
 
+    private void configureReportColumns() {
+        reportsTable.getColumnModel().getColumn(0).setPreferredWidth(80);
+        reportsTable.getColumnModel().getColumn(1).setPreferredWidth(140);
+        reportsTable.getColumnModel().getColumn(2).setPreferredWidth(120);
+        reportsTable.getColumnModel().getColumn(3).setPreferredWidth(200);
+        reportsTable.getColumnModel().getColumn(4).setPreferredWidth(200);
+        reportsTable.getColumnModel().getColumn(5).setPreferredWidth(120);
+        reportsTable.getColumnModel().getColumn(6).setPreferredWidth(150);
+        reportsTable.getColumnModel().getColumn(7).setPreferredWidth(160);
+    }
+
     private void setupLayout() {
         setLayout(new BorderLayout());
 
@@ -218,6 +296,7 @@ public class AdminDashboard extends JFrame {
         JPanel headerButtons = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
         headerButtons.setOpaque(false);
         headerButtons.add(notificationsButton);
+        headerButtons.add(diagnosticsButton);
         headerButtons.add(logoutButton);
 
         headerPanel.add(textStack, BorderLayout.WEST);
@@ -264,10 +343,11 @@ public class AdminDashboard extends JFrame {
         tabbedPane.addTab("Announcements Management", announcementsPanel);
 
         add(tabbedPane, BorderLayout.CENTER);
+        add(progressStrip, BorderLayout.SOUTH);
     }
 
     private void setupEventHandlers() {
-        refreshButton.addActionListener(e -> refreshDashboardDataWithLoader("Refreshing reports..."));
+        refreshButton.addActionListener(e -> refreshDashboardData("Refreshing reports..."));
 
         searchField.getDocument().addDocumentListener(new SimpleFilterListener(this::applyReportFilters));
         statusFilter.addActionListener(e -> applyReportFilters());
@@ -276,6 +356,7 @@ public class AdminDashboard extends JFrame {
         datePickerButton.addActionListener(e -> openDatePicker());
         updateStatusButton.addActionListener(e -> updateReportStatus());
         notificationsButton.addActionListener(e -> openNotifications());
+        diagnosticsButton.addActionListener(e -> openStallReport());
         logoutButton.addActionListener(e -> logout());
 
         reportsTable.addMouseListener(new MouseAdapter() {
@@ -311,120 +392,354 @@ public class AdminDashboard extends JFrame {
         setExtendedState(JFrame.MAXIMIZED_BOTH);
     }
 
-    private void refreshDashboardDataWithLoader(String message) {
-        final LoadingDialog loadingDialog = new LoadingDialog(this, message);
-        SwingWorker<DashboardData, Void> worker = new SwingWorker<>() {
-            private Exception loadException;
+    /**
+     * Load dashboard data in the background without blocking the window
+     * Status counts, the first reports, announcements and the unread count are fetched in
+     * parallel, each on its own pooled connection, and each is shown as soon as it arrives. Once
+     * the status counts and the first reports are both in, the counts decide whether the table
+     * is paged; a full load streams the remaining reports into the table a page at a time.
+     * Progress is shown in the status strip.
+     * @param message Text shown in the status strip
+     */
+    private void refreshDashboardData(String message) {
+        if (dashboardLoad != null) {
+            dashboardLoad.cancel();
+        }
+        final ChangeWatermark since = reportWatermark;
+        progressStrip.start(message);
+        streamedReportRows = 0;
+        final WindowTasks.Group load = tasks.openGroup(DASHBOARD_LOAD_DEADLINE_MILLIS,
+                "Error loading dashboard data", () -> {
+                    dashboardLoad = null;
+                    progressStrip.finish();
+                });
+        dashboardLoad = load;
+
+        final ReportsStart reportsStart = new ReportsStart();
+        load.submit(reportDAO::getStatusHistogram, statusCounts -> {
+            updateStatsLabel(statusCounts);
+            reportsStart.statusCounts = statusCounts;
+            continueReports(load, reportsStart);
+        });
+        load.submit(() -> fetchFirstReports(since), firstReports -> {
+            reportsStart.firstReports = firstReports;
+            continueReports(load, reportsStart);
+        });
+        load.submit(announcementDAO::findAll, this::showAnnouncements);
+        load.submit(() -> notificationDAO.getUnreadCount(currentUser.getId()), this::showUnreadCount);
+    }
 
-            @Override
-            protected DashboardData doInBackground() {
-                try {
-                    return fetchDashboardData();
-                } catch (Exception e) {
-                    loadException = e;
-                    return null;
-                }
+    /**
+     * Continue the reports section of a dashboard load once its status counts and first reports are in
+     * @param load Dashboard load the reports belong to
+     * @param reportsStart Results fetched so far; nothing happens until both are set
+     */
+    private void continueReports(WindowTasks.Group load, ReportsStart reportsStart) {
+        if (reportsStart.statusCounts == null || reportsStart.firstReports == null) {
+            return;
+        }
+        final int totalReports = reportsStart.statusCounts.values().stream().mapToInt(Integer::intValue).sum();
+        final LoadedReports loaded = reportsStart.firstReports;
+        if (!loaded.incremental && totalReports > PAGED_MODE_THRESHOLD) {
+            // The first page is dropped; the paged model queries with the filters and sort of the table
+            showPagedReports(load);
+            return;
+        }
+        if (loaded.nextCursor == null) {
+            applyReports(loaded, totalReports);
+            return;
+        }
+
+        showReportPage(new ReportPage(new ArrayList<>(loaded.reports), totalReports));
+        // Pages are queued to the EDT ahead of the final result, so they are shown first
+        Consumer<ReportPage> pageSink = page -> SwingUtilities.invokeLater(() -> {
+            if (!load.isStopped()) {
+                showReportPage(page);
             }
+        });
+        load.submit(() -> fetchRemainingReports(loaded, totalReports, pageSink, load::isStopped),
+                reports -> applyReports(reports, totalReports));
+    }
 
-            @Override
-            protected void done() {
-                loadingDialog.dispose();
-                if (loadException != null) {
-                    JOptionPane.showMessageDialog(AdminDashboard.this,
-                            "Error loading dashboard data: " + loadException.getMessage(),
-                            "Error", JOptionPane.ERROR_MESSAGE);
-                    return;
-                }
+    /**
+     * Load the first report rows off the EDT
+     * A full load fetches only its first keyset page, newest first; an incremental load fetches
+     * every row changed since the watermark.
+     * @param since Watermark of the rows already shown, or null to load every report
+     */
+    private LoadedReports fetchFirstReports(ChangeWatermark since) throws MatisenseException {
+        LoadedReports loaded = new LoadedReports();
+        loaded.incremental = since != null;
+        loaded.watermark = since;
+
+        if (loaded.incremental) {
+            for (ReportListItem report : reportDAO.findChangedSince(since, null, DESCRIPTION_PREVIEW_LENGTH)) {
+                loaded.reports.add(report);
+                loaded.watermark = ChangeWatermark.advance(loaded.watermark, report.getUpdatedAt(), report.getReportId());
+            }
+            return loaded;
+        }
+        addReportPage(loaded, null);
+        return loaded;
+    }
 
-                try {
-                    DashboardData data = get();
-                    if (data != null) {
-                        applyDashboardData(data);
-                    }
-                } catch (Exception e) {
-                    JOptionPane.showMessageDialog(AdminDashboard.this,
-                            "Error applying dashboard data: " + e.getMessage(),
-                            "Error", JOptionPane.ERROR_MESSAGE);
-                }
+    /**
+     * Load the rest of a full load off the EDT
+     * Each page is handed to pageSink as soon as it arrives. The returned rows still include
+     * every report, so applying them removes rows deleted since the table was last loaded.
+     * @param loaded First page, as returned by fetchFirstReports; the remaining rows are added to it
+     * @param totalReports Expected number of reports, for progress
+     * @param pageSink Receives each remaining page
+     * @param cancelled Checked between pages; a cancelled load returns null
+     */
+    private LoadedReports fetchRemainingReports(LoadedReports loaded, int totalReports, Consumer<ReportPage> pageSink,
+            BooleanSupplier cancelled) throws MatisenseException {
+        while (loaded.nextCursor != null) {
+            if (cancelled.getAsBoolean()) {
+                return null;
             }
+            pageSink.accept(new ReportPage(addReportPage(loaded, loaded.nextCursor), totalReports));
+        }
+        return loaded;
+    }
+
+    /**
+     * Fetch one keyset page of a full load and add it to the loaded rows
+     * One joined query per page: resident names and description previews come back with the reports.
+     * @return Rows of the page
+     */
+    private List<ReportListItem> addReportPage(LoadedReports loaded, PageCursor cursor) throws MatisenseException {
+        Page<ReportListItem> page = reportDAO.findListItemPage(null, cursor, REPORT_STREAM_PAGE_SIZE,
+                DESCRIPTION_PREVIEW_LENGTH);
+        for (ReportListItem report : page.getItems()) {
+            loaded.reports.add(report);
+            loaded.watermark = ChangeWatermark.advance(loaded.watermark, report.getUpdatedAt(), report.getReportId());
+        }
+        loaded.nextCursor = page.getNextCursor();
+        return page.getItems();
+    }
+
+    /**
+     * Cell values of a paged row, in the same form ReportTableModel returns them
+     */
+    private static Object[] toPagedRow(ReportListItem report) {
+        return new Object[] {
+                report.getReportId(),
+                report.getResidentName(),
+                report.getReportType(),
+                report.getLocation(),
+                report.getDescriptionPreview(),
+                report.getStatus().getDisplayName(),
+                report.getCreatedAt(),
+                report.getUpdatedAt()
         };
+    }
+
+    private void showReportPage(ReportPage page) {
+        if (pagedMode) {
+            showLoadedReports();
+        }
+        appendReportRows(page.rows);
+        streamedReportRows += page.rows.size();
+        progressStrip.setProgress(streamedReportRows, page.estimatedTotal);
+    }
+
+    private void applyReports(LoadedReports loaded, int expectedRows) {
+        if (loaded == null) {
+            return;
+        }
+        if (pagedMode) {
+            showLoadedReports();
+        }
+        if (loaded.incremental) {
+            mergeReportRows(loaded.reports);
+        } else {
+            replaceReportRows(loaded.reports);
+        }
+        reportWatermark = loaded.watermark;
+        applyReportFilters();
+
+        // Changed rows cannot reveal deletions; if the totals disagree, start over with a full load
+        if (loaded.incremental && expectedRows != reportsTableModel.getRowCount()) {
+            reportWatermark = null;
+            SwingUtilities.invokeLater(() -> refreshDashboardData("Reloading reports..."));
+        }
+    }
+
+    /**
+     * Show the unread notification count on the notifications button
+     * @param unreadCount Unread notifications of the current user
+     */
+    private void showUnreadCount(int unreadCount) {
+        notificationsButton.setText(unreadCount > 0 ? "Notifications (" + unreadCount + ")" : "Notifications");
+    }
+
+    /**
+     * Switch the reports table to the paged model, or re-query it if already shown
+     * The combos and the search text are applied by the database; search results are ranked
+     * best match first.
+     * @param load Dashboard load the row count and first rows are fetched in
+     */
+    private void showPagedReports(WindowTasks.Group load) {
+        if (!pagedMode) {
+            pagedMode = true;
+            reportsTable.setRowSorter(null);
+            reportsTable.setModel(pagedReportsModel);
+            reportsTable.setRowSorter(pagedReportsSorter);
+            configureReportColumns();
+        }
+        pagedFilterTimer.stop();
+        // Nothing is loaded, so there is no watermark to refresh from
+        reportWatermark = null;
+        pagedReportsModel.setSource(buildPagedReportSource(), load);
+    }
+
+    /**
+     * Switch the reports table back to the fully loaded model
+     */
+    private void showLoadedReports() {
+        pagedMode = false;
+        pagedFilterTimer.stop();
+        pagedReportsModel.setSource(null);
+        reportsTable.setRowSorter(null);
+        reportsTable.setModel(reportsTableModel);
+        reportsTable.setRowSorter(reportsSorter);
+        configureReportColumns();
+    }
+
+    /**
+     * Build the database query matching the status, type and date controls
+     * @return Report query without a sort order
+     */
+    private ReportQuery buildReportQuery() {
+        ReportQuery query = new ReportQuery();
+        String status = (String) statusFilter.getSelectedItem();
+        if (status != null && !"All".equals(status)) {
+            query.setStatus(Report.ReportStatus.fromString(status));
+        }
+        String type = (String) typeFilter.getSelectedItem();
+        if (type != null && !"All Types".equals(type)) {
+            query.setReportType(type);
+        }
+        String dateOpt = (String) dateFilter.getSelectedItem();
+        LocalDate today = LocalDate.now();
+        if ("Today (New)".equals(dateOpt)) {
+            query.setCreatedOn(today);
+        } else if ("Past".equals(dateOpt)) {
+            query.setCreatedRange(null, today.atStartOfDay());
+        } else if ("Specific Date".equals(dateOpt) && specificDateFilter != null) {
+            query.setCreatedOn(specificDateFilter);
+        }
+        return query;
+    }
 
-        worker.execute();
-        loadingDialog.setVisible(true);
-    }
-
-    private DashboardData fetchDashboardData() throws MatisenseException {
-        DashboardData data = new DashboardData();
-        List<Report> reports = reportDAO.findAll();
-
-        for (Report report : reports) {
-            String residentName = getResidentName(report.getResidentId());
-            String description = report.getDescription() != null ? report.getDescription() : "";
-            String preview = description.length() > 120 ? description.substring(0, 120) + "..." : description;
-
-            data.reportRows.add(new ReportRow(
-                    report.getId(),
-                    residentName,
-                    report.getReportType(),
-                    report.getLocation(),
-                    preview,
-                    report.getStatus().getDisplayName(),
-                    report.getFormattedCreatedAt(),
-                    report.getFormattedUpdatedAt()));
-
-            switch (report.getStatus()) {
-                case PENDING -> data.pendingCount++;
-                case IN_REVIEW -> data.inReviewCount++;
-                case APPROVED -> data.approvedCount++;
-                case IN_PROGRESS -> data.inProgressCount++;
-                case RESOLVED -> data.resolvedCount++;
-                case COMPLETED -> data.completedCount++;
-                default -> {
+    /**
+     * Row source for paged mode; the filter combos and the sort order are applied by the database
+     * With search text the rows come from the full-text index, ranked best match first; the
+     * header sort applies again once the search box is cleared.
+     */
+    private PagedTableModel.PageSource<ReportListItem> buildPagedReportSource() {
+        final ReportQuery query = buildReportQuery();
+        final String searchText = searchField.getText();
+        if (!InvertedIndex.tokenize(searchText).isEmpty()) {
+            return new PagedTableModel.PageSource<>() {
+                @Override
+                public int count() throws MatisenseException {
+                    return reportDAO.countSearchResults(searchText, query);
                 }
-            }
+
+                @Override
+                public List<ReportListItem> window(int offset, int limit) throws MatisenseException {
+                    SearchCursor cursor = offset > 0 ? new SearchCursor(offset) : null;
+                    return reportDAO.search(searchText, query, cursor, limit, DESCRIPTION_PREVIEW_LENGTH).getItems();
+                }
+            };
         }
+        RowSorter.SortKey sortKey = pagedReportsSorter.getSortKey();
+        query.setSort(toSortKey(sortKey.getColumn()), sortKey.getSortOrder() == SortOrder.DESCENDING);
+        return new PagedTableModel.PageSource<>() {
+            @Override
+            public int count() throws MatisenseException {
+                return reportDAO.countListItems(query);
+            }
 
-        return data;
+            @Override
+            public List<ReportListItem> window(int offset, int limit) throws MatisenseException {
+                return reportDAO.findListItemWindow(query, offset, limit, DESCRIPTION_PREVIEW_LENGTH);
+            }
+        };
     }
 
-    private String getResidentName(int residentId) {
-        try {
-            User user = userDAO.findById(residentId);
-            return user != null ? user.getFullName() : "Resident #" + residentId;
-        } catch (MatisenseException e) {
-            return "Resident #" + residentId;
+    /**
+     * Map a report table column to its indexed database sort key
+     * @param column Model column
+     * @return Sort key, or null if the database cannot sort on the column efficiently
+     */
+    private static ReportSortKey toSortKey(int column) {
+        switch (column) {
+            case 0:
+                return ReportSortKey.ID;
+            case 2:
+                return ReportSortKey.TYPE;
+            case 5:
+                return ReportSortKey.STATUS;
+            case REPORT_CREATED_COLUMN:
+                return ReportSortKey.CREATED;
+            case 7:
+                return ReportSortKey.UPDATED;
+            default:
+                return null;
         }
     }
 
-    private void applyDashboardData(DashboardData data) {
-        reportsTableModel.setRowCount(0);
-        List<ReportRow> unopenedRows = new ArrayList<>();
-        List<ReportRow> openedRows = new ArrayList<>();
-        for (ReportRow row : data.reportRows) {
-            int reportId = (int) row.rowData[0];
-            if (!openedReportIds.contains(reportId)) {
-                unopenedReportIds.add(reportId);
-                unopenedRows.add(row);
+    /**
+     * Apply a full load as row-level changes; new rows are added unopened first
+     */
+    private void replaceReportRows(List<ReportListItem> reports) {
+        List<ReportListItem> unopened = new ArrayList<>();
+        List<ReportListItem> opened = new ArrayList<>();
+        for (ReportListItem report : reports) {
+            if (!openedReportIds.contains(report.getReportId())) {
+                unopenedReportIds.add(report.getReportId());
+                unopened.add(report);
             } else {
-                openedRows.add(row);
+                opened.add(report);
             }
         }
-        unopenedRows.forEach(r -> reportsTableModel.addRow(r.rowData));
-        openedRows.forEach(r -> reportsTableModel.addRow(r.rowData));
-        applyReportFilters();
-        updateStatsLabel(data);
-        loadAnnouncements();
+        unopened.addAll(opened);
+        reportsTableModel.setRows(unopened);
     }
 
-    private void updateStatsLabel(DashboardData data) {
+    /**
+     * Add a streamed page below the rows already shown; rows already shown are updated in place
+     */
+    private void appendReportRows(List<ReportListItem> page) {
+        for (ReportListItem added : reportsTableModel.appendRows(page)) {
+            if (!openedReportIds.contains(added.getReportId())) {
+                unopenedReportIds.add(added.getReportId());
+            }
+        }
+    }
+
+    /**
+     * Update changed rows in place and add new ones at the top
+     * Safe to call with rows that are already shown unchanged.
+     */
+    private void mergeReportRows(List<ReportListItem> changed) {
+        for (ReportListItem added : reportsTableModel.mergeRows(changed)) {
+            unopenedReportIds.add(added.getReportId());
+        }
+    }
+
+    private void updateStatsLabel(Map<Report.ReportStatus, Integer> statusCounts) {
         statsLabel.setText(String.format(
                 "Pending: %d | In Review: %d | Approved: %d | In Progress: %d | Resolved: %d | Completed: %d",
-                data.pendingCount,
-                data.inReviewCount,
-                data.approvedCount,
-                data.inProgressCount,
-                data.resolvedCount,
-                data.completedCount));
+                statusCounts.get(Report.ReportStatus.PENDING),
+                statusCounts.get(Report.ReportStatus.IN_REVIEW),
+                statusCounts.get(Report.ReportStatus.APPROVED),
+                statusCounts.get(Report.ReportStatus.IN_PROGRESS),
+                statusCounts.get(Report.ReportStatus.RESOLVED),
+                statusCounts.get(Report.ReportStatus.COMPLETED)));
     }
 
     private void updateReportStatus() {
@@ -436,8 +751,13 @@ public class AdminDashboard extends JFrame {
         }
 
         int viewRow = reportsTable.convertRowIndexToModel(selectedRow);
-        int reportId = (int) reportsTableModel.getValueAt(viewRow, 0);
-        String currentStatus = (String) reportsTableModel.getValueAt(viewRow, 5);
+        Object idValue = reportsTable.getModel().getValueAt(viewRow, 0);
+        if (!(idValue instanceof Integer)) {
+            // Paged row that has not finished loading
+            return;
+        }
+        int reportId = (Integer) idValue;
+        String currentStatus = (String) reportsTable.getModel().getValueAt(viewRow, 5);
 
         Report.ReportStatus[] statuses = Report.ReportStatus.values();
         String[] options = new String[statuses.length];
@@ -458,45 +778,22 @@ public class AdminDashboard extends JFrame {
         }
 
         Report.ReportStatus newStatus = Report.ReportStatus.fromString(selectedStatus);
-        try {
-            // Load the full report to capture details and old status before updating
-            Report report = reportDAO.findById(reportId);
-            if (report == null) {
-                JOptionPane.showMessageDialog(this, "Unable to load report details for notification.",
+        // The resident's notification is queued in the same transaction as the status change
+        tasks.submit(() -> reportDAO.updateStatus(reportId, newStatus), updated -> {
+            if (!updated) {
+                JOptionPane.showMessageDialog(this, "Failed to update report status.",
                         "Error", JOptionPane.ERROR_MESSAGE);
                 return;
             }
-
-            Report.ReportStatus oldStatus = report.getStatus();
-
-            boolean updated = reportDAO.updateStatus(reportId, newStatus);
-            if (updated) {
-                // Sync in-memory report status with the new value for accurate notifications
-                report.setStatus(newStatus);
-
-                // Notify the resident that their report status has changed
-                try {
-                    notificationService.notifyReportStatusUpdate(report, oldStatus);
-                } catch (MatisenseException notifyEx) {
-                    JOptionPane.showMessageDialog(this,
-                            "Status updated but resident notification failed: " + notifyEx.getMessage(),
-                            "Notification Warning", JOptionPane.WARNING_MESSAGE);
-                }
-                Report refreshed = reportDAO.findById(reportId);
+            NotificationDispatcher.getInstance().wakeUp();
+            tasks.submit(() -> reportDAO.findById(reportId), refreshed -> {
                 String updatedMsg = refreshed != null ? refreshed.getFormattedUpdatedAt() : "now";
                 JOptionPane.showMessageDialog(this,
                         "Report status updated successfully.\nUpdated at: " + updatedMsg,
                         "Success", JOptionPane.INFORMATION_MESSAGE);
-                refreshDashboardDataWithLoader("Updating statistics...");
-            } else {
-                JOptionPane.showMessageDialog(this, "Failed to update report status.",
-                        "Error", JOptionPane.ERROR_MESSAGE);
-            }
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this,
-                    "Error updating report status: " + e.getMessage(),
-                    "Error", JOptionPane.ERROR_MESSAGE);
-        }
+                refreshDashboardData("Updating statistics...");
+            }, "Error loading updated report");
+        }, "Error updating report status");
     }
 
     private void viewReportDetails() {
@@ -506,46 +803,66 @@ public class AdminDashboard extends JFrame {
         }
 
         int viewRow = reportsTable.convertRowIndexToModel(selectedRow);
-        int reportId = (int) reportsTableModel.getValueAt(viewRow, 0);
-        try {
+        Object idValue = reportsTable.getModel().getValueAt(viewRow, 0);
+        if (!(idValue instanceof Integer)) {
+            return;
+        }
+        int reportId = (Integer) idValue;
+        tasks.submit(() -> {
             Report report = reportDAO.findById(reportId);
-            if (report == null) {
-                JOptionPane.showMessageDialog(this, "Unable to load report details.",
-                        "Error", JOptionPane.ERROR_MESSAGE);
-                return;
-            }
-
-            User resident = userDAO.findById(report.getResidentId());
-            String[][] data = {
-                    { "Report ID", String.valueOf(report.getId()) },
-                    { "Resident", resident != null ? resident.getFullName() : "Unknown" },
-                    { "Type", report.getReportType() },
-                    { "Location", report.getLocation() },
-                    { "Status", report.getStatus().getDisplayName() },
-                    { "Created", report.getFormattedCreatedAt() },
-                    { "Updated", report.getFormattedUpdatedAt() }
-            };
+            return new ReportDetails(report, report != null ? userDAO.findById(report.getResidentId()) : null);
+        }, details -> showReportDetails(reportId, details), "Error loading report details");
+    }
 
-            JPanel detailsPanel = buildDetailPanel(data, "Description",
-                    report.getDescription() != null ? report.getDescription() : "");
-
-            JOptionPane.showMessageDialog(this, detailsPanel,
-                    "Report Details", JOptionPane.INFORMATION_MESSAGE);
-            unopenedReportIds.remove(reportId);
-            openedReportIds.add(reportId);
-            reportsTable.repaint();
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this,
-                    "Error loading report details: " + e.getMessage(),
+    private void showReportDetails(int reportId, ReportDetails details) {
+        Report report = details.report;
+        if (report == null) {
+            JOptionPane.showMessageDialog(this, "Unable to load report details.",
                     "Error", JOptionPane.ERROR_MESSAGE);
+            return;
         }
+
+        User resident = details.resident;
+        String[][] data = {
+                { "Report ID", String.valueOf(report.getId()) },
+                { "Resident", resident != null ? resident.getFullName() : "Unknown" },
+                { "Type", report.getReportType() },
+                { "Location", report.getLocation() },
+                { "Status", report.getStatus().getDisplayName() },
+                { "Created", report.getFormattedCreatedAt() },
+                { "Updated", report.getFormattedUpdatedAt() }
+        };
+
+        JPanel detailsPanel = buildDetailPanel(data, "Description",
+                report.getDescription() != null ? report.getDescription() : "");
+
+        JOptionPane.showMessageDialog(this, detailsPanel,
+                "Report Details", JOptionPane.INFORMATION_MESSAGE);
+        unopenedReportIds.remove(reportId);
+        openedReportIds.add(reportId);
+        reportsTable.repaint();
     }
 
     private void openNotifications() {
         NotificationPanel notificationPanel = new NotificationPanel(currentUser);
+        // Notifications may have been read in the panel
+        notificationPanel.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                tasks.submit(() -> notificationDAO.getUnreadCount(currentUser.getId()),
+                        AdminDashboard.this::showUnreadCount, "Error loading unread notifications");
+            }
+        });
         notificationPanel.setVisible(true);
     }
 
+    /**
+     * Show the worst event dispatch thread stalls recorded this session
+     */
+    private void openStallReport() {
+        new StallReportDialog(this, currentUser).setVisible(true);
+    }
+
     private void logout() {
         int confirm = JOptionPane.showConfirmDialog(this,
                 "Are you sure you want to logout?",
@@ -559,22 +876,20 @@ public class AdminDashboard extends JFrame {
     }
 
     private void loadAnnouncements() {
-        try {
-            List<Announcement> announcements = announcementDAO.findAll();
-            announcementsTableModel.setRowCount(0);
-            for (Announcement announcement : announcements) {
-                announcementsTableModel.addRow(new AnnouncementRow(
-                        announcement.getId(),
-                        announcement.getTitle(),
-                        announcement.getTruncatedContent(80),
-                        announcement.getFormattedCreatedAt(),
-                        announcement.getFormattedUpdatedAt()).rowData);
-            }
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this,
-                    "Error loading announcements: " + e.getMessage(),
-                    "Error", JOptionPane.ERROR_MESSAGE);
+        tasks.submit(announcementDAO::findAll, this::showAnnouncements, "Error loading announcements");
+    }
+
+    private void showAnnouncements(List<Announcement> announcements) {
+        List<Object[]> rows = new ArrayList<>(announcements.size());
+        for (Announcement announcement : announcements) {
+            rows.add(new AnnouncementRow(
+                    announcement.getId(),
+                    announcement.getTitle(),
+                    announcement.getTruncatedContent(80),
+                    announcement.getFormattedCreatedAt(),
+                    announcement.getFormattedUpdatedAt()).rowData);
         }
+        KeyedRowDiff.replace(KeyedRowDiff.forTableModel(announcementsTableModel, 0), rows);
     }
 
     private void editSelectedAnnouncement() {
@@ -586,16 +901,11 @@ public class AdminDashboard extends JFrame {
         }
 
         int announcementId = (int) announcementsTableModel.getValueAt(selectedRow, 0);
-        try {
-            Announcement announcement = announcementDAO.findById(announcementId);
+        tasks.submit(() -> announcementDAO.findById(announcementId), announcement -> {
             if (announcement != null) {
                 showAnnouncementDialog(announcement);
             }
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this,
-                    "Error loading announcement: " + e.getMessage(),
-                    "Error", JOptionPane.ERROR_MESSAGE);
-        }
+        }, "Error loading announcement");
     }
 
     private void deleteSelectedAnnouncement() {
@@ -614,8 +924,7 @@ public class AdminDashboard extends JFrame {
                 "Confirm Delete", JOptionPane.YES_NO_OPTION);
 
         if (confirm == JOptionPane.YES_OPTION) {
-            try {
-                boolean deleted = announcementDAO.delete(announcementId);
+            tasks.submit(() -> announcementDAO.delete(announcementId), deleted -> {
                 if (deleted) {
                     JOptionPane.showMessageDialog(this,
                             "Announcement deleted successfully.",
@@ -626,11 +935,7 @@ public class AdminDashboard extends JFrame {
                             "Failed to delete announcement.",
                             "Error", JOptionPane.ERROR_MESSAGE);
                 }
-            } catch (MatisenseException e) {
-                JOptionPane.showMessageDialog(this,
-                        "Error deleting announcement: " + e.getMessage(),
-                        "Error", JOptionPane.ERROR_MESSAGE);
-            }
+            }, "Error deleting announcement");
         }
     }
 
@@ -709,33 +1014,31 @@ public class AdminDashboard extends JFrame {
                 return;
             }
 
-            try {
+            if (isEditMode) {
+                announcementToEdit.setTitle(title);
+                announcementToEdit.setContent(content);
+            }
+            // Disabled until the save finishes so a slow database cannot cause a double submit
+            saveButton.setEnabled(false);
+            tasks.submit(() -> isEditMode
+                    ? announcementDAO.update(announcementToEdit)
+                    : announcementDAO.create(new Announcement(currentUser.getId(), title, content)), saved -> {
                 if (isEditMode) {
-                    announcementToEdit.setTitle(title);
-                    announcementToEdit.setContent(content);
-                    announcementDAO.update(announcementToEdit);
                     JOptionPane.showMessageDialog(dialog, "Announcement updated successfully.",
                             "Success", JOptionPane.INFORMATION_MESSAGE);
                 } else {
-                    Announcement newAnnouncement = new Announcement(currentUser.getId(), title, content);
-                    Announcement created = announcementDAO.create(newAnnouncement);
-                    try {
-                        notificationService.notifyNewAnnouncement(created);
-                    } catch (MatisenseException notifyEx) {
-                        JOptionPane.showMessageDialog(dialog,
-                                "Announcement saved but notifications failed: " + notifyEx.getMessage(),
-                                "Notification Warning", JOptionPane.WARNING_MESSAGE);
-                    }
+                    NotificationDispatcher.getInstance().wakeUp();
                     JOptionPane.showMessageDialog(dialog, "Announcement created successfully.",
                             "Success", JOptionPane.INFORMATION_MESSAGE);
                 }
                 loadAnnouncements();
                 dialog.dispose();
-            } catch (MatisenseException ex) {
+            }, error -> {
+                saveButton.setEnabled(true);
                 JOptionPane.showMessageDialog(dialog,
-                        "Error saving announcement: " + ex.getMessage(),
+                        "Error saving announcement: " + error.getMessage(),
                         "Error", JOptionPane.ERROR_MESSAGE);
-            }
+            });
         });
 
         cancelButton.addActionListener(e -> dialog.dispose());
@@ -790,11 +1093,11 @@ public class AdminDashboard extends JFrame {
                         boolean hasFocus, int row, int column) {
                     Component c = super.getTableCellRendererComponent(tbl, value, isSelected, hasFocus, row, column);
                     int modelRow = tbl.convertRowIndexToModel(row);
-                    Object idObj = reportsTableModel.getValueAt(modelRow, 0);
+                    Object idObj = tbl.getModel().getValueAt(modelRow, 0);
                     boolean unopened = idObj instanceof Integer && unopenedReportIds.contains((Integer) idObj);
                     if (c instanceof JLabel) {
                         JLabel lbl = (JLabel) c;
-                        String display = value != null ? value.toString() : "";
+                        String display = ReportTableModel.formatCell(value);
                         if (unopened && column == 4) {
                             display = "New report submitted";
                             lbl.setForeground(new Color(21, 101, 192));
@@ -848,55 +1151,57 @@ public class AdminDashboard extends JFrame {
     }
 
     private void applyReportFilters() {
-        if (reportsSorter == null) {
-            return;
+        if (pagedMode) {
+            pagedFilterTimer.restart();
+        } else if (reportFilterPipeline != null) {
+            reportFilterPipeline.schedule();
         }
-        String search = searchField.getText() != null ? searchField.getText().trim().toLowerCase() : "";
-        String status = (String) statusFilter.getSelectedItem();
-        String dateOpt = (String) dateFilter.getSelectedItem();
-        LocalDate today = LocalDate.now();
-
-        reportsSorter.setRowFilter(new RowFilter<DefaultTableModel, Integer>() {
-            @Override
-            public boolean include(Entry<? extends DefaultTableModel, ? extends Integer> entry) {
-                String type = entry.getStringValue(2).toLowerCase();
-                String location = entry.getStringValue(3).toLowerCase();
-                String summary = entry.getStringValue(4).toLowerCase();
-                String statusVal = entry.getStringValue(5);
-                String created = entry.getStringValue(6);
-                String typeVal = entry.getStringValue(2);
-
-                if (!search.isEmpty() && !(type.contains(search) || location.contains(search) || summary.contains(search))) {
-                    return false;
-                }
-
-                if (status != null && !"All".equals(status) && !statusVal.equals(status)) {
-                    return false;
-                }
+    }
 
-                if (dateOpt != null) {
-                    boolean isToday = created != null && created.startsWith(today.toString());
-                    if ("Today (New)".equals(dateOpt) && !isToday) {
-                        return false;
-                    } else if ("Past".equals(dateOpt) && isToday) {
-                        return false;
-                    } else if ("Specific Date".equals(dateOpt)) {
-                        if (specificDateFilter == null) {
-                            return true;
-                        }
-                        if (created == null || !created.startsWith(specificDateFilter.toString())) {
-                            return false;
-                        }
-                    }
-                }
+    /**
+     * Capture the filter controls as criteria the filter pipeline can evaluate off the EDT
+     * @return Row criteria, or null when no filter is active
+     */
+    private RowFilterPipeline.RowCriteria buildReportCriteria() {
+        reportsSearchIndex.setQuery(searchField.getText());
+        final BitSet textMatches = reportsSearchIndex.snapshotMatchingIds();
+        final String statusOpt = (String) statusFilter.getSelectedItem();
+        final String dateOpt = (String) dateFilter.getSelectedItem();
+        final String selectedType = (String) typeFilter.getSelectedItem();
+
+        final Report.ReportStatus status = statusOpt == null || "All".equals(statusOpt)
+                ? null : Report.ReportStatus.fromString(statusOpt);
+        final String type = selectedType == null || "All Types".equals(selectedType) ? null : selectedType;
+        final boolean todayOnly = "Today (New)".equals(dateOpt);
+        final boolean pastOnly = "Past".equals(dateOpt);
+        // A specific date with no date picked filters nothing
+        final boolean specificOnly = "Specific Date".equals(dateOpt) && specificDateFilter != null;
+        final long today = LocalDate.now().toEpochDay();
+        final long specificDay = specificOnly ? specificDateFilter.toEpochDay() : 0;
+
+        if (textMatches == null && status == null && type == null && !todayOnly && !pastOnly && !specificOnly) {
+            return null;
+        }
 
-                String selectedType = (String) typeFilter.getSelectedItem();
-                if (selectedType != null && !"All Types".equals(selectedType) && !selectedType.equals(typeVal)) {
-                    return false;
-                }
-                return true;
+        return (rows, row) -> {
+            if (textMatches != null && !textMatches.get(rows.getId(row))) {
+                return false;
             }
-        });
+            if (status != null && rows.getStatus(row) != status) {
+                return false;
+            }
+            long createdDay = rows.getCreatedEpochDay(row);
+            if (todayOnly && createdDay != today) {
+                return false;
+            }
+            if (pastOnly && createdDay == today) {
+                return false;
+            }
+            if (specificOnly && createdDay != specificDay) {
+                return false;
+            }
+            return type == null || type.equals(rows.getType(row));
+        };
     }
 
     private String[] buildStatusFilterOptions() {
@@ -2,15 +2,17 @@
 package com.matisense.ui;
 
 import com.matisense.dao.AnnouncementDAO;
-import com.matisense.exception.MatisenseException;
 import com.matisense.model.Announcement;
 import com.matisense.model.User;
-import com.matisense.service.NotificationService;
+import com.matisense.service.NotificationDispatcher;
+import com.matisense.util.InvertedIndex;
 import com.matisense.util.ValidationUtil;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 
@@ -19,12 +21,20 @@ import javax.swing.table.DefaultTableModel;
  * Implements CRUD operations for announcements
  */
 public class AnnouncementManager extends JFrame {
+    // Best matches shown for a search; narrow the search to see others
+    private static final int SEARCH_RESULT_LIMIT = 200;
+
     private final User currentUser;
     private final AnnouncementDAO announcementDAO;
-    private final NotificationService notificationService;
+    // Background DAO calls; cancelled when the window closes
+    private final WindowTasks tasks;
+    private CompletableFuture<?> announcementsLoad;
+    private boolean showingSearchResults;
 
     // UI Components
     private JTable announcementsTable;
+    private JTextField searchField;
+    private JButton searchButton;
     private DefaultTableModel announcementsTableModel;
     private JButton createButton;
     private JButton editButton;
@@ -40,7 +50,7 @@ public class AnnouncementManager extends JFrame {
     public AnnouncementManager(User currentUser) {
         this.currentUser = currentUser;
         this.announcementDAO = new AnnouncementDAO();
-        this.notificationService = new NotificationService();
+        this.tasks = new WindowTasks(this);
 
         initializeComponents();
         setupLayout();
@@ -73,6 +83,10 @@ public class AnnouncementManager extends JFrame {
         announcementsTable.getColumnModel().getColumn(3).setPreferredWidth(150);
         announcementsTable.getColumnModel().getColumn(4).setPreferredWidth(150);
 
+        searchField = new JTextField(18);
+        searchField.setToolTipText("Search titles and content; press Enter");
+        searchButton = new JButton("Search");
+
         createButton = new JButton("Create New");
         editButton = new JButton("Edit");
         deleteButton = new JButton("Delete");
@@ -94,6 +108,8 @@ public class AnnouncementManager extends JFrame {
         buttonPanel.add(deleteButton);
         buttonPanel.add(refreshButton);
         buttonPanel.add(closeButton);
+        buttonPanel.add(searchField);
+        buttonPanel.add(searchButton);
 
         // Main panel with table
         JPanel mainPanel = new JPanel(new BorderLayout());
@@ -115,6 +131,10 @@ public class AnnouncementManager extends JFrame {
 
         refreshButton.addActionListener(e -> loadAnnouncements());
 
+        // Searches run on the database, so they start on Enter rather than on every keystroke
+        searchField.addActionListener(e -> loadAnnouncements());
+        searchButton.addActionListener(e -> loadAnnouncements());
+
         closeButton.addActionListener(e -> dispose());
 
         // Double-click to edit
@@ -140,27 +160,52 @@ public class AnnouncementManager extends JFrame {
 
     /**
      * Load announcements into table
+     * With search text only the best matches are loaded, ranked by the full-text index;
+     * otherwise every announcement is loaded.
      */
     private void loadAnnouncements() {
-        try {
-            List<Announcement> announcements = announcementDAO.findAll();
-            announcementsTableModel.setRowCount(0);
-
-            for (Announcement announcement : announcements) {
-                Object[] row = {
-                        announcement.getId(),
-                        announcement.getTitle(),
-                        announcement.getTruncatedContent(100),
-                        announcement.getFormattedCreatedAt(),
-                        announcement.getFormattedUpdatedAt()
-                };
+        if (announcementsLoad != null) {
+            announcementsLoad.cancel(true);
+        }
+        final String searchText = searchField.getText();
+        if (!InvertedIndex.tokenize(searchText).isEmpty()) {
+            announcementsLoad = tasks.submit(() -> announcementDAO.search(searchText, null, SEARCH_RESULT_LIMIT),
+                    results -> showAnnouncements(results.getItems(), true), "Error searching announcements");
+        } else {
+            announcementsLoad = tasks.submit(announcementDAO::findAll,
+                    announcements -> showAnnouncements(announcements, false), "Error loading announcements");
+        }
+    }
 
+    /**
+     * Show announcements in the table
+     * @param announcements Announcements to show
+     * @param ranked true to show them in the given order, e.g. best match first
+     */
+    private void showAnnouncements(List<Announcement> announcements, boolean ranked) {
+        List<Object[]> rows = new ArrayList<>(announcements.size());
+
+        for (Announcement announcement : announcements) {
+            Object[] row = {
+                    announcement.getId(),
+                    announcement.getTitle(),
+                    announcement.getTruncatedContent(100),
+                    announcement.getFormattedCreatedAt(),
+                    announcement.getFormattedUpdatedAt()
+            };
+
+            rows.add(row);
+        }
+        // A row-level diff keeps the old row order, which is wrong when switching to or from ranked results
+        if (ranked || showingSearchResults) {
+            announcementsTableModel.setRowCount(0);
+            for (Object[] row : rows) {
                 announcementsTableModel.addRow(row);
             }
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this, "Error loading announcements: " + e.getMessage(),
-                    "Error", JOptionPane.ERROR_MESSAGE);
+        } else {
+            KeyedRowDiff.replace(KeyedRowDiff.forTableModel(announcementsTableModel, 0), rows);
         }
+        showingSearchResults = ranked;
     }
 
     /**
@@ -183,15 +228,11 @@ public class AnnouncementManager extends JFrame {
 
         int announcementId = (Integer) announcementsTableModel.getValueAt(selectedRow, 0);
 
-        try {
-            Announcement announcement = announcementDAO.findById(announcementId);
+        tasks.submit(() -> announcementDAO.findById(announcementId), announcement -> {
             if (announcement != null) {
                 showAnnouncementDialog(announcement);
             }
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this, "Error loading announcement: " + e.getMessage(),
-                    "Error", JOptionPane.ERROR_MESSAGE);
-        }
+        }, "Error loading announcement");
     }
 
     /**
@@ -275,32 +316,31 @@ public class AnnouncementManager extends JFrame {
                 return;
             }
 
-            try {
+            if (isEditMode) {
+                announcementToEdit.setTitle(title);
+                announcementToEdit.setContent(content);
+            }
+            // Disabled until the save finishes so a slow database cannot cause a double submit
+            saveButton.setEnabled(false);
+            tasks.submit(() -> isEditMode
+                    ? announcementDAO.update(announcementToEdit)
+                    : announcementDAO.create(new Announcement(currentUser.getId(), title, content)), saved -> {
                 if (isEditMode) {
-                    announcementToEdit.setTitle(title);
-                    announcementToEdit.setContent(content);
-                    announcementDAO.update(announcementToEdit);
                     JOptionPane.showMessageDialog(dialog, "Announcement updated successfully",
                             "Success", JOptionPane.INFORMATION_MESSAGE);
                 } else {
-                    Announcement newAnnouncement = new Announcement(currentUser.getId(), title, content);
-                    Announcement created = announcementDAO.create(newAnnouncement);
-                    try {
-                        notificationService.notifyNewAnnouncement(created);
-                    } catch (MatisenseException notifyEx) {
-                        JOptionPane.showMessageDialog(dialog,
-                                "Announcement saved but notifications failed: " + notifyEx.getMessage(),
-                                "Notification Warning", JOptionPane.WARNING_MESSAGE);
-                    }
+                    // Resident notifications go out from the outbox in the background
+                    NotificationDispatcher.getInstance().wakeUp();
                     JOptionPane.showMessageDialog(dialog, "Announcement created successfully",
                             "Success", JOptionPane.INFORMATION_MESSAGE);
                 }
                 loadAnnouncements();
                 dialog.dispose();
-            } catch (MatisenseException ex) {
-                JOptionPane.showMessageDialog(dialog, "Error saving announcement: " + ex.getMessage(),
+            }, error -> {
+                saveButton.setEnabled(true);
+                JOptionPane.showMessageDialog(dialog, "Error saving announcement: " + error.getMessage(),
                         "Error", JOptionPane.ERROR_MESSAGE);
-            }
+            });
         });
 
         cancelButton.addActionListener(e -> dialog.dispose());
@@ -327,8 +367,7 @@ public class AnnouncementManager extends JFrame {
                 "Confirm Delete", JOptionPane.YES_NO_OPTION);
 
         if (confirm == JOptionPane.YES_OPTION) {
-            try {
-                boolean success = announcementDAO.delete(announcementId);
+            tasks.submit(() -> announcementDAO.delete(announcementId), success -> {
                 if (success) {
                     JOptionPane.showMessageDialog(this, "Announcement deleted successfully",
                             "Success", JOptionPane.INFORMATION_MESSAGE);
@@ -337,10 +376,7 @@ public class AnnouncementManager extends JFrame {
                     JOptionPane.showMessageDialog(this, "Failed to delete announcement",
                             "Error", JOptionPane.ERROR_MESSAGE);
                 }
-            } catch (MatisenseException e) {
-                JOptionPane.showMessageDialog(this, "Error deleting announcement: " + e.getMessage(),
-                        "Error", JOptionPane.ERROR_MESSAGE);
-            }
+            }, "Error deleting announcement");
         }
     }
 
@@ -0,0 +1,354 @@
+package com.matisense.ui;
+
+import com.matisense.config.ActiveQuery;
+import com.matisense.config.DatabaseConfig;
+
+import javax.swing.SwingUtilities;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Detects stalls of the Swing event dispatch thread
+ * A heartbeat is posted with SwingUtilities.invokeLater and timed until the EDT runs it. When
+ * it waits longer than the stall threshold, the EDT stack and the database calls in progress
+ * are captured; once the EDT recovers the stall is written to a rotating log under
+ * ~/.matisense and kept in memory if it is among the worst of the session. The threshold can
+ * be overridden with -Dmatisense.edt.stallThresholdMillis.
+ * Implements singleton pattern; started once by MainApplication.
+ */
+public class EdtWatchdog {
+    private static EdtWatchdog instance;
+
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 100L;
+    private static final long DEFAULT_STALL_THRESHOLD_MILLIS = 500L;
+    // A stall this long is logged before it ends, in case the user kills the application
+    private static final long HUNG_REPORT_MILLIS = 10_000L;
+    private static final int WORST_STALLS_KEPT = 20;
+    private static final int LOG_FILE_LIMIT_BYTES = 1_000_000;
+    private static final int LOG_FILE_COUNT = 5;
+    private static final int MAX_SQL_LENGTH = 200;
+    private static final String UI_PACKAGE = "com.matisense.ui.";
+    private static final String DAO_PACKAGE = "com.matisense.dao.";
+    private static final DateTimeFormatter LOG_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final long stallThresholdMillis;
+    private final Path logDirectory;
+    private final List<Stall> worstStalls = new ArrayList<>();
+
+    private ScheduledExecutorService scheduler;
+    private FileHandler logHandler;
+    private boolean logUnavailable;
+
+    // Written by the heartbeat on the EDT, read by the watchdog thread
+    private volatile long heartbeatPostedAt;
+    private volatile long lastLatencyMillis;
+    private volatile Thread edt;
+
+    // Only touched by the watchdog thread
+    private Stall currentStall;
+
+    /**
+     * One EDT stall
+     * Captured when the heartbeat passes the threshold; the duration is final once the EDT recovers.
+     */
+    static class Stall {
+        private final LocalDateTime startedAt;
+        private final String blockedIn;
+        private final String daoCall;
+        private final List<String> activeQueries;
+        private final StackTraceElement[] edtStack;
+        private volatile long durationMillis;
+        private volatile boolean ongoing = true;
+        private boolean hungReported;
+
+        private Stall(LocalDateTime startedAt, String blockedIn, String daoCall, List<String> activeQueries,
+                StackTraceElement[] edtStack, long durationMillis) {
+            this.startedAt = startedAt;
+            this.blockedIn = blockedIn;
+            this.daoCall = daoCall;
+            this.activeQueries = activeQueries;
+            this.edtStack = edtStack;
+            this.durationMillis = durationMillis;
+        }
+
+        LocalDateTime getStartedAt() {
+            return startedAt;
+        }
+
+        long getDurationMillis() {
+            return durationMillis;
+        }
+
+        /**
+         * Get the innermost project UI frame on the EDT, i.e. the handler that blocked it
+         * @return Frame description, or the top EDT frame if no UI frame was found
+         */
+        String getBlockedIn() {
+            return blockedIn;
+        }
+
+        /**
+         * Get the DAO call most likely behind the stall
+         * @return Call on the EDT itself, else the longest running one, or null if none
+         */
+        String getDaoCall() {
+            return daoCall;
+        }
+
+        /**
+         * Describe the stall as written to the log
+         * @return Multi-line report including the EDT stack
+         */
+        String describe() {
+            StringBuilder text = new StringBuilder();
+            text.append(startedAt.format(LOG_TIME_FORMAT)).append(" EDT stall ")
+                    .append(durationMillis).append(" ms").append(ongoing ? " (still blocked)" : "")
+                    .append(System.lineSeparator());
+            text.append("Blocked in: ").append(blockedIn).append(System.lineSeparator());
+            text.append("DAO call: ").append(daoCall != null ? daoCall : "none").append(System.lineSeparator());
+            if (activeQueries.size() > 1 || (activeQueries.size() == 1 && daoCall == null)) {
+                text.append("Database calls in progress:").append(System.lineSeparator());
+                for (String query : activeQueries) {
+                    text.append("    ").append(query).append(System.lineSeparator());
+                }
+            }
+            text.append("EDT stack:").append(System.lineSeparator());
+            for (StackTraceElement frame : edtStack) {
+                text.append("    at ").append(frame).append(System.lineSeparator());
+            }
+            return text.toString();
+        }
+    }
+
+    private EdtWatchdog() {
+        this.stallThresholdMillis = Long.getLong("matisense.edt.stallThresholdMillis", DEFAULT_STALL_THRESHOLD_MILLIS);
+        this.logDirectory = Paths.get(System.getProperty("user.home"), ".matisense");
+    }
+
+    /**
+     * Get singleton instance of EdtWatchdog
+     * @return EdtWatchdog instance
+     */
+    public static synchronized EdtWatchdog getInstance() {
+        if (instance == null) {
+            instance = new EdtWatchdog();
+        }
+        return instance;
+    }
+
+    /**
+     * Start sending heartbeats; does nothing if already running
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "matisense-edt-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkHeartbeat, HEARTBEAT_INTERVAL_MILLIS,
+                HEARTBEAT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop the watchdog and close the stall log
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        heartbeatPostedAt = 0L;
+        closeLog();
+    }
+
+    /**
+     * Get the worst stalls of this session, longest first
+     * @return Copy of the kept stalls
+     */
+    List<Stall> getWorstStalls() {
+        synchronized (worstStalls) {
+            return new ArrayList<>(worstStalls);
+        }
+    }
+
+    /**
+     * Get the directory the stall log is written to
+     * @return Log directory
+     */
+    Path getLogDirectory() {
+        return logDirectory;
+    }
+
+    /**
+     * Get the stall threshold
+     * @return Heartbeat delay, in milliseconds, counted as a stall
+     */
+    long getStallThresholdMillis() {
+        return stallThresholdMillis;
+    }
+
+    /**
+     * Post a heartbeat if none is pending, otherwise check how long the pending one has waited
+     */
+    private void checkHeartbeat() {
+        try {
+            long postedAt = heartbeatPostedAt;
+            if (postedAt == 0L) {
+                if (currentStall != null) {
+                    finishStall(currentStall, lastLatencyMillis);
+                    currentStall = null;
+                }
+                postHeartbeat();
+                return;
+            }
+
+            long blockedMillis = (System.nanoTime() - postedAt) / 1_000_000L;
+            if (currentStall == null) {
+                if (blockedMillis >= stallThresholdMillis) {
+                    currentStall = captureStall(blockedMillis);
+                }
+            } else if (!currentStall.hungReported && blockedMillis >= HUNG_REPORT_MILLIS) {
+                currentStall.hungReported = true;
+                currentStall.durationMillis = blockedMillis;
+                writeLog(currentStall);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Error checking EDT heartbeat: " + e.getMessage());
+        }
+    }
+
+    private void postHeartbeat() {
+        // nanoTime can in principle be 0, which would read as "nothing pending"
+        final long postedAt = Math.max(1L, System.nanoTime());
+        heartbeatPostedAt = postedAt;
+        SwingUtilities.invokeLater(() -> {
+            edt = Thread.currentThread();
+            lastLatencyMillis = (System.nanoTime() - postedAt) / 1_000_000L;
+            heartbeatPostedAt = 0L;
+        });
+    }
+
+    /**
+     * Capture the EDT stack and the database calls in progress
+     */
+    private Stall captureStall(long blockedMillis) {
+        Thread dispatchThread = edt;
+        StackTraceElement[] edtStack = dispatchThread != null
+                ? dispatchThread.getStackTrace() : new StackTraceElement[0];
+
+        String daoCall = null;
+        List<String> activeQueries = new ArrayList<>();
+        for (ActiveQuery query : DatabaseConfig.getInstance().getActiveQueries()) {
+            boolean onEdt = query.getThread() == dispatchThread;
+            String description = describeQuery(query, onEdt ? edtStack : query.getThread().getStackTrace(), onEdt);
+            activeQueries.add(description);
+            // Queries come longest first; a call on the EDT itself is the direct cause
+            if (daoCall == null || onEdt) {
+                daoCall = description;
+            }
+        }
+
+        return new Stall(LocalDateTime.now().minusNanos(blockedMillis * 1_000_000L),
+                findBlockingFrame(edtStack), daoCall, activeQueries, edtStack, blockedMillis);
+    }
+
+    private static String describeQuery(ActiveQuery query, StackTraceElement[] stack, boolean onEdt) {
+        String sql = query.getSql();
+        if (sql != null) {
+            sql = sql.replaceAll("\\s+", " ").trim();
+            if (sql.length() > MAX_SQL_LENGTH) {
+                sql = sql.substring(0, MAX_SQL_LENGTH) + "...";
+            }
+        }
+        return findFrame(stack, DAO_PACKAGE, "unknown DAO method") + " for " + query.getHeldMillis() + " ms"
+                + " on " + (onEdt ? "the EDT" : query.getThread().getName())
+                + (sql != null ? ", SQL: " + sql : "");
+    }
+
+    private static String findBlockingFrame(StackTraceElement[] stack) {
+        if (stack.length == 0) {
+            return "unknown (EDT not seen yet)";
+        }
+        return findFrame(stack, UI_PACKAGE, stack[0].toString());
+    }
+
+    /**
+     * Find the innermost frame of a class in the given package
+     */
+    private static String findFrame(StackTraceElement[] stack, String packagePrefix, String fallback) {
+        for (StackTraceElement frame : stack) {
+            if (frame.getClassName().startsWith(packagePrefix)
+                    && !frame.getClassName().equals(EdtWatchdog.class.getName())) {
+                String className = frame.getClassName().substring(packagePrefix.length());
+                return className + "." + frame.getMethodName()
+                        + "(" + frame.getFileName() + ":" + frame.getLineNumber() + ")";
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * Record a stall that has ended
+     */
+    private void finishStall(Stall stall, long durationMillis) {
+        stall.durationMillis = Math.max(stall.durationMillis, durationMillis);
+        stall.ongoing = false;
+        writeLog(stall);
+        synchronized (worstStalls) {
+            worstStalls.add(stall);
+            worstStalls.sort((a, b) -> Long.compare(b.durationMillis, a.durationMillis));
+            if (worstStalls.size() > WORST_STALLS_KEPT) {
+                worstStalls.remove(worstStalls.size() - 1);
+            }
+        }
+    }
+
+    private synchronized void writeLog(Stall stall) {
+        if (logHandler == null && !logUnavailable) {
+            try {
+                Files.createDirectories(logDirectory);
+                logHandler = new FileHandler(logDirectory.resolve("edt-stalls.%g.log").toString(),
+                        LOG_FILE_LIMIT_BYTES, LOG_FILE_COUNT, true);
+                logHandler.setFormatter(new Formatter() {
+                    @Override
+                    public String format(LogRecord record) {
+                        return record.getMessage() + System.lineSeparator();
+                    }
+                });
+            } catch (IOException | SecurityException e) {
+                logUnavailable = true;
+                System.err.println("Error opening EDT stall log: " + e.getMessage());
+            }
+        }
+        if (logHandler != null) {
+            logHandler.publish(new LogRecord(Level.WARNING, stall.describe()));
+            logHandler.flush();
+        } else {
+            System.err.print(stall.describe());
+        }
+    }
+
+    private synchronized void closeLog() {
+        if (logHandler != null) {
+            logHandler.close();
+            logHandler = null;
+        }
+    }
+}
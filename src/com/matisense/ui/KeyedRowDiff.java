@@ -0,0 +1,243 @@
+package com.matisense.ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Vector;
+import javax.swing.table.DefaultTableModel;
+
+/**
+ * Applies a fresh snapshot of rows to a table model as row-level changes instead of a full reload
+ * Rows are matched by key. Shown rows missing from the snapshot are deleted, matched rows whose
+ * values differ are updated in place, and the remaining snapshot rows are inserted at the top in
+ * snapshot order. Matched rows keep their model position; a sorter, if installed, decides the
+ * view order anyway. One event is fired per run of adjacent changed rows, so a refresh that
+ * changes three rows repaints three rows and the table keeps its selection and scroll position.
+ * Use it on the EDT.
+ */
+final class KeyedRowDiff {
+
+    /**
+     * Table model operations the diff needs; each change method fires its own event
+     * @param <K> Row key type
+     * @param <R> Row item type
+     */
+    interface Target<K, R> {
+        int getRowCount();
+
+        K getKey(int row);
+
+        K keyOf(R item);
+
+        /**
+         * Remove a run of rows and fire rowsDeleted
+         * @param first First model row
+         * @param last Last model row, inclusive
+         */
+        void deleteRows(int first, int last);
+
+        /**
+         * Store an item over a row with the same key, without firing an event
+         * @param row Model row
+         * @param item New values
+         * @return true if any shown value changed
+         */
+        boolean updateRow(int row, R item);
+
+        void fireRowsUpdated(int first, int last);
+
+        /**
+         * Store items starting at a row, shifting the rows below down, and fire rowsInserted
+         * @param at Model row of the first item; 0 for the top, getRowCount() for the end
+         * @param items Items in the order they should appear
+         */
+        void insertRows(int at, List<R> items);
+    }
+
+    private KeyedRowDiff() {
+    }
+
+    /**
+     * Make the model show exactly the snapshot's rows
+     * @param target Table model to change
+     * @param snapshot Current rows; a repeated key keeps its last item
+     * @return Items that were not shown before, in snapshot order
+     */
+    static <K, R> List<R> replace(Target<K, R> target, List<R> snapshot) {
+        return apply(target, snapshot, true, false);
+    }
+
+    /**
+     * Update the snapshot's rows that are shown and add the others; rows not in it are kept
+     * @param target Table model to change
+     * @param changed Changed rows; a repeated key keeps its last item
+     * @return Items that were not shown before, in the order given
+     */
+    static <K, R> List<R> merge(Target<K, R> target, List<R> changed) {
+        return apply(target, changed, false, false);
+    }
+
+    /**
+     * Like merge, but rows not shown before are added at the end, e.g. for a list loaded page by page
+     * @param target Table model to change
+     * @param page Rows to show; a repeated key keeps its last item
+     * @return Items that were not shown before, in the order given
+     */
+    static <K, R> List<R> append(Target<K, R> target, List<R> page) {
+        return apply(target, page, false, true);
+    }
+
+    /**
+     * Adapt a DefaultTableModel whose rows are keyed by one or more columns
+     * Rows are given as Object[] cell values in column order. With several key columns the key
+     * is the list of their values.
+     * @param model Table model to change
+     * @param keyColumns Columns that together identify a row
+     * @return Diff target over the model
+     */
+    static Target<Object, Object[]> forTableModel(DefaultTableModel model, int... keyColumns) {
+        if (keyColumns.length == 0) {
+            throw new IllegalArgumentException("At least one key column is required");
+        }
+        return new DefaultTableModelTarget(model, keyColumns.clone());
+    }
+
+    private static <K, R> List<R> apply(Target<K, R> target, List<R> snapshot, boolean deleteMissing,
+            boolean atEnd) {
+        Map<K, R> pending = new HashMap<>(Math.max(16, snapshot.size() * 4 / 3 + 1));
+        for (R item : snapshot) {
+            pending.put(target.keyOf(item), item);
+        }
+
+        if (deleteMissing) {
+            // Bottom up, so the rows still to visit keep their indexes
+            for (int row = target.getRowCount() - 1; row >= 0; row--) {
+                if (!pending.containsKey(target.getKey(row))) {
+                    int last = row;
+                    while (row > 0 && !pending.containsKey(target.getKey(row - 1))) {
+                        row--;
+                    }
+                    target.deleteRows(row, last);
+                }
+            }
+        }
+
+        int runStart = -1;
+        int rowCount = target.getRowCount();
+        for (int row = 0; row < rowCount; row++) {
+            R item = pending.remove(target.getKey(row));
+            if (item != null && target.updateRow(row, item)) {
+                if (runStart < 0) {
+                    runStart = row;
+                }
+            } else if (runStart >= 0) {
+                target.fireRowsUpdated(runStart, row - 1);
+                runStart = -1;
+            }
+        }
+        if (runStart >= 0) {
+            target.fireRowsUpdated(runStart, rowCount - 1);
+        }
+
+        List<R> added = new ArrayList<>(pending.size());
+        for (R item : snapshot) {
+            R latest = pending.remove(target.keyOf(item));
+            if (latest != null) {
+                added.add(latest);
+            }
+        }
+        if (!added.isEmpty()) {
+            target.insertRows(atEnd ? target.getRowCount() : 0, added);
+        }
+        return added;
+    }
+
+    /**
+     * Edits the model's data vector directly so each run fires one event rather than one per cell or row
+     */
+    private static class DefaultTableModelTarget implements Target<Object, Object[]> {
+        private final DefaultTableModel model;
+        private final int[] keyColumns;
+
+        private DefaultTableModelTarget(DefaultTableModel model, int[] keyColumns) {
+            this.model = model;
+            this.keyColumns = keyColumns;
+        }
+
+        @Override
+        public int getRowCount() {
+            return model.getRowCount();
+        }
+
+        @Override
+        public Object getKey(int row) {
+            if (keyColumns.length == 1) {
+                return model.getValueAt(row, keyColumns[0]);
+            }
+            Object[] key = new Object[keyColumns.length];
+            for (int i = 0; i < keyColumns.length; i++) {
+                key[i] = model.getValueAt(row, keyColumns[i]);
+            }
+            return Arrays.asList(key);
+        }
+
+        @Override
+        public Object keyOf(Object[] item) {
+            if (keyColumns.length == 1) {
+                return item[keyColumns[0]];
+            }
+            Object[] key = new Object[keyColumns.length];
+            for (int i = 0; i < keyColumns.length; i++) {
+                key[i] = item[keyColumns[i]];
+            }
+            return Arrays.asList(key);
+        }
+
+        @Override
+        public void deleteRows(int first, int last) {
+            model.getDataVector().subList(first, last + 1).clear();
+            model.fireTableRowsDeleted(first, last);
+        }
+
+        @Override
+        public boolean updateRow(int row, Object[] item) {
+            int columnCount = model.getColumnCount();
+            for (int column = 0; column < columnCount; column++) {
+                Object value = column < item.length ? item[column] : null;
+                if (!Objects.equals(model.getValueAt(row, column), value)) {
+                    model.getDataVector().set(row, toVector(item, columnCount));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void fireRowsUpdated(int first, int last) {
+            model.fireTableRowsUpdated(first, last);
+        }
+
+        @Override
+        public void insertRows(int at, List<Object[]> items) {
+            int columnCount = model.getColumnCount();
+            List<Vector<Object>> rows = new ArrayList<>(items.size());
+            for (Object[] item : items) {
+                rows.add(toVector(item, columnCount));
+            }
+            model.getDataVector().addAll(at, rows);
+            model.fireTableRowsInserted(at, at + rows.size() - 1);
+        }
+
+        private static Vector<Object> toVector(Object[] item, int columnCount) {
+            // Same padding as DefaultTableModel.addRow: short rows get null cells
+            Vector<Object> row = new Vector<>(columnCount);
+            for (int column = 0; column < columnCount; column++) {
+                row.add(column < item.length ? item[column] : null);
+            }
+            return row;
+        }
+    }
+}
@@ -358,6 +358,9 @@ public class LoginForm extends JFrame {
         dialog.add(formPanel, BorderLayout.CENTER);
         dialog.add(buttonPanel, BorderLayout.SOUTH);
         
+        // Background DAO calls; cancelled when the dialog closes
+        WindowTasks resetTasks = new WindowTasks(dialog);
+        
         resetButton.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
@@ -381,28 +384,19 @@ public class LoginForm extends JFrame {
                     return;
                 }
                 
-                try {
-                    User user = userDAO.findByUsername(username);
-                    if (user == null) {
-                        JOptionPane.showMessageDialog(dialog, "Username not found", "Error", JOptionPane.ERROR_MESSAGE);
-                        return;
-                    }
-                    
-                    if (user.getEmail() == null || !user.getEmail().equalsIgnoreCase(email)) {
-                        JOptionPane.showMessageDialog(dialog, "Email does not match our records", "Error", JOptionPane.ERROR_MESSAGE);
-                        return;
-                    }
-                    
-                    boolean updated = userDAO.updatePassword(user.getId(), newPassword);
-                    if (updated) {
+                resetButton.setEnabled(false);
+                resetTasks.submit(() -> resetPassword(username, email, newPassword), rejection -> {
+                    if (rejection == null) {
                         JOptionPane.showMessageDialog(dialog, "Password reset successful!", "Success", JOptionPane.INFORMATION_MESSAGE);
                         dialog.dispose();
-                    } else {
-                        JOptionPane.showMessageDialog(dialog, "Failed to reset password", "Error", JOptionPane.ERROR_MESSAGE);
+                        return;
                     }
-                } catch (MatisenseException ex) {
-                    JOptionPane.showMessageDialog(dialog, "Error resetting password: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
-                }
+                    resetButton.setEnabled(true);
+                    JOptionPane.showMessageDialog(dialog, rejection, "Error", JOptionPane.ERROR_MESSAGE);
+                }, error -> {
+                    resetButton.setEnabled(true);
+                    JOptionPane.showMessageDialog(dialog, "Error resetting password: " + error.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                });
             }
         });
         
@@ -416,6 +410,27 @@ public class LoginForm extends JFrame {
         dialog.setVisible(true);
     }
     
+    /**
+     * Check the username and email, then set the new password; runs off the EDT
+     * @param username Username entered
+     * @param email Email entered; must match the account
+     * @param newPassword New password
+     * @return Reason the reset was refused, or null on success
+     * @throws MatisenseException if a database error occurs
+     */
+    private String resetPassword(String username, String email, String newPassword) throws MatisenseException {
+        User user = userDAO.findByUsername(username);
+        if (user == null) {
+            return "Username not found";
+        }
+        
+        if (user.getEmail() == null || !user.getEmail().equalsIgnoreCase(email)) {
+            return "Email does not match our records";
+        }
+        
+        return userDAO.updatePassword(user.getId(), newPassword) ? null : "Failed to reset password";
+    }
+    
     /**
      * Main method for testing
      * @param args Command line arguments
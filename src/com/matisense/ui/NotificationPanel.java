@@ -4,6 +4,7 @@ import com.matisense.model.User;
 import com.matisense.model.Notification;
 import com.matisense.model.Report;
 import com.matisense.dao.NotificationDAO;
+import com.matisense.dao.NotificationSortKey;
 import com.matisense.dao.ReportDAO;
 import com.matisense.exception.MatisenseException;
 
@@ -11,12 +12,18 @@ import javax.swing.*;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.JTableHeader;
+import javax.swing.table.TableRowSorter;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Notification Panel for viewing and managing notifications
@@ -29,6 +36,15 @@ public class NotificationPanel extends JFrame {
     private static final Dimension DEFAULT_BUTTON_SIZE = new Dimension(140, 32);
     private static final Color TABLE_HEADER = new Color(227, 242, 253);
     private static final Color LIGHT_BG = new Color(245, 247, 250);
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    // Above this many notifications the table switches to a paged model sorted by the database
+    private static final int PAGED_MODE_THRESHOLD = 2_000;
+    private static final int NOTIFICATION_PAGE_SIZE = 100;
+    private static final int MAX_CACHED_NOTIFICATION_PAGES = 20;
+    private static final int CREATED_COLUMN = 5;
+    private static final String[] NOTIFICATION_COLUMNS = new String[] {
+            "ID", "Title", "Message", "Type", "Read", "Created At"
+    };
     private User currentUser;
     private NotificationDAO notificationDAO;
     private ReportDAO reportDAO;
@@ -36,12 +52,31 @@ public class NotificationPanel extends JFrame {
     // UI Components
     private JTable notificationsTable;
     private DefaultTableModel notificationsTableModel;
+    private TableRowSorter<DefaultTableModel> notificationsSorter;
+    private PagedTableModel<Notification> pagedNotificationsModel;
+    private ServerSortRowSorter<PagedTableModel<Notification>> pagedNotificationsSorter;
+    // true while notificationsTable shows pagedNotificationsModel instead of notificationsTableModel
+    private boolean pagedMode;
     private JButton markAsReadButton;
     private JButton markAllAsReadButton;
     private JButton deleteButton;
     private JButton refreshButton;
     private JButton closeButton;
     private JLabel unreadCountLabel;
+    // Background DAO calls; cancelled when the window closes
+    private WindowTasks tasks;
+    // Notification list load still running, or null; a newer load cancels it
+    private CompletableFuture<List<Notification>> notificationsLoad;
+
+    private static class NotificationDetails {
+        private final Notification notification;
+        private final Report report;
+
+        private NotificationDetails(Notification notification, Report report) {
+            this.notification = notification;
+            this.report = report;
+        }
+    }
 
     /**
      * Constructor
@@ -55,6 +90,7 @@ public class NotificationPanel extends JFrame {
         this.currentUser = currentUser;
         this.notificationDAO = new NotificationDAO();
         this.reportDAO = new ReportDAO();
+        this.tasks = new WindowTasks(this);
 
         initializeComponents();
         setupLayout();
@@ -71,9 +107,7 @@ public class NotificationPanel extends JFrame {
      * window.
      */
     private void initializeComponents() {
-        notificationsTableModel = new DefaultTableModel(new String[] {
-                "ID", "Title", "Message", "Type", "Read", "Created At"
-        }, 0) {
+        notificationsTableModel = new DefaultTableModel(NOTIFICATION_COLUMNS, 0) {
             @Override
             public boolean isCellEditable(int row, int column) {
                 return false;
@@ -81,17 +115,23 @@ public class NotificationPanel extends JFrame {
         };
 
         notificationsTable = new JTable(notificationsTableModel);
+        // IDs sort as numbers and times chronologically; other columns as text
+        notificationsSorter = new TableRowSorter<>(notificationsTableModel);
+        notificationsSorter.setComparator(0, Comparator.comparingInt(Integer.class::cast));
+        notificationsSorter.setComparator(CREATED_COLUMN, Comparator.nullsFirst(
+                Comparator.comparing(LocalDateTime.class::cast)));
+        notificationsTable.setRowSorter(notificationsSorter);
         notificationsTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         notificationsTable.getTableHeader().setReorderingAllowed(false);
         styleTable(notificationsTable);
+        configureColumns();
 
-        // Configure table columns
-        notificationsTable.getColumnModel().getColumn(0).setPreferredWidth(50);
-        notificationsTable.getColumnModel().getColumn(1).setPreferredWidth(200);
-        notificationsTable.getColumnModel().getColumn(2).setPreferredWidth(300);
-        notificationsTable.getColumnModel().getColumn(3).setPreferredWidth(100);
-        notificationsTable.getColumnModel().getColumn(4).setPreferredWidth(60);
-        notificationsTable.getColumnModel().getColumn(5).setPreferredWidth(150);
+        pagedNotificationsModel = new PagedTableModel<>(NOTIFICATION_COLUMNS, NOTIFICATION_PAGE_SIZE,
+                MAX_CACHED_NOTIFICATION_PAGES, NotificationPanel::toRow, tasks);
+        pagedNotificationsSorter = new ServerSortRowSorter<>(pagedNotificationsModel,
+                new RowSorter.SortKey(CREATED_COLUMN, SortOrder.DESCENDING),
+                column -> toSortKey(column) != null,
+                () -> pagedNotificationsModel.setSource(buildPagedSource()));
 
         markAsReadButton = new JButton("Mark as Read");
         markAllAsReadButton = new JButton("Mark All as Read");
@@ -136,6 +176,10 @@ public class NotificationPanel extends JFrame {
             public Component getTableCellRendererComponent(JTable tbl, Object value, boolean isSelected,
                     boolean hasFocus, int row, int column) {
                 Component c = super.getTableCellRendererComponent(tbl, value, isSelected, hasFocus, row, column);
+                // Times are kept as LocalDateTime for sorting; format only the visible cells
+                if (value instanceof LocalDateTime) {
+                    setText(((LocalDateTime) value).format(DATE_TIME_FORMAT));
+                }
                 if (!isSelected) {
                     c.setBackground(row % 2 == 0 ? Color.WHITE : LIGHT_BG);
                 }
@@ -147,7 +191,19 @@ public class NotificationPanel extends JFrame {
         });
     }
 
-    private JPanel buildDetailPanel(Notification notification) {
+    /**
+     * Set column widths; needed again whenever the table model is swapped
+     */
+    private void configureColumns() {
+        notificationsTable.getColumnModel().getColumn(0).setPreferredWidth(50);
+        notificationsTable.getColumnModel().getColumn(1).setPreferredWidth(200);
+        notificationsTable.getColumnModel().getColumn(2).setPreferredWidth(300);
+        notificationsTable.getColumnModel().getColumn(3).setPreferredWidth(100);
+        notificationsTable.getColumnModel().getColumn(4).setPreferredWidth(60);
+        notificationsTable.getColumnModel().getColumn(CREATED_COLUMN).setPreferredWidth(150);
+    }
+
+    private JPanel buildDetailPanel(Notification notification, Report report) {
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
         panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
@@ -170,28 +226,23 @@ public class NotificationPanel extends JFrame {
             String reportCreated = "";
             String reportUpdated = "";
 
-            try {
-                Report report = reportDAO.findById(notification.getRelatedId());
-                if (report != null) {
-                    reportId = String.valueOf(report.getId());
-                    if (report.getReportType() != null) {
-                        reportType = report.getReportType();
-                    }
-                    if (report.getLocation() != null) {
-                        location = report.getLocation();
-                    }
-                    if (report.getStatus() != null) {
-                        reportStatus = report.getStatus().getDisplayName();
-                    }
-                    if (report.getFormattedCreatedAt() != null) {
-                        reportCreated = report.getFormattedCreatedAt();
-                    }
-                    if (report.getFormattedUpdatedAt() != null) {
-                        reportUpdated = report.getFormattedUpdatedAt();
-                    }
+            if (report != null) {
+                reportId = String.valueOf(report.getId());
+                if (report.getReportType() != null) {
+                    reportType = report.getReportType();
+                }
+                if (report.getLocation() != null) {
+                    location = report.getLocation();
+                }
+                if (report.getStatus() != null) {
+                    reportStatus = report.getStatus().getDisplayName();
+                }
+                if (report.getFormattedCreatedAt() != null) {
+                    reportCreated = report.getFormattedCreatedAt();
+                }
+                if (report.getFormattedUpdatedAt() != null) {
+                    reportUpdated = report.getFormattedUpdatedAt();
                 }
-            } catch (MatisenseException ignored) {
-                // Fall back to notification-only details if report loading fails
             }
 
             data = new String[][] {
@@ -342,35 +393,134 @@ public class NotificationPanel extends JFrame {
 
     /**
      * Load notifications into table
+     * Large inboxes are shown through the paged model, which the database sorts.
      * 
      * Kinukuha ang notifications ng kasalukuyang user at ipinapakita sa table.
      */
     private void loadNotifications() {
-        try {
-            List<Notification> notifications = notificationDAO.findByUserId(currentUser.getId());
-            notificationsTableModel.setRowCount(0);
+        if (notificationsLoad != null) {
+            notificationsLoad.cancel(true);
+        }
+        final int userId = currentUser.getId();
+        // A null result means there are too many to load; the paged model fetches them instead
+        notificationsLoad = tasks.submit(() -> notificationDAO.countByUserId(userId) > PAGED_MODE_THRESHOLD
+                ? null : notificationDAO.findByUserId(userId), notifications -> {
+            notificationsLoad = null;
+            if (notifications == null) {
+                showPagedNotifications();
+                return;
+            }
+            if (pagedMode) {
+                showLoadedNotifications();
+            }
 
+            List<Object[]> rows = new ArrayList<>(notifications.size());
             for (Notification notification : notifications) {
-                // Use the stored title and message preview directly so it matches
-                // the content saved in the notifications table
-                String title = notification.getTitle();
-                String messagePreview = notification.getTruncatedMessage(80);
-
-                Object[] row = {
-                        notification.getId(),
-                        title,
-                        messagePreview,
-                        notification.getNotificationType().getDisplayName(),
-                        notification.isRead() ? "Yes" : "No",
-                        notification.getFormattedCreatedAt()
-                };
-
-                notificationsTableModel.addRow(row);
+                rows.add(toRow(notification));
             }
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this, "Error loading notifications: " + e.getMessage(),
+            KeyedRowDiff.replace(KeyedRowDiff.forTableModel(notificationsTableModel, 0), rows);
+        }, error -> {
+            notificationsLoad = null;
+            JOptionPane.showMessageDialog(this, "Error loading notifications: " + error.getMessage(),
                     "Error", JOptionPane.ERROR_MESSAGE);
+        });
+    }
+
+    /**
+     * Cell values of a notification row
+     * Uses the stored title and a message preview so the row matches the notifications table.
+     */
+    private static Object[] toRow(Notification notification) {
+        return new Object[] {
+                notification.getId(),
+                notification.getTitle(),
+                notification.getTruncatedMessage(80),
+                notification.getNotificationType().getDisplayName(),
+                notification.isRead() ? "Yes" : "No",
+                notification.getCreatedAt()
+        };
+    }
+
+    /**
+     * Switch to the paged model, or re-query it if already shown
+     * 
+     * Ginagamit kapag sobrang dami ng notifications; pahina-pahina itong kinukuha.
+     */
+    private void showPagedNotifications() {
+        if (!pagedMode) {
+            pagedMode = true;
+            notificationsTable.setRowSorter(null);
+            notificationsTable.setModel(pagedNotificationsModel);
+            notificationsTable.setRowSorter(pagedNotificationsSorter);
+            configureColumns();
+            notificationsTableModel.setRowCount(0);
         }
+        pagedNotificationsModel.setSource(buildPagedSource());
+    }
+
+    /**
+     * Switch back to the fully loaded model
+     */
+    private void showLoadedNotifications() {
+        pagedMode = false;
+        pagedNotificationsModel.setSource(null);
+        notificationsTable.setRowSorter(null);
+        notificationsTable.setModel(notificationsTableModel);
+        notificationsTable.setRowSorter(notificationsSorter);
+        configureColumns();
+    }
+
+    /**
+     * Row source for paged mode, in the header's current sort order
+     */
+    private PagedTableModel.PageSource<Notification> buildPagedSource() {
+        final int userId = currentUser.getId();
+        RowSorter.SortKey sortKey = pagedNotificationsSorter.getSortKey();
+        final NotificationSortKey key = toSortKey(sortKey.getColumn());
+        final boolean descending = sortKey.getSortOrder() == SortOrder.DESCENDING;
+        return new PagedTableModel.PageSource<>() {
+            @Override
+            public int count() throws MatisenseException {
+                return notificationDAO.countByUserId(userId);
+            }
+
+            @Override
+            public List<Notification> window(int offset, int limit) throws MatisenseException {
+                return notificationDAO.findWindowByUserId(userId, key, descending, offset, limit);
+            }
+        };
+    }
+
+    /**
+     * Map a table column to its indexed database sort key
+     * @param column Model column
+     * @return Sort key, or null if the database cannot sort on the column efficiently
+     */
+    private static NotificationSortKey toSortKey(int column) {
+        switch (column) {
+            case 0:
+                return NotificationSortKey.ID;
+            case 4:
+                return NotificationSortKey.READ;
+            case CREATED_COLUMN:
+                return NotificationSortKey.CREATED;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Get a cell of the selected row from whichever model is shown
+     * @param column Model column
+     * @return Cell value, or null if nothing is selected or the row has not loaded yet
+     */
+    private Object getSelectedValue(int column) {
+        int selectedRow = notificationsTable.getSelectedRow();
+        if (selectedRow == -1) {
+            return null;
+        }
+        int modelRow = notificationsTable.convertRowIndexToModel(selectedRow);
+        return notificationsTable.getModel().getValueAt(modelRow, column);
     }
 
     /**
@@ -380,8 +530,8 @@ public class NotificationPanel extends JFrame {
      * depende sa count.
      */
     private void updateUnreadCount() {
-        try {
-            int unreadCount = notificationDAO.getUnreadCount(currentUser.getId());
+        final int userId = currentUser.getId();
+        tasks.submit(() -> notificationDAO.getUnreadCount(userId), unreadCount -> {
             unreadCountLabel.setText("Unread: " + unreadCount);
 
             if (unreadCount > 0) {
@@ -389,9 +539,7 @@ public class NotificationPanel extends JFrame {
             } else {
                 unreadCountLabel.setForeground(Color.BLACK);
             }
-        } catch (MatisenseException e) {
-            unreadCountLabel.setText("Unread count unavailable");
-        }
+        }, error -> unreadCountLabel.setText("Unread count unavailable"));
     }
 
     /**
@@ -401,15 +549,15 @@ public class NotificationPanel extends JFrame {
      * nabasa.
      */
     private void markSelectedAsRead() {
-        int selectedRow = notificationsTable.getSelectedRow();
-        if (selectedRow == -1) {
+        Object idValue = getSelectedValue(0);
+        if (!(idValue instanceof Integer)) {
             JOptionPane.showMessageDialog(this, "Please select a notification to mark as read",
                     "No Selection", JOptionPane.WARNING_MESSAGE);
             return;
         }
 
-        int notificationId = (Integer) notificationsTableModel.getValueAt(selectedRow, 0);
-        Boolean isRead = "Yes".equals(notificationsTableModel.getValueAt(selectedRow, 4));
+        int notificationId = (Integer) idValue;
+        Boolean isRead = "Yes".equals(getSelectedValue(4));
 
         if (isRead) {
             JOptionPane.showMessageDialog(this, "This notification is already marked as read",
@@ -417,8 +565,7 @@ public class NotificationPanel extends JFrame {
             return;
         }
 
-        try {
-            boolean success = notificationDAO.markAsRead(notificationId);
+        tasks.submit(() -> notificationDAO.markAsRead(notificationId), success -> {
             if (success) {
                 JOptionPane.showMessageDialog(this, "Notification marked as read",
                         "Success", JOptionPane.INFORMATION_MESSAGE);
@@ -428,10 +575,7 @@ public class NotificationPanel extends JFrame {
                 JOptionPane.showMessageDialog(this, "Failed to mark notification as read",
                         "Error", JOptionPane.ERROR_MESSAGE);
             }
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this, "Error marking notification as read: " + e.getMessage(),
-                    "Error", JOptionPane.ERROR_MESSAGE);
-        }
+        }, "Error marking notification as read");
     }
 
     /**
@@ -440,8 +584,8 @@ public class NotificationPanel extends JFrame {
      * Minamark lahat ng notifications ng user bilang nabasa sa isang click.
      */
     private void markAllAsRead() {
-        try {
-            boolean success = notificationDAO.markAllAsReadForUser(currentUser.getId());
+        final int userId = currentUser.getId();
+        tasks.submit(() -> notificationDAO.markAllAsReadForUser(userId), success -> {
             if (success) {
                 JOptionPane.showMessageDialog(this, "All notifications marked as read",
                         "Success", JOptionPane.INFORMATION_MESSAGE);
@@ -451,10 +595,7 @@ public class NotificationPanel extends JFrame {
                 JOptionPane.showMessageDialog(this, "No notifications to mark as read",
                         "Info", JOptionPane.INFORMATION_MESSAGE);
             }
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this, "Error marking all notifications as read: " + e.getMessage(),
-                    "Error", JOptionPane.ERROR_MESSAGE);
-        }
+        }, "Error marking all notifications as read");
     }
 
     /**
@@ -463,23 +604,22 @@ public class NotificationPanel extends JFrame {
      * Binubura ang napiling notification matapos kumpirmahin ng user.
      */
     private void deleteSelectedNotification() {
-        int selectedRow = notificationsTable.getSelectedRow();
-        if (selectedRow == -1) {
+        Object idValue = getSelectedValue(0);
+        if (!(idValue instanceof Integer)) {
             JOptionPane.showMessageDialog(this, "Please select a notification to delete",
                     "No Selection", JOptionPane.WARNING_MESSAGE);
             return;
         }
 
-        int notificationId = (Integer) notificationsTableModel.getValueAt(selectedRow, 0);
-        String title = (String) notificationsTableModel.getValueAt(selectedRow, 1);
+        int notificationId = (Integer) idValue;
+        String title = (String) getSelectedValue(1);
 
         int confirm = JOptionPane.showConfirmDialog(this,
                 "Are you sure you want to delete this notification?\n\"" + title + "\"",
                 "Confirm Delete", JOptionPane.YES_NO_OPTION);
 
         if (confirm == JOptionPane.YES_OPTION) {
-            try {
-                boolean success = notificationDAO.delete(notificationId);
+            tasks.submit(() -> notificationDAO.delete(notificationId), success -> {
                 if (success) {
                     JOptionPane.showMessageDialog(this, "Notification deleted successfully",
                             "Success", JOptionPane.INFORMATION_MESSAGE);
@@ -489,10 +629,7 @@ public class NotificationPanel extends JFrame {
                     JOptionPane.showMessageDialog(this, "Failed to delete notification",
                             "Error", JOptionPane.ERROR_MESSAGE);
                 }
-            } catch (MatisenseException e) {
-                JOptionPane.showMessageDialog(this, "Error deleting notification: " + e.getMessage(),
-                        "Error", JOptionPane.ERROR_MESSAGE);
-            }
+            }, "Error deleting notification");
         }
     }
 
@@ -502,30 +639,49 @@ public class NotificationPanel extends JFrame {
      * Ipinapakita ang buong detalye ng napiling notification sa isang dialog.
      */
     private void viewNotificationDetails() {
-        int selectedRow = notificationsTable.getSelectedRow();
-        if (selectedRow == -1) {
+        Object idValue = getSelectedValue(0);
+        if (!(idValue instanceof Integer)) {
             return;
         }
 
-        int notificationId = (Integer) notificationsTableModel.getValueAt(selectedRow, 0);
+        int notificationId = (Integer) idValue;
 
-        try {
+        tasks.submit(() -> {
             Notification notification = notificationDAO.findById(notificationId);
-            if (notification != null) {
-                JPanel detailsPanel = buildDetailPanel(notification);
+            return new NotificationDetails(notification, findRelatedReport(notification));
+        }, details -> {
+            Notification notification = details.notification;
+            if (notification == null) {
+                return;
+            }
+            JPanel detailsPanel = buildDetailPanel(notification, details.report);
 
-                JOptionPane.showMessageDialog(this, detailsPanel,
-                        "Notification Details", JOptionPane.INFORMATION_MESSAGE);
+            JOptionPane.showMessageDialog(this, detailsPanel,
+                    "Notification Details", JOptionPane.INFORMATION_MESSAGE);
 
-                if (!notification.isRead()) {
-                    notificationDAO.markAsRead(notificationId);
+            if (!notification.isRead()) {
+                tasks.submit(() -> notificationDAO.markAsRead(notificationId), marked -> {
                     loadNotifications();
                     updateUnreadCount();
-                }
+                }, "Error marking notification as read");
             }
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this, "Error loading notification details: " + e.getMessage(),
-                    "Error", JOptionPane.ERROR_MESSAGE);
+        }, "Error loading notification details");
+    }
+
+    /**
+     * Load the report a report notification refers to; runs off the EDT
+     * 
+     * Kinukuha ang report na tinutukoy ng notification para sa detalye.
+     */
+    private Report findRelatedReport(Notification notification) {
+        if (notification == null || !notification.isReportNotification() || notification.getRelatedId() == null) {
+            return null;
+        }
+        try {
+            return reportDAO.findById(notification.getRelatedId());
+        } catch (MatisenseException ignored) {
+            // Fall back to notification-only details if report loading fails
+            return null;
         }
     }
 }
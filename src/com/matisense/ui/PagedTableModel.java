@@ -0,0 +1,237 @@
+package com.matisense.ui;
+
+import com.matisense.exception.MatisenseException;
+import com.matisense.service.AsyncDataAccess;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Virtual table model that knows the total row count but holds only a few pages of rows
+ * Pages are fetched off the EDT when a cell in them is first painted, and the page after the
+ * one being viewed is prefetched. The least recently used pages are dropped once maxPages
+ * are cached, so memory stays bounded whatever the table size. Rows that are not loaded yet
+ * show as empty cells until their page arrives. Fetches run through the window's WindowTasks;
+ * a new source or refresh cancels the ones still running, including their JDBC statements.
+ * @param <T> Row item type
+ */
+class PagedTableModel<T> extends AbstractTableModel {
+    private final String[] columnNames;
+    private final int pageSize;
+    private final int maxPages;
+    private final Function<T, Object[]> rowMapper;
+    private final WindowTasks tasks;
+    private final LinkedHashMap<Integer, LoadedPage<T>> pages;
+    private final Map<Integer, CompletableFuture<List<T>>> loadingPages = new HashMap<>();
+    private CompletableFuture<Integer> countLoad;
+
+    private PageSource<T> source;
+    private int rowCount;
+    // Bumped whenever the source or its data changes; results of older loads are ignored
+    private long generation;
+
+    /**
+     * Where the rows come from; both methods are called off the EDT
+     * @param <T> Row item type
+     */
+    interface PageSource<T> {
+        int count() throws MatisenseException;
+
+        List<T> window(int offset, int limit) throws MatisenseException;
+    }
+
+    private static class LoadedPage<T> {
+        private final List<T> items;
+        private final List<Object[]> rows;
+
+        private LoadedPage(List<T> items, List<Object[]> rows) {
+            this.items = items;
+            this.rows = rows;
+        }
+    }
+
+    /**
+     * Constructor
+     * @param columnNames Column headers
+     * @param pageSize Rows per page
+     * @param maxPages Pages kept in memory
+     * @param rowMapper Converts an item into its cell values
+     * @param tasks Background calls of the window showing the table
+     */
+    PagedTableModel(String[] columnNames, int pageSize, int maxPages, Function<T, Object[]> rowMapper,
+            WindowTasks tasks) {
+        this.columnNames = columnNames.clone();
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        this.rowMapper = rowMapper;
+        this.tasks = tasks;
+        this.pages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, LoadedPage<T>> eldest) {
+                return size() > PagedTableModel.this.maxPages;
+            }
+        };
+    }
+
+    /**
+     * Show rows from a new source; the row count is fetched in the background
+     * @param source Row source, or null to empty the table
+     */
+    void setSource(PageSource<T> source) {
+        setSource(source, null);
+    }
+
+    /**
+     * Show rows from a new source as a section of a view load
+     * The row count and the first page are fetched in parallel as calls of the group, so they
+     * share its deadline and error report; later pages load on demand as usual.
+     * @param source Row source, or null to empty the table
+     * @param group View load the first fetches belong to, or null to run them on their own
+     */
+    void setSource(PageSource<T> source, WindowTasks.Group group) {
+        this.source = source;
+        reload(group);
+    }
+
+    /**
+     * Drop every cached page and re-count, e.g. after the underlying data changed
+     */
+    void refresh() {
+        reload(null);
+    }
+
+    private void reload(WindowTasks.Group group) {
+        generation++;
+        cancelLoads();
+        pages.clear();
+        if (source == null) {
+            rowCount = 0;
+            fireTableDataChanged();
+            return;
+        }
+        final long requestGeneration = generation;
+        countLoad = submit(group, source::count, count -> {
+            if (requestGeneration != generation) {
+                return;
+            }
+            countLoad = null;
+            rowCount = count;
+            fireTableDataChanged();
+        }, error -> {
+            if (requestGeneration != generation) {
+                return;
+            }
+            countLoad = null;
+            System.err.println("Error counting rows: " + error.getMessage());
+            rowCount = 0;
+            fireTableDataChanged();
+        });
+        // The first page is almost always painted, so it need not wait for the count
+        load(0, group);
+    }
+
+    private <R> CompletableFuture<R> submit(WindowTasks.Group group, AsyncDataAccess.DaoCall<R> call,
+            Consumer<R> onSuccess, Consumer<Throwable> onFailure) {
+        return group != null ? group.submit(call, onSuccess, onFailure) : tasks.submit(call, onSuccess, onFailure);
+    }
+
+    /**
+     * Cancel the count and page fetches still running; their statements are cancelled too
+     */
+    private void cancelLoads() {
+        if (countLoad != null) {
+            countLoad.cancel(true);
+            countLoad = null;
+        }
+        for (CompletableFuture<List<T>> pageLoad : loadingPages.values()) {
+            pageLoad.cancel(true);
+        }
+        loadingPages.clear();
+    }
+
+    /**
+     * Get the item behind a row, if its page is loaded
+     * @param row Model row
+     * @return Item, or null if the page is not loaded yet
+     */
+    T getItem(int row) {
+        LoadedPage<T> page = pages.get(row / pageSize);
+        int index = row % pageSize;
+        return page != null && index < page.items.size() ? page.items.get(index) : null;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        int pageIndex = row / pageSize;
+        LoadedPage<T> page = pages.get(pageIndex);
+        if (page == null) {
+            load(pageIndex, null);
+            return null;
+        }
+        // Prefetch the next page once the viewport reaches the second half of this one
+        int index = row % pageSize;
+        if (index >= pageSize / 2) {
+            load(pageIndex + 1, null);
+        }
+        return index < page.rows.size() ? page.rows.get(index)[column] : null;
+    }
+
+    /**
+     * Fetch a page in the background unless it is cached, already loading, or past the end
+     * While the count is loading the end is unknown, so only the first page is fetched.
+     */
+    private void load(int pageIndex, WindowTasks.Group group) {
+        int knownRows = countLoad != null && !countLoad.isDone() ? pageSize : rowCount;
+        CompletableFuture<List<T>> loading = loadingPages.get(pageIndex);
+        // A load the group cancelled at its deadline can be retried
+        if (source == null || pageIndex * pageSize >= knownRows
+                || pages.containsKey(pageIndex) || (loading != null && !loading.isDone())) {
+            return;
+        }
+        final long requestGeneration = generation;
+        final PageSource<T> requestSource = source;
+        final int offset = pageIndex * pageSize;
+        loadingPages.put(pageIndex, submit(group, () -> requestSource.window(offset, pageSize), items -> {
+            if (requestGeneration != generation) {
+                return;
+            }
+            loadingPages.remove(pageIndex);
+            List<Object[]> rows = new ArrayList<>(items.size());
+            for (T item : items) {
+                rows.add(rowMapper.apply(item));
+            }
+            pages.put(pageIndex, new LoadedPage<>(items, rows));
+            int last = Math.min(offset + pageSize, rowCount) - 1;
+            if (last >= offset) {
+                fireTableRowsUpdated(offset, last);
+            }
+        }, error -> {
+            if (requestGeneration != generation) {
+                return;
+            }
+            loadingPages.remove(pageIndex);
+            System.err.println("Error loading rows " + offset + "-" + (offset + pageSize) + ": " + error.getMessage());
+        }));
+    }
+}
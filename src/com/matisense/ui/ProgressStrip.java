@@ -0,0 +1,70 @@
+package com.matisense.ui;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Non-modal status strip showing how far a background load has got
+ * Sits along the bottom of a window and stays hidden while nothing is loading. Unlike
+ * LoadingDialog it does not block input, so rows can be read while later pages arrive.
+ */
+class ProgressStrip extends JPanel {
+    private final JLabel messageLabel;
+    private final JProgressBar progressBar;
+
+    ProgressStrip() {
+        super(new BorderLayout(10, 0));
+        setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createMatteBorder(1, 0, 0, 0, new Color(230, 232, 236)),
+                BorderFactory.createEmptyBorder(4, 12, 4, 12)));
+        setBackground(new Color(250, 252, 255));
+
+        messageLabel = new JLabel();
+        messageLabel.setFont(new Font("Arial", Font.PLAIN, 12));
+
+        progressBar = new JProgressBar();
+        progressBar.setStringPainted(true);
+        progressBar.setPreferredSize(new Dimension(220, 16));
+
+        add(messageLabel, BorderLayout.CENTER);
+        add(progressBar, BorderLayout.EAST);
+        setVisible(false);
+    }
+
+    /**
+     * Show the strip for a new load; progress is indeterminate until the total is known
+     * @param message What is being loaded
+     */
+    void start(String message) {
+        messageLabel.setText(message);
+        progressBar.setIndeterminate(true);
+        progressBar.setString("");
+        setVisible(true);
+    }
+
+    /**
+     * Report rows loaded so far
+     * @param loaded Rows loaded
+     * @param estimatedTotal Expected rows, or a value below 1 if unknown
+     */
+    void setProgress(int loaded, int estimatedTotal) {
+        if (estimatedTotal < 1) {
+            progressBar.setIndeterminate(true);
+            progressBar.setString(loaded + " rows");
+            return;
+        }
+        // The total is an estimate; rows added during the load can push past it
+        int total = Math.max(loaded, estimatedTotal);
+        progressBar.setIndeterminate(false);
+        progressBar.setMaximum(total);
+        progressBar.setValue(loaded);
+        progressBar.setString(loaded + " / " + total + " rows");
+    }
+
+    /**
+     * Hide the strip once the load has finished or failed
+     */
+    void finish() {
+        setVisible(false);
+    }
+}
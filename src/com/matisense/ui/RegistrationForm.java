@@ -35,6 +35,7 @@ public class RegistrationForm extends JFrame {
     private JButton cancelButton;
     private JPanel mainPanel;
     private UserDAO userDAO;
+    private final WindowTasks tasks;
     private static final DateTimeFormatter DATE_ONLY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.ENGLISH);
     
     /**
@@ -42,6 +43,7 @@ public class RegistrationForm extends JFrame {
      */
     public RegistrationForm() {
         this.userDAO = new UserDAO();
+        this.tasks = new WindowTasks(this);
         initializeComponents();
         setupLayout();
         setupEventHandlers();
@@ -361,38 +363,47 @@ public class RegistrationForm extends JFrame {
             return;
         }
         
-        try {
-            // Check if username already exists
-            if (userDAO.findByUsername(username) != null) {
-                JOptionPane.showMessageDialog(this, "Username already exists", "Registration Error", JOptionPane.ERROR_MESSAGE);
-                return;
-            }
-            
-            // Check if email already exists
-            if (userDAO.findByEmail(email) != null) {
-                JOptionPane.showMessageDialog(this, "Email already exists", "Registration Error", JOptionPane.ERROR_MESSAGE);
-                return;
-            }
-            
-            // Create user
-            User user = new User(username, password, fullName, email);
-            user.setAddress(address);
-            user.setGender(gender);
-            user.setContactNumber(contactNumber.isEmpty() ? null : contactNumber);
-            user.setBirthday(birthday.isEmpty() ? null : birthday);
-            user.setUserRole(User.UserRole.RESIDENT);
-            
-            User createdUser = userDAO.create(user);
-            
-            if (createdUser != null && createdUser.getId() > 0) {
+        // Create user
+        User user = new User(username, password, fullName, email);
+        user.setAddress(address);
+        user.setGender(gender);
+        user.setContactNumber(contactNumber.isEmpty() ? null : contactNumber);
+        user.setBirthday(birthday.isEmpty() ? null : birthday);
+        user.setUserRole(User.UserRole.RESIDENT);
+
+        registerButton.setEnabled(false);
+        tasks.submit(() -> registerUser(user), rejection -> {
+            if (rejection == null) {
                 JOptionPane.showMessageDialog(this, "Registration successful! You can now login.", "Success", JOptionPane.INFORMATION_MESSAGE);
                 dispose();
-            } else {
-                JOptionPane.showMessageDialog(this, "Registration failed", "Error", JOptionPane.ERROR_MESSAGE);
+                return;
             }
-            
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this, "Registration error: " + e.getMessage(), "Registration Error", JOptionPane.ERROR_MESSAGE);
+            registerButton.setEnabled(true);
+            JOptionPane.showMessageDialog(this, rejection, "Registration Error", JOptionPane.ERROR_MESSAGE);
+        }, error -> {
+            registerButton.setEnabled(true);
+            JOptionPane.showMessageDialog(this, "Registration error: " + error.getMessage(), "Registration Error", JOptionPane.ERROR_MESSAGE);
+        });
+    }
+
+    /**
+     * Check that the username and email are free, then create the user; runs off the EDT
+     * @param user New resident account
+     * @return Reason the registration was refused, or null on success
+     * @throws MatisenseException if a database error occurs
+     */
+    private String registerUser(User user) throws MatisenseException {
+        // Check if username already exists
+        if (userDAO.findByUsername(user.getUsername()) != null) {
+            return "Username already exists";
         }
+
+        // Check if email already exists
+        if (userDAO.findByEmail(user.getEmail()) != null) {
+            return "Email already exists";
+        }
+
+        User createdUser = userDAO.create(user);
+        return createdUser != null && createdUser.getId() > 0 ? null : "Registration failed";
     }
 }
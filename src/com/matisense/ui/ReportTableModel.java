@@ -0,0 +1,440 @@
+package com.matisense.ui;
+
+import com.matisense.model.Report;
+import com.matisense.model.ReportListItem;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableRowSorter;
+
+/**
+ * Report table model that stores each field in its own array instead of one Object[] per row
+ * IDs are ints, statuses are enum ordinals in a byte, and times are epoch seconds in a long.
+ * Resident names and report types are shared between rows. Nothing is formatted when rows
+ * are loaded: time cells are returned as LocalDateTime and formatted by the cell renderer,
+ * so only visible cells pay for it. Filters read the primitive columns directly through
+ * Rows and do not allocate. Refreshes go through KeyedRowDiff, so only rows that actually
+ * changed fire events.
+ * Not thread-safe; use it on the EDT and hand snapshot() to background work.
+ */
+class ReportTableModel extends AbstractTableModel {
+    static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a");
+
+    // Marks a missing time in the epoch-second columns
+    static final long NO_TIME = Long.MIN_VALUE;
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final Report.ReportStatus[] STATUSES = Report.ReportStatus.values();
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Fields a report table can show
+     */
+    enum Column {
+        ID, RESIDENT, TYPE, LOCATION, SUMMARY, STATUS, CREATED, UPDATED
+    }
+
+    /**
+     * Read access to the columns filters need
+     * Implemented by the model for the EDT and by snapshot() for worker threads.
+     */
+    interface Rows {
+        int size();
+
+        int getId(int row);
+
+        Report.ReportStatus getStatus(int row);
+
+        String getType(int row);
+
+        /**
+         * Get the creation day of a row
+         * @param row Model row
+         * @return Days since 1970-01-01, or NO_TIME if the row has no creation time
+         */
+        long getCreatedEpochDay(int row);
+    }
+
+    private final String[] columnNames;
+    private final Column[] columns;
+    // Shares one String instance per distinct resident name and report type; cleared when the table empties
+    private final Map<String, String> stringPool = new HashMap<>();
+
+    private int size;
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private String[] residentNames = new String[INITIAL_CAPACITY];
+    private String[] types = new String[INITIAL_CAPACITY];
+    private String[] locations = new String[INITIAL_CAPACITY];
+    private String[] previews = new String[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private long[] createdAt = new long[INITIAL_CAPACITY];
+    private long[] updatedAt = new long[INITIAL_CAPACITY];
+
+    private final Rows liveRows = new Rows() {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int getId(int row) {
+            return ids[row];
+        }
+
+        @Override
+        public Report.ReportStatus getStatus(int row) {
+            return STATUSES[statuses[row]];
+        }
+
+        @Override
+        public String getType(int row) {
+            return types[row];
+        }
+
+        @Override
+        public long getCreatedEpochDay(int row) {
+            return toEpochDay(createdAt[row]);
+        }
+    };
+
+    private final KeyedRowDiff.Target<Integer, ReportListItem> diffTarget = new KeyedRowDiff.Target<>() {
+        @Override
+        public int getRowCount() {
+            return size;
+        }
+
+        @Override
+        public Integer getKey(int row) {
+            return ids[row];
+        }
+
+        @Override
+        public Integer keyOf(ReportListItem item) {
+            return item.getReportId();
+        }
+
+        @Override
+        public void deleteRows(int first, int last) {
+            ReportTableModel.this.deleteRows(first, last);
+        }
+
+        @Override
+        public boolean updateRow(int row, ReportListItem item) {
+            if (!differs(row, item)) {
+                return false;
+            }
+            store(row, item);
+            return true;
+        }
+
+        @Override
+        public void fireRowsUpdated(int first, int last) {
+            fireTableRowsUpdated(first, last);
+        }
+
+        @Override
+        public void insertRows(int at, List<ReportListItem> items) {
+            ReportTableModel.this.insertRows(at, items);
+        }
+    };
+
+    /**
+     * Constructor
+     * @param columnNames Column headers, one per shown column
+     * @param columns Fields shown, in column order
+     */
+    ReportTableModel(String[] columnNames, Column... columns) {
+        if (columnNames.length != columns.length) {
+            throw new IllegalArgumentException("Expected " + columns.length + " column names, got " + columnNames.length);
+        }
+        this.columnNames = columnNames.clone();
+        this.columns = columns.clone();
+    }
+
+    /**
+     * Format a cell value for display
+     * @param value Value from getValueAt
+     * @return Display text; empty for null
+     */
+    static String formatCell(Object value) {
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).format(DATE_TIME_FORMAT);
+        }
+        return value != null ? value.toString() : "";
+    }
+
+    /**
+     * Give a sorter typed comparators for the ID and time columns
+     * IDs compare as numbers and times chronologically, not as formatted text (which put
+     * 12 PM before 1 AM). Text columns keep the sorter's default collation.
+     * @param sorter Sorter over this model
+     */
+    void installComparators(TableRowSorter<ReportTableModel> sorter) {
+        for (int column = 0; column < columns.length; column++) {
+            switch (columns[column]) {
+                case ID:
+                    sorter.setComparator(column, Comparator.comparingInt(Integer.class::cast));
+                    break;
+                case CREATED:
+                case UPDATED:
+                    sorter.setComparator(column, Comparator.nullsFirst(
+                            Comparator.comparing(LocalDateTime.class::cast)));
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Replace the rows with a new snapshot, applied as row-level changes
+     * Rows are matched by report ID: missing ones are deleted, changed ones updated in place,
+     * and new ones inserted at the top. Unchanged rows fire no event.
+     * @param items Current rows; new ones appear in the order given
+     * @return Items that were not shown before
+     */
+    List<ReportListItem> setRows(List<ReportListItem> items) {
+        return KeyedRowDiff.replace(diffTarget, items);
+    }
+
+    /**
+     * Update rows already shown in place and add the others at the top; no row is removed
+     * @param items Changed rows, oldest change first
+     * @return Items that were not shown before, newest change first
+     */
+    List<ReportListItem> mergeRows(List<ReportListItem> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        // Newest change ends up on the top row
+        List<ReportListItem> newestFirst = new ArrayList<>(items);
+        Collections.reverse(newestFirst);
+        return KeyedRowDiff.merge(diffTarget, newestFirst);
+    }
+
+    /**
+     * Add one page of a list being loaded; rows already shown are updated in place
+     * @param items Rows of the page, in display order
+     * @return Items that were not shown before, appended at the end
+     */
+    List<ReportListItem> appendRows(List<ReportListItem> items) {
+        return KeyedRowDiff.append(diffTarget, items);
+    }
+
+    /**
+     * Get a read-only copy of the filterable columns for use off the EDT
+     * @return Snapshot of the current rows
+     */
+    Rows snapshot() {
+        return new Snapshot(Arrays.copyOf(ids, size), Arrays.copyOf(statuses, size),
+                Arrays.copyOf(types, size), Arrays.copyOf(createdAt, size));
+    }
+
+    /**
+     * Get live read access to the filterable columns; EDT only
+     * @return Rows view of this model
+     */
+    Rows rows() {
+        return liveRows;
+    }
+
+    int getId(int row) {
+        return ids[row];
+    }
+
+    Report.ReportStatus getStatus(int row) {
+        return STATUSES[statuses[row]];
+    }
+
+    @Override
+    public int getRowCount() {
+        return size;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        switch (columns[column]) {
+            case ID:
+                return ids[row];
+            case RESIDENT:
+                return residentNames[row];
+            case TYPE:
+                return types[row];
+            case LOCATION:
+                return locations[row];
+            case SUMMARY:
+                return previews[row];
+            case STATUS:
+                return STATUSES[statuses[row]].getDisplayName();
+            case CREATED:
+                return toDateTime(createdAt[row]);
+            case UPDATED:
+                return toDateTime(updatedAt[row]);
+            default:
+                return null;
+        }
+    }
+
+    private void store(int row, ReportListItem item) {
+        ids[row] = item.getReportId();
+        residentNames[row] = pooled(item.getResidentName());
+        types[row] = pooled(item.getReportType());
+        locations[row] = item.getLocation();
+        previews[row] = item.getDescriptionPreview();
+        statuses[row] = (byte) item.getStatus().ordinal();
+        createdAt[row] = toEpochSecond(item.getCreatedAt());
+        updatedAt[row] = toEpochSecond(item.getUpdatedAt());
+    }
+
+    private boolean differs(int row, ReportListItem item) {
+        return statuses[row] != item.getStatus().ordinal()
+                || createdAt[row] != toEpochSecond(item.getCreatedAt())
+                || updatedAt[row] != toEpochSecond(item.getUpdatedAt())
+                || !Objects.equals(residentNames[row], item.getResidentName())
+                || !Objects.equals(types[row], item.getReportType())
+                || !Objects.equals(locations[row], item.getLocation())
+                || !Objects.equals(previews[row], item.getDescriptionPreview());
+    }
+
+    private void deleteRows(int first, int last) {
+        int count = last - first + 1;
+        int tail = size - last - 1;
+        System.arraycopy(ids, last + 1, ids, first, tail);
+        System.arraycopy(residentNames, last + 1, residentNames, first, tail);
+        System.arraycopy(types, last + 1, types, first, tail);
+        System.arraycopy(locations, last + 1, locations, first, tail);
+        System.arraycopy(previews, last + 1, previews, first, tail);
+        System.arraycopy(statuses, last + 1, statuses, first, tail);
+        System.arraycopy(createdAt, last + 1, createdAt, first, tail);
+        System.arraycopy(updatedAt, last + 1, updatedAt, first, tail);
+        int previousSize = size;
+        size -= count;
+        // Drop references held by rows past the new end
+        Arrays.fill(residentNames, size, previousSize, null);
+        Arrays.fill(types, size, previousSize, null);
+        Arrays.fill(locations, size, previousSize, null);
+        Arrays.fill(previews, size, previousSize, null);
+        if (size == 0) {
+            stringPool.clear();
+        }
+        fireTableRowsDeleted(first, last);
+    }
+
+    /**
+     * Shift the rows from at down and store the new ones there in the order given
+     */
+    private void insertRows(int at, List<ReportListItem> added) {
+        int count = added.size();
+        int tail = size - at;
+        ensureCapacity(size + count);
+        System.arraycopy(ids, at, ids, at + count, tail);
+        System.arraycopy(residentNames, at, residentNames, at + count, tail);
+        System.arraycopy(types, at, types, at + count, tail);
+        System.arraycopy(locations, at, locations, at + count, tail);
+        System.arraycopy(previews, at, previews, at + count, tail);
+        System.arraycopy(statuses, at, statuses, at + count, tail);
+        System.arraycopy(createdAt, at, createdAt, at + count, tail);
+        System.arraycopy(updatedAt, at, updatedAt, at + count, tail);
+        for (int i = 0; i < count; i++) {
+            store(at + i, added.get(i));
+        }
+        size += count;
+        fireTableRowsInserted(at, at + count - 1);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        residentNames = Arrays.copyOf(residentNames, capacity);
+        types = Arrays.copyOf(types, capacity);
+        locations = Arrays.copyOf(locations, capacity);
+        previews = Arrays.copyOf(previews, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        updatedAt = Arrays.copyOf(updatedAt, capacity);
+    }
+
+    private String pooled(String value) {
+        if (value == null) {
+            return null;
+        }
+        String shared = stringPool.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        // Local wall-clock time encoded at UTC, so floorDiv by a day gives the local date
+        return time != null ? time.toEpochSecond(ZoneOffset.UTC) : NO_TIME;
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return epochSecond != NO_TIME ? LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC) : null;
+    }
+
+    private static long toEpochDay(long epochSecond) {
+        return epochSecond != NO_TIME ? Math.floorDiv(epochSecond, SECONDS_PER_DAY) : NO_TIME;
+    }
+
+    /**
+     * Immutable copy of the filterable columns
+     */
+    private static class Snapshot implements Rows {
+        private final int[] ids;
+        private final byte[] statuses;
+        private final String[] types;
+        private final long[] createdAt;
+
+        private Snapshot(int[] ids, byte[] statuses, String[] types, long[] createdAt) {
+            this.ids = ids;
+            this.statuses = statuses;
+            this.types = types;
+            this.createdAt = createdAt;
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+
+        @Override
+        public int getId(int row) {
+            return ids[row];
+        }
+
+        @Override
+        public Report.ReportStatus getStatus(int row) {
+            return STATUSES[statuses[row]];
+        }
+
+        @Override
+        public String getType(int row) {
+            return types[row];
+        }
+
+        @Override
+        public long getCreatedEpochDay(int row) {
+            return toEpochDay(createdAt[row]);
+        }
+    }
+}
@@ -3,11 +3,17 @@ package com.matisense.ui;
 import com.matisense.model.User;
 import com.matisense.model.Report;
 import com.matisense.model.Announcement;
+import com.matisense.model.ReportListItem;
+import com.matisense.dao.ChangeWatermark;
+import com.matisense.dao.NotificationDAO;
+import com.matisense.dao.Page;
+import com.matisense.dao.PageCursor;
 import com.matisense.dao.ReportDAO;
+import com.matisense.dao.ReportQuery;
 import com.matisense.dao.AnnouncementDAO;
 import com.matisense.dao.UserDAO;
 import com.matisense.exception.MatisenseException;
-import com.matisense.service.NotificationService;
+import com.matisense.service.NotificationDispatcher;
 import com.matisense.util.ValidationUtil;
 
 import javax.swing.*;
@@ -15,14 +21,18 @@ import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableRowSorter;
-import javax.swing.RowFilter;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.time.LocalDate;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
@@ -44,17 +54,29 @@ public class ResidentDashboard extends JFrame {
             "Public Service Request",
             "Other"
     };
+    private static final int DESCRIPTION_PREVIEW_LENGTH = 50;
+    // Quiet period after the last keystroke or filter change before rows are re-filtered
+    private static final int FILTER_DEBOUNCE_MILLIS = 150;
+    // Rows per page when a full load is streamed into the reports table
+    private static final int REPORT_STREAM_PAGE_SIZE = 250;
+    // Time every dashboard section together may take before the stragglers are cancelled
+    private static final long DASHBOARD_LOAD_DEADLINE_MILLIS = 30_000L;
     private User currentUser;
     private ReportDAO reportDAO;
     private AnnouncementDAO announcementDAO;
     private UserDAO userDAO;
-    private NotificationService notificationService;
+    private NotificationDAO notificationDAO;
+    private final WindowTasks tasks;
     
     // UI Components
     private JTabbedPane tabbedPane;
     private JTable myReportsTable;
-    private DefaultTableModel myReportsTableModel;
-    private TableRowSorter<DefaultTableModel> reportsSorter;
+    private ReportTableModel myReportsTableModel;
+    private TableRowSorter<ReportTableModel> reportsSorter;
+    private TableSearchIndex reportsSearchIndex;
+    private RowFilterPipeline reportFilterPipeline;
+    // Newest report change already in the table; null forces a full reload
+    private ChangeWatermark reportWatermark;
     private JTextField searchField;
     private JComboBox<String> statusFilter;
     private JComboBox<String> dateFilter;
@@ -74,6 +96,11 @@ public class ResidentDashboard extends JFrame {
     private JButton notificationsButton;
     private JButton logoutButton;
     private JLabel welcomeLabel;
+    private ProgressStrip progressStrip;
+    // Dashboard load still running, or null; a newer refresh cancels it
+    private WindowTasks.Group dashboardLoad;
+    // Rows streamed into the table by the current dashboard load
+    private int streamedReportRows;
     
     // Profile components
     private JTextField profileUsernameField;
@@ -85,17 +112,25 @@ public class ResidentDashboard extends JFrame {
     private JTextField profileBirthdayField;
     private JButton profileSaveButton;
     
-    private static class DashboardData {
-        private final List<ReportRow> reportRows = new ArrayList<>();
-        private final List<AnnouncementRow> announcementRows = new ArrayList<>();
+    private static class LoadedReports {
+        private final List<ReportListItem> reports = new ArrayList<>();
+        // true if reports only holds rows changed since the previous watermark
+        private boolean incremental;
+        private ChangeWatermark watermark;
+        // Reports the resident has after an incremental load; a different row count means some were deleted
+        private int expectedRows;
     }
     
-    private static class ReportRow {
-        private final Object[] rowData;
+    /**
+     * One page of a streamed full load, with the total expected when it was fetched
+     */
+    private static class ReportPage {
+        private final List<ReportListItem> rows;
+        private final int estimatedTotal;
         
-        private ReportRow(int id, String type, String location, String descriptionPreview,
-                          String status, String createdAt, String updatedAt) {
-            this.rowData = new Object[]{id, type, location, descriptionPreview, status, createdAt, updatedAt};
+        private ReportPage(List<ReportListItem> rows, int estimatedTotal) {
+            this.rows = rows;
+            this.estimatedTotal = estimatedTotal;
         }
     }
     
@@ -115,14 +150,15 @@ public class ResidentDashboard extends JFrame {
         this.currentUser = currentUser;
         this.reportDAO = new ReportDAO();
         this.announcementDAO = new AnnouncementDAO();
-        this.notificationService = new NotificationService();
         this.userDAO = new UserDAO();
+        this.notificationDAO = new NotificationDAO();
+        this.tasks = new WindowTasks(this);
         
         initializeComponents();
         setupLayout();
         setupEventHandlers();
         configureFrame();
-        loadDashboardDataWithLoader("Loading your data...");
+        loadDashboardData("Loading your data...");
         loadProfileInfo();
     }
     
@@ -196,6 +232,8 @@ public class ResidentDashboard extends JFrame {
             public Component getTableCellRendererComponent(JTable tbl, Object value, boolean isSelected,
                                                            boolean hasFocus, int row, int column) {
                 Component c = super.getTableCellRendererComponent(tbl, value, isSelected, hasFocus, row, column);
+                // Times are stored unformatted; only visible cells are formatted
+                setText(ReportTableModel.formatCell(value));
                 if (!isSelected) {
                     c.setBackground(row % 2 == 0 ? Color.WHITE : LIGHT_BG);
                 }
@@ -231,18 +269,19 @@ public class ResidentDashboard extends JFrame {
         tabbedPane.setBackground(Color.WHITE);
         
         // My Reports tab components
-        myReportsTableModel = new DefaultTableModel(new String[]{
+        myReportsTableModel = new ReportTableModel(new String[]{
             "Report ID", "Type", "Location", "Description", "Status", "Created At", "Updated At"
-        }, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        }, ReportTableModel.Column.ID, ReportTableModel.Column.TYPE, ReportTableModel.Column.LOCATION,
+            ReportTableModel.Column.SUMMARY, ReportTableModel.Column.STATUS, ReportTableModel.Column.CREATED,
+            ReportTableModel.Column.UPDATED);
         
         myReportsTable = new JTable(myReportsTableModel);
+        reportsSearchIndex = new TableSearchIndex(myReportsTableModel, 0, 1, 2, 3);
         reportsSorter = new TableRowSorter<>(myReportsTableModel);
+        myReportsTableModel.installComparators(reportsSorter);
         myReportsTable.setRowSorter(reportsSorter);
+        reportFilterPipeline = new RowFilterPipeline(myReportsTableModel, reportsSorter, FILTER_DEBOUNCE_MILLIS,
+                this::buildReportCriteria);
         myReportsTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         myReportsTable.getTableHeader().setReorderingAllowed(false);
         styleTable(myReportsTable);
@@ -284,6 +323,7 @@ public class ResidentDashboard extends JFrame {
         
         welcomeLabel = new JLabel("Welcome, " + currentUser.getFullName());
         welcomeLabel.setFont(new Font("Arial", Font.BOLD, 14));
+        progressStrip = new ProgressStrip();
         
         profileUsernameField = new JTextField(20);
         profileUsernameField.setEditable(false);
@@ -333,6 +373,7 @@ public class ResidentDashboard extends JFrame {
         createProfileTab();
         
         add(tabbedPane, BorderLayout.CENTER);
+        add(progressStrip, BorderLayout.SOUTH);
     }
     
     /**
@@ -548,7 +589,7 @@ public class ResidentDashboard extends JFrame {
         refreshButton.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                loadDashboardDataWithLoader("Refreshing your data...");
+                loadDashboardData("Refreshing your data...");
             }
         });
         searchField.getDocument().addDocumentListener(new SimpleFilterListener(this::applyReportFilters));
@@ -610,91 +651,131 @@ public class ResidentDashboard extends JFrame {
     }
     
     /**
-     * Load dashboard data with visual feedback
+     * Load dashboard data in the background without blocking the window
+     * Reports, announcements and the unread count are fetched in parallel, each on its own
+     * pooled connection, and each is shown as soon as it arrives. A full load streams reports
+     * into the table a page at a time; progress is shown in the status strip.
+     * @param message Text shown in the status strip
      */
-    private void loadDashboardDataWithLoader(String message) {
-        final LoadingDialog loadingDialog = new LoadingDialog(this, message);
-        SwingWorker<DashboardData, Void> worker = new SwingWorker<DashboardData, Void>() {
-            private Exception loadException;
-            
-            @Override
-            protected DashboardData doInBackground() {
-                try {
-                    return fetchDashboardData();
-                } catch (Exception e) {
-                    loadException = e;
-                    return null;
-                }
+    private void loadDashboardData(String message) {
+        if (dashboardLoad != null) {
+            dashboardLoad.cancel();
+        }
+        final ChangeWatermark since = reportWatermark;
+        progressStrip.start(message);
+        streamedReportRows = 0;
+        final WindowTasks.Group load = tasks.openGroup(DASHBOARD_LOAD_DEADLINE_MILLIS,
+            "Error loading dashboard data", () -> {
+                dashboardLoad = null;
+                progressStrip.finish();
+            });
+        dashboardLoad = load;
+        
+        // Pages are queued to the EDT ahead of the final result, so they are shown first
+        Consumer<ReportPage> pageSink = page -> SwingUtilities.invokeLater(() -> {
+            if (!load.isStopped()) {
+                myReportsTableModel.appendRows(page.rows);
+                streamedReportRows += page.rows.size();
+                progressStrip.setProgress(streamedReportRows, page.estimatedTotal);
             }
-            
-            @Override
-            protected void done() {
-                loadingDialog.dispose();
-                if (loadException != null) {
-                    JOptionPane.showMessageDialog(ResidentDashboard.this,
-                        "Error loading dashboard data: " + loadException.getMessage(),
-                        "Error", JOptionPane.ERROR_MESSAGE);
-                    return;
-                }
-                
-                try {
-                    DashboardData data = get();
-                    if (data != null) {
-                        applyDashboardData(data);
-                    }
-                } catch (Exception e) {
-                    JOptionPane.showMessageDialog(ResidentDashboard.this,
-                        "Error applying dashboard data: " + e.getMessage(),
-                        "Error", JOptionPane.ERROR_MESSAGE);
-                }
+        });
+        load.submit(() -> fetchReports(since, pageSink, load::isStopped), this::applyReports);
+        load.submit(() -> announcementDAO.findRecent(50), this::showAnnouncements);
+        load.submit(() -> notificationDAO.getUnreadCount(currentUser.getId()), this::showUnreadCount);
+    }
+    
+    /**
+     * Load the resident's report rows off the EDT
+     * A full load is fetched newest first in keyset pages, and each page is handed to pageSink
+     * as soon as it arrives. The returned rows still include every report, so applying them
+     * removes rows deleted since the table was last loaded.
+     * @param since Watermark of the report rows already shown, or null to load every report
+     * @param pageSink Receives each page of a full load
+     * @param cancelled Checked between pages; a cancelled load returns null
+     */
+    private LoadedReports fetchReports(ChangeWatermark since, Consumer<ReportPage> pageSink,
+            BooleanSupplier cancelled) throws MatisenseException {
+        LoadedReports loaded = new LoadedReports();
+        loaded.incremental = since != null;
+        loaded.watermark = since;
+        // Resident filter applied by the database on (resident_id, created_at); only description previews are read
+        ReportQuery query = new ReportQuery();
+        query.setResidentId(currentUser.getId());
+        
+        if (loaded.incremental) {
+            List<ReportListItem> changed = reportDAO.findChangedSince(since, currentUser.getId(),
+                DESCRIPTION_PREVIEW_LENGTH);
+            for (ReportListItem report : changed) {
+                loaded.reports.add(report);
+                loaded.watermark = ChangeWatermark.advance(loaded.watermark, report.getUpdatedAt(), report.getReportId());
             }
-        };
+            loaded.expectedRows = reportDAO.countListItems(query);
+            return loaded;
+        }
         
-        worker.execute();
-        loadingDialog.setVisible(true);
-    }
-    
-    private DashboardData fetchDashboardData() throws MatisenseException {
-        DashboardData data = new DashboardData();
-        
-        List<Report> reports = reportDAO.findByResidentId(currentUser.getId());
-        for (Report report : reports) {
-            String description = report.getDescription() != null ? report.getDescription() : "";
-            String preview = description.length() > 50 ? description.substring(0, 50) + "..." : description;
-            data.reportRows.add(new ReportRow(
-                report.getId(),
-                report.getReportType(),
-                report.getLocation(),
-                preview,
-                report.getStatus().getDisplayName(),
-                report.getFormattedCreatedAt(),
-                report.getFormattedUpdatedAt()
-            ));
+        PageCursor cursor = null;
+        int estimatedTotal = 0;
+        do {
+            if (cancelled.getAsBoolean()) {
+                return null;
+            }
+            Page<ReportListItem> page = reportDAO.findListItemPage(query, cursor, REPORT_STREAM_PAGE_SIZE,
+                DESCRIPTION_PREVIEW_LENGTH);
+            for (ReportListItem report : page.getItems()) {
+                loaded.reports.add(report);
+                loaded.watermark = ChangeWatermark.advance(loaded.watermark, report.getUpdatedAt(), report.getReportId());
+            }
+            if (cursor == null && !page.hasMore()) {
+                estimatedTotal = page.getItems().size();
+            }
+            pageSink.accept(new ReportPage(page.getItems(), estimatedTotal));
+            if (cursor == null && page.hasMore()) {
+                // Counted only when there is a second page, after the first one is on its way to the table
+                estimatedTotal = reportDAO.countListItems(query);
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return loaded;
+    }
+    
+    private void applyReports(LoadedReports loaded) {
+        if (loaded == null) {
+            return;
+        }
+        if (loaded.incremental) {
+            myReportsTableModel.mergeRows(loaded.reports);
+        } else {
+            myReportsTableModel.setRows(loaded.reports);
         }
+        reportWatermark = loaded.watermark;
+        applyReportFilters();
         
-        List<Announcement> announcements = announcementDAO.findRecent(50);
+        // Changed rows cannot reveal deletions; if the totals disagree, start over with a full load
+        if (loaded.incremental && loaded.expectedRows != myReportsTableModel.getRowCount()) {
+            reportWatermark = null;
+            SwingUtilities.invokeLater(() -> loadDashboardData("Reloading reports..."));
+        }
+    }
+    
+    private void showAnnouncements(List<Announcement> announcements) {
+        // Announcement rows have no ID column; title and creation time identify them
+        List<Object[]> rows = new ArrayList<>(announcements.size());
         for (Announcement announcement : announcements) {
-            data.announcementRows.add(new AnnouncementRow(
+            rows.add(new AnnouncementRow(
                 announcement.getTitle(),
                 announcement.getTruncatedContent(100),
                 announcement.getFormattedCreatedAt()
-            ));
+            ).rowData);
         }
-        
-        return data;
+        KeyedRowDiff.replace(KeyedRowDiff.forTableModel(announcementsTableModel, 0, 2), rows);
     }
     
-    private void applyDashboardData(DashboardData data) {
-        myReportsTableModel.setRowCount(0);
-        for (ReportRow row : data.reportRows) {
-            myReportsTableModel.addRow(row.rowData);
-        }
-        applyReportFilters();
-        
-        announcementsTableModel.setRowCount(0);
-        for (AnnouncementRow row : data.announcementRows) {
-            announcementsTableModel.addRow(row.rowData);
-        }
+    /**
+     * Show the unread notification count on the notifications button
+     * @param unreadCount Unread notifications of the current user
+     */
+    private void showUnreadCount(int unreadCount) {
+        notificationsButton.setText(unreadCount > 0 ? "Notifications (" + unreadCount + ")" : "Notifications");
     }
     
     /**
@@ -716,31 +797,27 @@ public class ResidentDashboard extends JFrame {
             return;
         }
         
-        try {
-            Report report = new Report(currentUser.getId(), reportType, location, description);
-            Report createdReport = reportDAO.create(report);
-            
+        Report report = new Report(currentUser.getId(), reportType, location, description);
+        submitReportButton.setEnabled(false);
+        tasks.submit(() -> reportDAO.create(report), createdReport -> {
+            submitReportButton.setEnabled(true);
             if (createdReport != null && createdReport.getId() > 0) {
+                // Admin notifications were queued with the report; deliver them in the background
+                NotificationDispatcher.getInstance().wakeUp();
                 JOptionPane.showMessageDialog(this, "Report submitted successfully!", 
                     "Success", JOptionPane.INFORMATION_MESSAGE);
-                try {
-                    notificationService.notifyNewReportSubmission(createdReport);
-                } catch (MatisenseException notifyEx) {
-                    JOptionPane.showMessageDialog(this,
-                        "Report saved but admin notification failed: " + notifyEx.getMessage(),
-                        "Notification Warning", JOptionPane.WARNING_MESSAGE);
-                }
                 clearForm();
-                loadDashboardDataWithLoader("Refreshing your data...");
+                loadDashboardData("Refreshing your data...");
                 tabbedPane.setSelectedIndex(0); // Switch to My Reports tab
             } else {
                 JOptionPane.showMessageDialog(this, "Failed to submit report", 
                     "Error", JOptionPane.ERROR_MESSAGE);
             }
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this, "Error submitting report: " + e.getMessage(), 
+        }, error -> {
+            submitReportButton.setEnabled(true);
+            JOptionPane.showMessageDialog(this, "Error submitting report: " + error.getMessage(), 
                 "Error", JOptionPane.ERROR_MESSAGE);
-        }
+        });
     }
     
     /**
@@ -761,10 +838,9 @@ public class ResidentDashboard extends JFrame {
             return;
         }
         
-        int reportId = (Integer) myReportsTableModel.getValueAt(selectedRow, 0);
+        int reportId = myReportsTableModel.getId(myReportsTable.convertRowIndexToModel(selectedRow));
         
-        try {
-            Report report = reportDAO.findById(reportId);
+        tasks.submit(() -> reportDAO.findById(reportId), report -> {
             if (report != null) {
                 String[][] data = {
                     {"Report ID", String.valueOf(report.getId())},
@@ -779,10 +855,7 @@ public class ResidentDashboard extends JFrame {
                 JOptionPane.showMessageDialog(this, detailsPanel,
                     "Report Details", JOptionPane.INFORMATION_MESSAGE);
             }
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this, "Error loading report details: " + e.getMessage(), 
-                "Error", JOptionPane.ERROR_MESSAGE);
-        }
+        }, "Error loading report details");
     }
     
     /**
@@ -831,14 +904,16 @@ public class ResidentDashboard extends JFrame {
         currentUser.setBirthday(birthday);
         currentUser.setAddress(address);
         
-        try {
-            userDAO.update(currentUser);
+        profileSaveButton.setEnabled(false);
+        tasks.submit(() -> userDAO.update(currentUser), updated -> {
+            profileSaveButton.setEnabled(true);
             welcomeLabel.setText("Welcome, " + currentUser.getFullName());
             JOptionPane.showMessageDialog(this, "Profile updated successfully", "Success", JOptionPane.INFORMATION_MESSAGE);
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this, "Failed to update profile: " + e.getMessage(),
+        }, error -> {
+            profileSaveButton.setEnabled(true);
+            JOptionPane.showMessageDialog(this, "Failed to update profile: " + error.getMessage(),
                 "Error", JOptionPane.ERROR_MESSAGE);
-        }
+        });
     }
     
     /**
@@ -853,8 +928,7 @@ public class ResidentDashboard extends JFrame {
         String title = (String) announcementsTableModel.getValueAt(selectedRow, 0);
         String contentPreview = (String) announcementsTableModel.getValueAt(selectedRow, 1);
         
-        try {
-            List<Announcement> announcements = announcementDAO.findAll();
+        tasks.submit(announcementDAO::findAll, announcements -> {
             for (Announcement announcement : announcements) {
                 if (announcement.getTitle().equals(title) &&
                     announcement.getTruncatedContent(100).equals(contentPreview)) {
@@ -871,10 +945,7 @@ public class ResidentDashboard extends JFrame {
                     break;
                 }
             }
-        } catch (MatisenseException e) {
-            JOptionPane.showMessageDialog(this, "Error loading announcement details: " + e.getMessage(),
-                "Error", JOptionPane.ERROR_MESSAGE);
-        }
+        }, "Error loading announcement details");
     }
     
     /**
@@ -882,52 +953,61 @@ public class ResidentDashboard extends JFrame {
      */
     private void openNotifications() {
         NotificationPanel notificationPanel = new NotificationPanel(currentUser);
+        // Notifications may have been read in the panel
+        notificationPanel.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                tasks.submit(() -> notificationDAO.getUnreadCount(currentUser.getId()),
+                    ResidentDashboard.this::showUnreadCount, "Error loading unread notifications");
+            }
+        });
         notificationPanel.setVisible(true);
     }
 
     private void applyReportFilters() {
-        if (reportsSorter == null) {
-            return;
+        if (reportFilterPipeline != null) {
+            reportFilterPipeline.schedule();
         }
-        String search = searchField.getText() != null ? searchField.getText().trim().toLowerCase() : "";
-        String status = (String) statusFilter.getSelectedItem();
-        String dateOpt = (String) dateFilter.getSelectedItem();
-        LocalDate today = LocalDate.now();
-
-        reportsSorter.setRowFilter(new RowFilter<DefaultTableModel, Integer>() {
-            @Override
-            public boolean include(Entry<? extends DefaultTableModel, ? extends Integer> entry) {
-                String type = entry.getStringValue(1).toLowerCase();
-                String location = entry.getStringValue(2).toLowerCase();
-                String summary = entry.getStringValue(3).toLowerCase();
-                String statusVal = entry.getStringValue(4);
-                String created = entry.getStringValue(5);
-                String typeVal = entry.getStringValue(1);
+    }
 
-                if (!search.isEmpty() && !(type.contains(search) || location.contains(search) || summary.contains(search))) {
-                    return false;
-                }
+    /**
+     * Capture the filter controls as criteria the filter pipeline can evaluate off the EDT
+     * @return Row criteria, or null when no filter is active
+     */
+    private RowFilterPipeline.RowCriteria buildReportCriteria() {
+        reportsSearchIndex.setQuery(searchField.getText());
+        final BitSet textMatches = reportsSearchIndex.snapshotMatchingIds();
+        final String statusOpt = (String) statusFilter.getSelectedItem();
+        final String dateOpt = (String) dateFilter.getSelectedItem();
+        final String selectedType = (String) typeFilter.getSelectedItem();
 
-                if (status != null && !"All".equals(status) && !statusVal.equals(status)) {
-                    return false;
-                }
+        final Report.ReportStatus status = statusOpt == null || "All".equals(statusOpt)
+                ? null : Report.ReportStatus.fromString(statusOpt);
+        final String type = selectedType == null || "All Types".equals(selectedType) ? null : selectedType;
+        final boolean todayOnly = "Today (New)".equals(dateOpt);
+        final boolean pastOnly = "Past".equals(dateOpt);
+        final long today = LocalDate.now().toEpochDay();
 
-                if (dateOpt != null) {
-                    boolean isToday = created != null && created.startsWith(today.toString());
-                    if ("Today (New)".equals(dateOpt) && !isToday) {
-                        return false;
-                    } else if ("Past".equals(dateOpt) && isToday) {
-                        return false;
-                    }
-                }
+        if (textMatches == null && status == null && type == null && !todayOnly && !pastOnly) {
+            return null;
+        }
 
-                String selectedType = (String) typeFilter.getSelectedItem();
-                if (selectedType != null && !"All Types".equals(selectedType) && !selectedType.equals(typeVal)) {
-                    return false;
-                }
-                return true;
+        return (rows, row) -> {
+            if (textMatches != null && !textMatches.get(rows.getId(row))) {
+                return false;
             }
-        });
+            if (status != null && rows.getStatus(row) != status) {
+                return false;
+            }
+            long createdDay = rows.getCreatedEpochDay(row);
+            if (todayOnly && createdDay != today) {
+                return false;
+            }
+            if (pastOnly && createdDay == today) {
+                return false;
+            }
+            return type == null || type.equals(rows.getType(row));
+        };
     }
 
     private String[] buildStatusFilterOptions() {
@@ -0,0 +1,162 @@
+package com.matisense.ui;
+
+import java.util.BitSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import javax.swing.RowFilter;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableRowSorter;
+
+/**
+ * Debounced, background evaluation of a table's row filter
+ * Filter requests are coalesced until input has been quiet for the debounce delay. The
+ * current filter criteria and a copy of the filterable columns are then taken on the EDT.
+ * Rows are tested on a worker thread, and the resulting per-report decisions are swapped
+ * into the sorter in one step. A newer request cancels an older computation, and stale
+ * results are dropped.
+ */
+class RowFilterPipeline implements TableModelListener {
+    private final ReportTableModel model;
+    private final TableRowSorter<ReportTableModel> sorter;
+    private final Supplier<RowCriteria> criteriaSupplier;
+    private final Timer debounceTimer;
+
+    private long generation;
+    private SwingWorker<Decisions, Void> pending;
+
+    /**
+     * Test applied to one row
+     * Runs off the EDT against a snapshot, so it must only read the rows passed in and what
+     * it captured when built. It should not allocate; it runs once per row.
+     */
+    interface RowCriteria {
+        boolean test(ReportTableModel.Rows rows, int row);
+    }
+
+    /**
+     * Per-report results of one filter pass, indexed by report ID
+     */
+    private static class Decisions {
+        private final BitSet evaluated = new BitSet();
+        private final BitSet included = new BitSet();
+    }
+
+    /**
+     * Constructor
+     * @param model Table model being filtered
+     * @param sorter Sorter the filter is installed on
+     * @param delayMillis Quiet period before a filter is computed
+     * @param criteriaSupplier Builds the criteria from the current filter controls, or returns null for no filter;
+     *                         called on the EDT
+     */
+    RowFilterPipeline(ReportTableModel model, TableRowSorter<ReportTableModel> sorter,
+            int delayMillis, Supplier<RowCriteria> criteriaSupplier) {
+        this.model = model;
+        this.sorter = sorter;
+        this.criteriaSupplier = criteriaSupplier;
+        this.debounceTimer = new Timer(delayMillis, e -> start());
+        this.debounceTimer.setRepeats(false);
+        model.addTableModelListener(this);
+    }
+
+    /**
+     * Request a new filter pass once input has been quiet for the debounce delay
+     */
+    void schedule() {
+        debounceTimer.restart();
+    }
+
+    /**
+     * Re-filter after the rows change so changed rows are re-evaluated with the current criteria
+     * Inserted rows are shown or hidden right away by the installed filter, which tests
+     * reports it has no decision for on the EDT.
+     */
+    @Override
+    public void tableChanged(TableModelEvent e) {
+        if (sorter.getRowFilter() != null) {
+            schedule();
+        }
+    }
+
+    /**
+     * Take the criteria and a column snapshot, then evaluate them on a worker thread
+     */
+    private void start() {
+        final long requestGeneration = ++generation;
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+
+        final RowCriteria criteria = criteriaSupplier.get();
+        if (criteria == null) {
+            sorter.setRowFilter(null);
+            return;
+        }
+
+        final ReportTableModel.Rows rows = model.snapshot();
+        pending = new SwingWorker<>() {
+            @Override
+            protected Decisions doInBackground() {
+                Decisions decisions = new Decisions();
+                for (int row = 0; row < rows.size(); row++) {
+                    if ((row & 1023) == 0 && isCancelled()) {
+                        return null;
+                    }
+                    int id = rows.getId(row);
+                    decisions.evaluated.set(id);
+                    if (criteria.test(rows, row)) {
+                        decisions.included.set(id);
+                    }
+                }
+                return decisions;
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() || requestGeneration != generation) {
+                    return;
+                }
+                pending = null;
+                try {
+                    Decisions decisions = get();
+                    if (decisions != null) {
+                        sorter.setRowFilter(new KeyedRowFilter(decisions, criteria));
+                    }
+                } catch (InterruptedException | CancellationException e) {
+                    // Superseded by a newer request
+                } catch (ExecutionException e) {
+                    System.err.println("Error filtering rows: " + e.getCause());
+                }
+            }
+        };
+        pending.execute();
+    }
+
+    /**
+     * Installed filter: two bit lookups per row, falling back to the criteria for rows added since the snapshot
+     */
+    private class KeyedRowFilter extends RowFilter<ReportTableModel, Integer> {
+        private final Decisions decisions;
+        private final RowCriteria criteria;
+
+        private KeyedRowFilter(Decisions decisions, RowCriteria criteria) {
+            this.decisions = decisions;
+            this.criteria = criteria;
+        }
+
+        @Override
+        public boolean include(Entry<? extends ReportTableModel, ? extends Integer> entry) {
+            int row = entry.getIdentifier();
+            int id = model.getId(row);
+            if (decisions.evaluated.get(id)) {
+                return decisions.included.get(id);
+            }
+            return criteria.test(model.rows(), row);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.matisense.ui;
+
+import java.util.List;
+import java.util.function.IntPredicate;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.table.TableModel;
+
+/**
+ * Row sorter for a table whose rows already arrive sorted from the database
+ * Header clicks only record the new sort key and ask the owner to re-query; view and
+ * model rows are always the same. Because it is a real RowSorter, the table header shows
+ * the usual sort arrow. Columns without an indexed sort key are not sortable.
+ * @param <M> Table model type
+ */
+class ServerSortRowSorter<M extends TableModel> extends RowSorter<M> {
+    private final M model;
+    private final IntPredicate sortable;
+    private final Runnable onSortChanged;
+    private List<SortKey> sortKeys;
+
+    /**
+     * Constructor
+     * @param model Table model being shown
+     * @param initialKey Order the rows are in when first loaded
+     * @param sortable Tells whether a model column can be sorted by the database
+     * @param onSortChanged Called on the EDT after the sort key changes; should reload the rows in the new order
+     */
+    ServerSortRowSorter(M model, SortKey initialKey, IntPredicate sortable, Runnable onSortChanged) {
+        this.model = model;
+        this.sortKeys = List.of(initialKey);
+        this.sortable = sortable;
+        this.onSortChanged = onSortChanged;
+    }
+
+    /**
+     * Get the current sort key
+     * @return Primary sort key
+     */
+    SortKey getSortKey() {
+        return sortKeys.get(0);
+    }
+
+    @Override
+    public M getModel() {
+        return model;
+    }
+
+    @Override
+    public void toggleSortOrder(int column) {
+        if (!sortable.test(column)) {
+            return;
+        }
+        SortKey current = getSortKey();
+        SortOrder order = current.getColumn() == column && current.getSortOrder() == SortOrder.ASCENDING
+                ? SortOrder.DESCENDING : SortOrder.ASCENDING;
+        setSortKeys(List.of(new SortKey(column, order)));
+    }
+
+    @Override
+    public int convertRowIndexToModel(int index) {
+        return index;
+    }
+
+    @Override
+    public int convertRowIndexToView(int index) {
+        return index;
+    }
+
+    /**
+     * Replace the sort key; only the first key is used, and an empty list keeps the current order
+     */
+    @Override
+    public void setSortKeys(List<? extends SortKey> keys) {
+        if (keys == null || keys.isEmpty() || keys.get(0).equals(getSortKey())
+                || !sortable.test(keys.get(0).getColumn())) {
+            return;
+        }
+        sortKeys = List.of(keys.get(0));
+        fireSortOrderChanged();
+        onSortChanged.run();
+    }
+
+    @Override
+    public List<? extends SortKey> getSortKeys() {
+        return sortKeys;
+    }
+
+    @Override
+    public int getViewRowCount() {
+        return model.getRowCount();
+    }
+
+    @Override
+    public int getModelRowCount() {
+        return model.getRowCount();
+    }
+
+    // Rows are ordered by the database, so model changes need no work here
+
+    @Override
+    public void modelStructureChanged() {
+    }
+
+    @Override
+    public void allRowsChanged() {
+    }
+
+    @Override
+    public void rowsInserted(int firstRow, int endRow) {
+    }
+
+    @Override
+    public void rowsDeleted(int firstRow, int endRow) {
+    }
+
+    @Override
+    public void rowsUpdated(int firstRow, int endRow) {
+    }
+
+    @Override
+    public void rowsUpdated(int firstRow, int endRow, int column) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.matisense.ui;
+
+import com.matisense.model.User;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Admin view of the worst EDT stalls recorded by EdtWatchdog this session
+ * Each row names the UI handler that blocked the event dispatch thread and the DAO call in
+ * progress; selecting a row shows the full report with the EDT stack.
+ */
+class StallReportDialog extends JDialog {
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final DefaultTableModel stallsTableModel;
+    private final JTable stallsTable;
+    private final JTextArea detailArea;
+    private List<EdtWatchdog.Stall> stalls;
+
+    /**
+     * Constructor
+     * @param owner Admin window the dialog belongs to
+     * @param viewer User opening the dialog; must be an admin
+     */
+    StallReportDialog(Frame owner, User viewer) {
+        super(owner, "EDT Stall Report", true);
+        if (viewer == null || !viewer.isAdmin()) {
+            throw new IllegalArgumentException("Only admins can view the stall report");
+        }
+
+        stallsTableModel = new DefaultTableModel(new String[] {
+                "Started", "Duration (ms)", "Blocked In", "DAO Call"
+        }, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        stallsTable = new JTable(stallsTableModel);
+        stallsTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        stallsTable.getTableHeader().setReorderingAllowed(false);
+        stallsTable.getColumnModel().getColumn(0).setPreferredWidth(140);
+        stallsTable.getColumnModel().getColumn(1).setPreferredWidth(90);
+        stallsTable.getColumnModel().getColumn(2).setPreferredWidth(320);
+        stallsTable.getColumnModel().getColumn(3).setPreferredWidth(320);
+        stallsTable.getSelectionModel().addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                showSelectedStall();
+            }
+        });
+
+        detailArea = new JTextArea(12, 80);
+        detailArea.setEditable(false);
+        detailArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+
+        EdtWatchdog watchdog = EdtWatchdog.getInstance();
+        JLabel infoLabel = new JLabel("Stalls over " + watchdog.getStallThresholdMillis()
+                + " ms are logged to " + watchdog.getLogDirectory().resolve("edt-stalls.0.log"));
+        infoLabel.setBorder(BorderFactory.createEmptyBorder(8, 10, 8, 10));
+
+        JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT,
+                new JScrollPane(stallsTable), new JScrollPane(detailArea));
+        splitPane.setResizeWeight(0.5);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        JButton refreshButton = new JButton("Refresh");
+        JButton closeButton = new JButton("Close");
+        refreshButton.addActionListener(e -> loadStalls());
+        closeButton.addActionListener(e -> dispose());
+        buttonPanel.add(refreshButton);
+        buttonPanel.add(closeButton);
+
+        setLayout(new BorderLayout());
+        add(infoLabel, BorderLayout.NORTH);
+        add(splitPane, BorderLayout.CENTER);
+        add(buttonPanel, BorderLayout.SOUTH);
+        setSize(900, 600);
+        setLocationRelativeTo(owner);
+
+        loadStalls();
+    }
+
+    /**
+     * Reload the worst stalls from the watchdog
+     */
+    private void loadStalls() {
+        stalls = EdtWatchdog.getInstance().getWorstStalls();
+        stallsTableModel.setRowCount(0);
+        for (EdtWatchdog.Stall stall : stalls) {
+            stallsTableModel.addRow(new Object[] {
+                    stall.getStartedAt().format(TIME_FORMAT),
+                    stall.getDurationMillis(),
+                    stall.getBlockedIn(),
+                    stall.getDaoCall() != null ? stall.getDaoCall() : "none"
+            });
+        }
+        detailArea.setText(stalls.isEmpty() ? "No stalls recorded this session." : "");
+        if (!stalls.isEmpty()) {
+            stallsTable.setRowSelectionInterval(0, 0);
+        }
+    }
+
+    private void showSelectedStall() {
+        int selectedRow = stallsTable.getSelectedRow();
+        if (selectedRow >= 0 && selectedRow < stalls.size()) {
+            detailArea.setText(stalls.get(selectedRow).describe());
+            detailArea.setCaretPosition(0);
+        }
+    }
+}
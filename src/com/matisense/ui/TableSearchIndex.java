@@ -0,0 +1,167 @@
+package com.matisense.ui;
+
+import com.matisense.util.InvertedIndex;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+
+/**
+ * Keeps an InvertedIndex in step with a table model and tracks the rows matching the search box
+ * Row inserts, updates and deletes are applied one row at a time. The current match set is
+ * also adjusted row by row, so neither a keystroke nor a refresh rescans every row's text.
+ * The index is only rebuilt when the model's structure or key column changes.
+ */
+class TableSearchIndex implements TableModelListener {
+    private final TableModel model;
+    private final int keyColumn;
+    private final int[] textColumns;
+    private final InvertedIndex<Object> index = new InvertedIndex<>();
+    // Key of each model row, so deleted rows can be unindexed after they left the model
+    private final List<Object> rowKeys = new ArrayList<>();
+
+    private List<String> queryTerms = List.of();
+    private Set<Object> matches;
+
+    /**
+     * Constructor; indexes the rows already in the model and starts listening for changes
+     * Create it after the JTable so it hears model events first. Listeners are notified
+     * newest first, so the index is current before the table reacts.
+     * @param model Table model to index
+     * @param keyColumn Column holding a unique row key (e.g. the report ID)
+     * @param textColumns Columns whose text is searchable
+     */
+    TableSearchIndex(TableModel model, int keyColumn, int... textColumns) {
+        this.model = model;
+        this.keyColumn = keyColumn;
+        this.textColumns = textColumns.clone();
+        rebuild();
+        model.addTableModelListener(this);
+    }
+
+    /**
+     * Set the search text; matching keys are resolved from the posting lists once
+     * @param text Text in the search box
+     */
+    void setQuery(String text) {
+        queryTerms = InvertedIndex.tokenize(text);
+        matches = queryTerms.isEmpty() ? null : index.search(queryTerms);
+    }
+
+    /**
+     * Check if the row with this key matches the current search text
+     * @param key Row key
+     * @return true if there is no search text or the row contains every search word
+     */
+    boolean includes(Object key) {
+        return matches == null || matches.contains(key);
+    }
+
+    /**
+     * Copy the keys matching the current search text as a bit set, for use off the EDT
+     * The key column must hold non-negative Integers (e.g. report IDs).
+     * @return Bit set with the matching keys' bits set, or null if there is no search text
+     */
+    BitSet snapshotMatchingIds() {
+        if (matches == null) {
+            return null;
+        }
+        BitSet ids = new BitSet();
+        for (Object key : matches) {
+            ids.set((Integer) key);
+        }
+        return ids;
+    }
+
+    @Override
+    public void tableChanged(TableModelEvent e) {
+        int first = e.getFirstRow();
+        int last = e.getLastRow();
+        if (first == TableModelEvent.HEADER_ROW || last == Integer.MAX_VALUE) {
+            rebuild();
+            return;
+        }
+        switch (e.getType()) {
+            case TableModelEvent.INSERT:
+                for (int row = first; row <= last; row++) {
+                    rowKeys.add(row, null);
+                    indexRow(row);
+                }
+                break;
+            case TableModelEvent.UPDATE:
+                if (e.getColumn() == keyColumn) {
+                    rebuild();
+                } else if (isIndexedColumn(e.getColumn())) {
+                    for (int row = first; row <= last; row++) {
+                        indexRow(row);
+                    }
+                }
+                break;
+            case TableModelEvent.DELETE:
+                if (last >= rowKeys.size()) {
+                    rebuild();
+                    break;
+                }
+                List<Object> removedKeys = rowKeys.subList(first, last + 1);
+                for (Object key : removedKeys) {
+                    index.remove(key);
+                    if (matches != null) {
+                        matches.remove(key);
+                    }
+                }
+                removedKeys.clear();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private boolean isIndexedColumn(int column) {
+        if (column == TableModelEvent.ALL_COLUMNS) {
+            return true;
+        }
+        for (int textColumn : textColumns) {
+            if (textColumn == column) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void indexRow(int row) {
+        Object key = model.getValueAt(row, keyColumn);
+        rowKeys.set(row, key);
+        StringBuilder text = new StringBuilder();
+        for (int column : textColumns) {
+            Object value = model.getValueAt(row, column);
+            if (value != null) {
+                text.append(value).append(' ');
+            }
+        }
+        index.put(key, text.toString());
+        if (matches != null) {
+            if (index.matches(key, queryTerms)) {
+                matches.add(key);
+            } else {
+                matches.remove(key);
+            }
+        }
+    }
+
+    private void rebuild() {
+        index.clear();
+        if (matches != null) {
+            matches.clear();
+        }
+        int rowCount = model.getRowCount();
+        rowKeys.clear();
+        rowKeys.addAll(Collections.nCopies(rowCount, null));
+        for (int row = 0; row < rowCount; row++) {
+            indexRow(row);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.matisense.ui;
+
+import com.matisense.service.AsyncDataAccess;
+import java.awt.Window;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Background database calls owned by one window
+ * Calls run through AsyncDataAccess, and their outcome is handed back on the EDT. When the
+ * window is closed, every call still running is cancelled, including its JDBC statement,
+ * and nothing is delivered to the closed window. Use it on the EDT.
+ */
+class WindowTasks {
+    private final Window owner;
+    private final Set<CompletableFuture<?>> running = new HashSet<>();
+    private final Set<Group> groups = new HashSet<>();
+
+    /**
+     * Constructor; starts watching the window for close
+     * @param owner Window the calls belong to; error dialogs are shown over it
+     */
+    WindowTasks(Window owner) {
+        this.owner = owner;
+        owner.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                cancelAll();
+            }
+        });
+    }
+
+    /**
+     * Run a DAO call in the background; a failure is shown in an error dialog
+     * @param call Database work
+     * @param onSuccess Receives the result on the EDT
+     * @param errorPrefix Start of the error message, e.g. "Error loading report details"
+     * @param <T> Result type
+     * @return Future for the call; cancelling it cancels the running statement
+     */
+    <T> CompletableFuture<T> submit(AsyncDataAccess.DaoCall<T> call, Consumer<T> onSuccess, String errorPrefix) {
+        return submit(call, onSuccess, error -> showError(errorPrefix, error));
+    }
+
+    /**
+     * Run a DAO call in the background
+     * Neither callback runs if the call was cancelled.
+     * @param call Database work
+     * @param onSuccess Receives the result on the EDT
+     * @param onFailure Receives the failure on the EDT, usually a MatisenseException
+     * @param <T> Result type
+     * @return Future for the call; cancelling it cancels the running statement
+     */
+    <T> CompletableFuture<T> submit(AsyncDataAccess.DaoCall<T> call, Consumer<T> onSuccess,
+            Consumer<Throwable> onFailure) {
+        CompletableFuture<T> future = AsyncDataAccess.getInstance().submit(call);
+        running.add(future);
+        future.whenCompleteAsync((result, error) -> {
+            running.remove(future);
+            if (future.isCancelled()) {
+                return;
+            }
+            if (error != null) {
+                onFailure.accept(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            } else {
+                onSuccess.accept(result);
+            }
+        }, SwingUtilities::invokeLater);
+        return future;
+    }
+
+    /**
+     * Start a group of calls that load the sections of one view in parallel
+     * @param deadlineMillis Time the whole group may take; calls still running then are cancelled
+     * @param errorPrefix Start of the error message shown for the first failure or the deadline
+     * @param onFinished Runs on the EDT once every call has finished or the deadline has passed;
+     *                   not run if the group is cancelled
+     * @return New group
+     */
+    Group openGroup(long deadlineMillis, String errorPrefix, Runnable onFinished) {
+        Group group = new Group(deadlineMillis, errorPrefix, onFinished);
+        groups.add(group);
+        return group;
+    }
+
+    /**
+     * Cancel every call and group still running
+     */
+    void cancelAll() {
+        for (CompletableFuture<?> future : new ArrayList<>(running)) {
+            future.cancel(true);
+        }
+        running.clear();
+        for (Group group : new ArrayList<>(groups)) {
+            group.cancel();
+        }
+    }
+
+    private void showError(String errorPrefix, Throwable error) {
+        JOptionPane.showMessageDialog(owner, errorPrefix + ": " + error.getMessage(),
+                "Error", JOptionPane.ERROR_MESSAGE);
+    }
+
+    /**
+     * Calls loading independent sections of a view, each on its own pooled connection
+     * Every section is rendered by its own callback as soon as its data arrives, so the view
+     * takes as long as its slowest section rather than the sum of them. A callback may submit
+     * further calls that depend on its result. The group shares one deadline and one error
+     * report: only the first failure is shown, and sections that miss the deadline are cancelled.
+     */
+    class Group {
+        private final String errorPrefix;
+        private final long deadlineMillis;
+        private final Runnable onFinished;
+        private final Timer deadline;
+        private final List<CompletableFuture<?>> calls = new ArrayList<>();
+        private int pending;
+        private boolean errorShown;
+        // Read by background calls to stop early
+        private volatile boolean stopped;
+
+        private Group(long deadlineMillis, String errorPrefix, Runnable onFinished) {
+            this.errorPrefix = errorPrefix;
+            this.deadlineMillis = deadlineMillis;
+            this.onFinished = onFinished;
+            this.deadline = new Timer((int) Math.min(Integer.MAX_VALUE, deadlineMillis), e -> expire());
+            this.deadline.setRepeats(false);
+            this.deadline.start();
+        }
+
+        /**
+         * Load one section
+         * @param call Database work for the section
+         * @param onSuccess Renders the result on the EDT; skipped once the group has stopped
+         * @param <T> Result type
+         */
+        <T> void submit(AsyncDataAccess.DaoCall<T> call, Consumer<T> onSuccess) {
+            submit(call, onSuccess, error -> { });
+        }
+
+        /**
+         * Load one section that needs to clean up when it fails
+         * @param call Database work for the section
+         * @param onSuccess Renders the result on the EDT; skipped once the group has stopped
+         * @param onFailure Runs on the EDT after the group reported the error; skipped once the group has stopped
+         * @param <T> Result type
+         * @return Future of the call, already cancelled if the group has stopped; cancelling it
+         *         ends the section without running either callback
+         */
+        <T> CompletableFuture<T> submit(AsyncDataAccess.DaoCall<T> call, Consumer<T> onSuccess,
+                Consumer<Throwable> onFailure) {
+            if (stopped) {
+                CompletableFuture<T> skipped = new CompletableFuture<>();
+                skipped.cancel(false);
+                return skipped;
+            }
+            pending++;
+            CompletableFuture<T> future = WindowTasks.this.submit(call, result -> {
+                if (!stopped) {
+                    onSuccess.accept(result);
+                }
+                sectionDone();
+            }, error -> {
+                if (!stopped) {
+                    if (!errorShown) {
+                        errorShown = true;
+                        showError(errorPrefix, error);
+                    }
+                    onFailure.accept(error);
+                }
+                sectionDone();
+            });
+            // The callbacks above are skipped for a cancelled call, so count it as done here
+            future.whenCompleteAsync((result, error) -> {
+                if (future.isCancelled() && !stopped) {
+                    sectionDone();
+                }
+            }, SwingUtilities::invokeLater);
+            calls.add(future);
+            return future;
+        }
+
+        /**
+         * Check if the group was cancelled or missed its deadline; safe from any thread
+         * @return true once no further results will be rendered
+         */
+        boolean isStopped() {
+            return stopped;
+        }
+
+        /**
+         * Cancel every call still running, without running onFinished
+         */
+        void cancel() {
+            if (!stopped) {
+                stop();
+            }
+        }
+
+        private void expire() {
+            if (stopped) {
+                return;
+            }
+            stop();
+            if (!errorShown) {
+                errorShown = true;
+                JOptionPane.showMessageDialog(owner, errorPrefix + ": not finished within "
+                        + (deadlineMillis / 1000) + " seconds", "Error", JOptionPane.ERROR_MESSAGE);
+            }
+            onFinished.run();
+        }
+
+        private void sectionDone() {
+            pending--;
+            if (pending == 0 && !stopped) {
+                stop();
+                onFinished.run();
+            }
+        }
+
+        private void stop() {
+            stopped = true;
+            deadline.stop();
+            groups.remove(this);
+            for (CompletableFuture<?> call : calls) {
+                // Does nothing to calls that have already completed
+                call.cancel(true);
+            }
+            calls.clear();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.matisense.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded in-process cache for entity lookups by key
+ * Evicts the least recently used entry when full and expires entries after a fixed TTL.
+ * Entries are copied on the way in and out so callers can freely modify what they get back.
+ * @param <K> Key type
+ * @param <V> Entity type
+ */
+public class EntityCache<K, V> {
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final UnaryOperator<V> copier;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Bumped on every invalidation; a load that started before a bump must not be cached
+    private long epoch;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Snapshot of cache statistics
+     */
+    public static class Stats {
+        private final String name;
+        private final int size;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long expirations;
+
+        private Stats(String name, int size, long hits, long misses, long evictions, long expirations) {
+            this.name = name;
+            this.size = size;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.expirations = expirations;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getExpirations() {
+            return expirations;
+        }
+
+        /**
+         * Get hit ratio
+         * @return Hits divided by lookups, or 0 if there were no lookups
+         */
+        public double getHitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s cache: size=%d, hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d, expirations=%d",
+                    name, size, hits, misses, getHitRate() * 100, evictions, expirations);
+        }
+    }
+
+    /**
+     * Constructor
+     * @param name Cache name used in statistics
+     * @param maxSize Maximum number of entries
+     * @param ttlMillis Time an entry stays valid after it is stored
+     * @param copier Makes an independent copy of an entity
+     */
+    public EntityCache(String name, int maxSize, long ttlMillis, UnaryOperator<V> copier) {
+        if (maxSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Cache size and TTL must be positive");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.copier = copier;
+    }
+
+    /**
+     * Look up an entity
+     * @param key Key
+     * @return Copy of the cached entity, or null on a miss
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key);
+            expirations++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return copier.apply(entry.value);
+    }
+
+    /**
+     * Get the current invalidation epoch
+     * Read this before loading from the database and pass it to put().
+     * @return Current epoch
+     */
+    public synchronized long currentEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Store a freshly loaded entity
+     * Skipped if anything was invalidated since the load began, so a slow read can
+     * never overwrite a newer write.
+     * @param key Key
+     * @param value Loaded entity
+     * @param loadEpoch Value of currentEpoch() taken before the load
+     */
+    public synchronized void put(K key, V value, long loadEpoch) {
+        if (value == null || loadEpoch != epoch) {
+            return;
+        }
+        entries.put(key, new Entry<>(copier.apply(value), System.currentTimeMillis() + ttlMillis));
+        Iterator<Map.Entry<K, Entry<V>>> eldestFirst = entries.entrySet().iterator();
+        while (entries.size() > maxSize && eldestFirst.hasNext()) {
+            eldestFirst.next();
+            eldestFirst.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Drop one entity, e.g. after it was updated or deleted
+     * @param key Key
+     */
+    public synchronized void invalidate(K key) {
+        epoch++;
+        entries.remove(key);
+    }
+
+    /**
+     * Drop every entity, e.g. after a change that can affect many rows
+     */
+    public synchronized void invalidateAll() {
+        epoch++;
+        entries.clear();
+    }
+
+    /**
+     * Get a snapshot of the cache statistics
+     * @return Statistics
+     */
+    public synchronized Stats getStats() {
+        return new Stats(name, entries.size(), hits, misses, evictions, expirations);
+    }
+}
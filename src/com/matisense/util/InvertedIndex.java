@@ -0,0 +1,176 @@
+package com.matisense.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-memory inverted index from word to document keys, searchable by word prefix
+ * Documents are added, replaced and removed one at a time, so the index can follow a
+ * changing table without being rebuilt. A search resolves each query word to the posting
+ * lists of the indexed words it prefixes and intersects them, smallest first.
+ * Not thread-safe; confine an instance to one thread (normally the EDT).
+ * @param <K> Document key type
+ */
+public class InvertedIndex<K> {
+    private final TreeMap<String, Set<K>> postings = new TreeMap<>();
+    private final Map<K, Set<String>> documentTerms = new HashMap<>();
+
+    /**
+     * Split text into lowercase words
+     * Anything that is not a letter or digit separates words.
+     * @param text Text to split; null is treated as empty
+     * @return Distinct words in order of first appearance
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        Set<String> seen = new HashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty() && seen.add(word)) {
+                terms.add(word);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Index a document, replacing whatever was indexed under the same key
+     * @param key Document key
+     * @param text Searchable text of the document
+     */
+    public void put(K key, String text) {
+        Set<String> terms = new HashSet<>(tokenize(text));
+        Set<String> previous = documentTerms.put(key, terms);
+        if (previous != null) {
+            for (String term : previous) {
+                if (!terms.contains(term)) {
+                    removePosting(term, key);
+                }
+            }
+        }
+        for (String term : terms) {
+            if (previous == null || !previous.contains(term)) {
+                postings.computeIfAbsent(term, t -> new HashSet<>()).add(key);
+            }
+        }
+    }
+
+    /**
+     * Remove a document from the index
+     * @param key Document key
+     */
+    public void remove(K key) {
+        Set<String> previous = documentTerms.remove(key);
+        if (previous != null) {
+            for (String term : previous) {
+                removePosting(term, key);
+            }
+        }
+    }
+
+    /**
+     * Remove every document
+     */
+    public void clear() {
+        postings.clear();
+        documentTerms.clear();
+    }
+
+    /**
+     * Get the number of indexed documents
+     * @return Document count
+     */
+    public int size() {
+        return documentTerms.size();
+    }
+
+    /**
+     * Find documents containing every query word as a word prefix
+     * @param queryTerms Query words from tokenize()
+     * @return Matching keys; every indexed key if queryTerms is empty
+     */
+    public Set<K> search(List<String> queryTerms) {
+        if (queryTerms.isEmpty()) {
+            return new HashSet<>(documentTerms.keySet());
+        }
+        List<Set<K>> perTerm = new ArrayList<>(queryTerms.size());
+        for (String term : queryTerms) {
+            Set<K> keys = keysWithPrefix(term);
+            if (keys.isEmpty()) {
+                return new HashSet<>();
+            }
+            perTerm.add(keys);
+        }
+        perTerm.sort(Comparator.comparingInt(Set::size));
+        Set<K> result = new HashSet<>(perTerm.get(0));
+        for (int i = 1; i < perTerm.size() && !result.isEmpty(); i++) {
+            result.retainAll(perTerm.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Check one document against a query without touching the posting lists
+     * @param key Document key
+     * @param queryTerms Query words from tokenize()
+     * @return true if the document is indexed and contains every query word as a word prefix
+     */
+    public boolean matches(K key, List<String> queryTerms) {
+        Set<String> terms = documentTerms.get(key);
+        if (terms == null) {
+            return false;
+        }
+        for (String queryTerm : queryTerms) {
+            boolean found = false;
+            for (String term : terms) {
+                if (term.startsWith(queryTerm)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Union of the posting lists of every indexed word starting with a prefix
+     */
+    private Set<K> keysWithPrefix(String prefix) {
+        NavigableMap<String, Set<K>> range = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        if (range.size() == 1) {
+            return range.firstEntry().getValue();
+        }
+        if (range.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<K> keys = new HashSet<>();
+        for (Set<K> posting : range.values()) {
+            keys.addAll(posting);
+        }
+        return keys;
+    }
+
+    private void removePosting(String term, K key) {
+        Set<K> keys = postings.get(term);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+}